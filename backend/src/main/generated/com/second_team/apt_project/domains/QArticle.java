@@ -28,16 +28,28 @@ public class QArticle extends EntityPathBase<Article> {
 
     public final DateTimePath<java.time.LocalDateTime> createDate = createDateTime("createDate", java.time.LocalDateTime.class);
 
+    public final DateTimePath<java.time.LocalDateTime> deleteDate = createDateTime("deleteDate", java.time.LocalDateTime.class);
+
+    public final StringPath excerpt = createString("excerpt");
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final StringPath imageUrl = createString("imageUrl");
+
+    public final NumberPath<Long> loveCount = createNumber("loveCount", Long.class);
+
     public final DateTimePath<java.time.LocalDateTime> modifyDate = createDateTime("modifyDate", java.time.LocalDateTime.class);
 
+    public final StringPath price = createString("price");
+
     public final QProfile profile;
 
     public final StringPath title = createString("title");
 
     public final BooleanPath topActive = createBoolean("topActive");
 
+    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
+
     public QArticle(String variable) {
         this(Article.class, forVariable(variable), INITS);
     }
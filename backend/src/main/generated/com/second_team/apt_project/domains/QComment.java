@@ -28,10 +28,14 @@ public class QComment extends EntityPathBase<Comment> {
 
     public final DateTimePath<java.time.LocalDateTime> createDate = createDateTime("createDate", java.time.LocalDateTime.class);
 
+    public final NumberPath<Integer> depth = createNumber("depth", Integer.class);
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     public final QComment parent;
 
+    public final StringPath path = createString("path");
+
     public final QProfile profile;
 
     public QComment(String variable) {
@@ -19,6 +19,8 @@ public class QFileSystem extends EntityPathBase<FileSystem> {
 
     public static final QFileSystem fileSystem = new QFileSystem("fileSystem");
 
+    public final DateTimePath<java.time.LocalDateTime> createDate = createDateTime("createDate", java.time.LocalDateTime.class);
+
     public final StringPath k = createString("k");
 
     public final StringPath v = createString("v");
@@ -20,6 +20,8 @@ public class QMultiKey extends EntityPathBase<MultiKey> {
 
     public static final QMultiKey multiKey = new QMultiKey("multiKey");
 
+    public final DateTimePath<java.time.LocalDateTime> createDate = createDateTime("createDate", java.time.LocalDateTime.class);
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
     public final StringPath k = createString("k");
@@ -28,8 +28,12 @@ public class QSiteUser extends EntityPathBase<SiteUser> {
 
     public final DateTimePath<java.time.LocalDateTime> createDate = createDateTime("createDate", java.time.LocalDateTime.class);
 
+    public final NumberPath<Integer> dong = createNumber("dong", Integer.class);
+
     public final StringPath email = createString("email");
 
+    public final NumberPath<Integer> ho = createNumber("ho", Integer.class);
+
     public final DateTimePath<java.time.LocalDateTime> modifyDate = createDateTime("modifyDate", java.time.LocalDateTime.class);
 
     public final StringPath password = createString("password");
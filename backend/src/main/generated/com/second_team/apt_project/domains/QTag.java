@@ -25,6 +25,8 @@ public class QTag extends EntityPathBase<Tag> {
 
     public final StringPath name = createString("name");
 
+    public final NumberPath<Long> useCount = createNumber("useCount", Long.class);
+
     public QTag(String variable) {
         super(Tag.class, forVariable(variable));
     }
@@ -0,0 +1,28 @@
+package com.second_team.apt_project.configs;
+
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 스키마 변경 전 데이터 정리
+ * 스크립트 초기화 빈은 EntityManagerFactory 보다 먼저 실행되므로 ddl-auto 가 제약을 만들기 전에 중복 행을 지울 수 있다.
+ */
+@Configuration
+public class DatabaseInitConfig {
+
+    @Bean
+    public DataSourceScriptDatabaseInitializer preDdlInitializer(DataSource dataSource) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of("classpath:db/pre-ddl.sql"));
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        // 처음 설치라 테이블이 없을 때
+        settings.setContinueOnError(true);
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+}
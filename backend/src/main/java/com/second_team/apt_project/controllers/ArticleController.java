@@ -1,7 +1,9 @@
 package com.second_team.apt_project.controllers;
 
+import com.second_team.apt_project.dtos.ArticleFeedResponseDTO;
 import com.second_team.apt_project.dtos.ArticleRequestDTO;
 import com.second_team.apt_project.dtos.ArticleResponseDTO;
+import com.second_team.apt_project.dtos.CacheResponseDTO;
 import com.second_team.apt_project.exceptions.DataNotFoundException;
 import com.second_team.apt_project.records.TokenRecord;
 import com.second_team.apt_project.services.MultiService;
@@ -95,6 +97,25 @@ public class ArticleController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<?> articleFeed(@RequestHeader("Authorization") String accessToken,
+                                         @RequestHeader("PROFILE_ID") Long profileId,
+                                         @RequestHeader("CategoryId") Long categoryId,
+                                         @RequestHeader(value = "Cursor", required = false) String cursor,
+                                         @RequestHeader(value = "AptId", defaultValue = "0") Long aptId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                ArticleFeedResponseDTO articleFeedResponseDTO = this.multiService.articleFeed(username, aptId, cursor, profileId, categoryId);
+                return ResponseEntity.status(HttpStatus.OK).body(articleFeedResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
     @GetMapping("/topActive")
     public ResponseEntity<?> topActive(@RequestHeader("Authorization") String accessToken,
                                        @RequestHeader("PROFILE_ID") Long profileId,
@@ -150,4 +171,36 @@ public class ArticleController {
         }
         return tokenRecord.getResponseEntity();
     }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex(@RequestHeader("Authorization") String accessToken,
+                                                @RequestHeader("PROFILE_ID") Long profileId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                int count = this.multiService.rebuildSearchIndex(username, profileId);
+                return ResponseEntity.status(HttpStatus.OK).body(count);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<?> articleCache(@RequestHeader("Authorization") String accessToken,
+                                          @RequestHeader("PROFILE_ID") Long profileId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                CacheResponseDTO cacheResponseDTO = this.multiService.getArticleCache(username, profileId);
+                return ResponseEntity.status(HttpStatus.OK).body(cacheResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
 }
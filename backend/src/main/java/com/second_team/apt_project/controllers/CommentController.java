@@ -70,6 +70,25 @@ public class CommentController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/replies")
+    public ResponseEntity<?> replyList(@RequestHeader("Authorization") String accessToken,
+                                       @RequestHeader("PROFILE_ID") Long profileId,
+                                       @RequestHeader(value = "Page", defaultValue = "0") int page,
+                                       @RequestHeader(value = "Depth", defaultValue = "1") int depth,
+                                       @RequestHeader("CommentId") Long commentId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                Page<CommentResponseDTO> commentResponseDTOList = this.multiService.replyList(username, profileId, commentId, page, depth);
+                return ResponseEntity.status(HttpStatus.OK).body(commentResponseDTOList);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
     @DeleteMapping
     public ResponseEntity<?> deleteComment(@RequestHeader("Authorization") String accessToken,
                                            @RequestHeader("PROFILE_ID") Long profileId,
@@ -0,0 +1,136 @@
+package com.second_team.apt_project.controllers;
+
+import com.second_team.apt_project.records.ServeFileRecord;
+import com.second_team.apt_project.services.module.FileServeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 업로드 파일 전송 (기존 정적 리소스 핸들러 대신)
+ * 강한 ETag / If-None-Match / 단일 Range 를 처리하고, 본문은 Tomcat sendfile 또는 FileChannel.transferTo 로 보낸다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class FileController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final FileServeService fileServeService;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @GetMapping({"/api/user/**", "/api/article/**", "/api/lesson/**", "/api/center/**", "/api/apt/**", "/api/blob/**"})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ServeFileRecord file = fileServeService.resolve(urlPathHelper.getPathWithinApplication(request));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? IMMUTABLE : "no-cache");
+        if (this.matchNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = file.size() - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range 가 현재 ETag 와 다르면 Range 무시하고 전체 전송
+        if (range != null && (ifRange == null || ifRange.trim().equals(file.etag()))) {
+            long[] bytes = this.parseRange(range, file.size());
+            if (bytes != null && bytes.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bytes != null) {
+                start = bytes[0];
+                end = bytes[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+            }
+        }
+        long length = end - start + 1;
+        response.setContentType(file.mediaType().toString());
+        response.setContentLengthLong(length);
+        if (request.getMethod().equals("HEAD") || length <= 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 후 커넥터가 커널 sendfile 로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remain = length;
+            while (remain > 0) {
+                long sent = channel.transferTo(position, remain, out);
+                if (sent <= 0) break;
+                position += sent;
+                remain -= sent;
+            }
+        }
+    }
+
+    // 비교는 약한 비교 (W/ 무시), * 는 항상 일치
+    private boolean matchNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * bytes=a-b / a- / -n 형식의 단일 범위만 처리
+     * 형식이 틀렸거나 여러 범위면 null (전체 전송), 범위 밖이면 빈 배열 (416)
+     */
+    private long[] parseRange(String range, long size) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) return null;
+        String spec = range.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return null;
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return new long[0];
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+                if (!last.isEmpty() && Long.parseLong(last) < start) return null;
+            }
+            if (start >= size) return new long[0];
+            return new long[]{start, end};
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.second_team.apt_project.controllers;
+
+import com.second_team.apt_project.dtos.EmailRequestDTO;
+import com.second_team.apt_project.dtos.JobResponseDTO;
+import com.second_team.apt_project.dtos.UserSaveRequestDTO;
+import com.second_team.apt_project.exceptions.DataNotFoundException;
+import com.second_team.apt_project.records.TokenRecord;
+import com.second_team.apt_project.services.MultiService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/job")
+public class JobController {
+    private final MultiService multiService;
+
+    @PostMapping("/provision")
+    public ResponseEntity<?> provision(@RequestHeader("Authorization") String accessToken,
+                                       @RequestHeader("PROFILE_ID") Long profileId,
+                                       @RequestBody UserSaveRequestDTO requestDTO) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                JobResponseDTO jobResponseDTO = multiService.submitProvisionJob(username, profileId, requestDTO.getAptId(),
+                        requestDTO.getMin(), requestDTO.getMax(), requestDTO.getH(), requestDTO.getW());
+                return ResponseEntity.status(HttpStatus.OK).body(jobResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @DeleteMapping("/user")
+    public ResponseEntity<?> deleteUser(@RequestHeader("Authorization") String accessToken,
+                                        @RequestHeader("PROFILE_ID") Long profileId,
+                                        @RequestHeader("DeleteUsername") String deleteUsername) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                JobResponseDTO jobResponseDTO = multiService.submitDeleteUserJob(username, profileId, deleteUsername);
+                return ResponseEntity.status(HttpStatus.OK).body(jobResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @PostMapping("/email")
+    public ResponseEntity<?> sendEmail(@RequestHeader("Authorization") String accessToken,
+                                       @RequestHeader("PROFILE_ID") Long profileId,
+                                       @RequestBody EmailRequestDTO requestDTO) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                JobResponseDTO jobResponseDTO = multiService.submitEmailJob(username, profileId, requestDTO);
+                return ResponseEntity.status(HttpStatus.OK).body(jobResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getJob(@RequestHeader("Authorization") String accessToken,
+                                    @RequestHeader("PROFILE_ID") Long profileId,
+                                    @RequestHeader("JobId") Long jobId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                JobResponseDTO jobResponseDTO = multiService.getJob(username, profileId, jobId);
+                return ResponseEntity.status(HttpStatus.OK).body(jobResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @GetMapping("/list")
+    public ResponseEntity<?> getJobList(@RequestHeader("Authorization") String accessToken,
+                                        @RequestHeader("PROFILE_ID") Long profileId,
+                                        @RequestHeader(value = "Page", defaultValue = "0") int page) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                Page<JobResponseDTO> jobResponseDTOList = multiService.getJobList(username, profileId, page);
+                return ResponseEntity.status(HttpStatus.OK).body(jobResponseDTOList);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+}
@@ -1,5 +1,6 @@
 package com.second_team.apt_project.controllers;
 
+import com.second_team.apt_project.dtos.EngagementResponseDTO;
 import com.second_team.apt_project.dtos.LoveRequestDTO;
 import com.second_team.apt_project.dtos.LoveResponseDTO;
 import com.second_team.apt_project.exceptions.DataNotFoundException;
@@ -10,6 +11,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/love")
@@ -50,6 +53,23 @@ public class LoveController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/engagement")
+    public ResponseEntity<?> getEngagementList(@RequestHeader("ArticleIdList") List<Long> articleIdList,
+                                               @RequestHeader("Authorization") String accessToken,
+                                               @RequestHeader("PROFILE_ID") Long profileId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                List<EngagementResponseDTO> responseDTOList = multiService.getEngagementList(username, profileId, articleIdList);
+                return ResponseEntity.status(HttpStatus.OK).body(responseDTOList);
+            }
+        } catch (DataNotFoundException | IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
 //    @PostMapping
 //    public ResponseEntity<?> saveLove(@RequestBody LoveRequestDTO loveRequestDTO,
 //                                      @RequestHeader("Authorization") String accessToken,
@@ -1,5 +1,6 @@
 package com.second_team.apt_project.controllers;
 
+import com.second_team.apt_project.dtos.TagCountResponseDTO;
 import com.second_team.apt_project.dtos.TagRequestDTO;
 import com.second_team.apt_project.dtos.TagResponseDTO;
 import com.second_team.apt_project.exceptions.DataNotFoundException;
@@ -10,6 +11,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/tag")
@@ -50,4 +55,39 @@ public class TagController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestTag(@RequestHeader("Authorization") String accessToken,
+                                        @RequestHeader("PROFILE_ID") Long profileId,
+                                        @RequestHeader(value = "Keyword", defaultValue = "") String encodedKeyword,
+                                        @RequestHeader(value = "Size", defaultValue = "10") int size) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                String keyword = URLDecoder.decode(encodedKeyword, StandardCharsets.UTF_8);
+                List<TagCountResponseDTO> responseDTOList = multiService.suggestTag(username, profileId, keyword, size);
+                return ResponseEntity.status(HttpStatus.OK).body(responseDTOList);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
+    @GetMapping("/cloud")
+    public ResponseEntity<?> tagCloud(@RequestHeader("Authorization") String accessToken,
+                                      @RequestHeader("PROFILE_ID") Long profileId,
+                                      @RequestHeader(value = "Size", defaultValue = "30") int size) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                List<TagCountResponseDTO> responseDTOList = multiService.tagCloud(username, profileId, size);
+                return ResponseEntity.status(HttpStatus.OK).body(responseDTOList);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
 }
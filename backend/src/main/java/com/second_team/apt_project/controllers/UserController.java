@@ -1,5 +1,7 @@
 package com.second_team.apt_project.controllers;
 
+import com.second_team.apt_project.dtos.ProvisionResponseDTO;
+import com.second_team.apt_project.dtos.UserFeedResponseDTO;
 import com.second_team.apt_project.dtos.UserResponseDTO;
 import com.second_team.apt_project.dtos.UserSaveRequestDTO;
 import com.second_team.apt_project.exceptions.DataNotFoundException;
@@ -55,6 +57,23 @@ public class UserController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/group/progress")
+    public ResponseEntity<?> getGroupProgress(@RequestHeader("Authorization") String accessToken,
+                                              @RequestHeader("PROFILE_ID") Long profileId,
+                                              @RequestHeader("AptId") Long aptId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                ProvisionResponseDTO provisionResponseDTO = multiService.getProvision(username, profileId, aptId);
+                return ResponseEntity.status(HttpStatus.OK).body(provisionResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
     @PutMapping
     public ResponseEntity<?> updateUser(@RequestHeader("Authorization") String accessToken,
                                         @RequestBody UserSaveRequestDTO requestDTO) {
@@ -121,6 +140,24 @@ public class UserController {
         return tokenRecord.getResponseEntity();
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<?> userFeed(@RequestHeader("Authorization") String accessToken,
+                                      @RequestHeader(value = "Cursor", required = false) String cursor,
+                                      @RequestHeader("AptId") Long aptId,
+                                      @RequestHeader("PROFILE_ID") Long profileId) {
+        TokenRecord tokenRecord = this.multiService.checkToken(accessToken, profileId);
+        try {
+            if (tokenRecord.isOK()) {
+                String username = tokenRecord.username();
+                UserFeedResponseDTO userFeedResponseDTO = multiService.getUserFeed(cursor, aptId, username, profileId);
+                return ResponseEntity.status(HttpStatus.OK).body(userFeedResponseDTO);
+            }
+        } catch (IllegalArgumentException | DataNotFoundException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
+        }
+        return tokenRecord.getResponseEntity();
+    }
+
     @PutMapping("/password")
     public ResponseEntity<?> updatePassword(@RequestHeader("Authorization") String accessToken,
                                             @RequestBody UserSaveRequestDTO userSaveRequestDTO) {
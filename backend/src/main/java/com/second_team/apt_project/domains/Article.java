@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -30,12 +31,36 @@ public class Article {
     @Column(columnDefinition = "LONGTEXT")
     private String content;
 
+    // 목록용 미리보기 (작성/수정 시점에 content 에서 추출)
+    @Column(columnDefinition = "TEXT")
+    private String excerpt;
+
+    @Column(columnDefinition = "TEXT")
+    private String imageUrl;
+
+    // 중고장터 가격 ([PRICE]...[/PRICE] 표시는 content 끝에 붙으므로 미리보기로는 알 수 없음)
+    private String price;
+
     private LocalDateTime createDate;
 
     private LocalDateTime modifyDate;
 
+    // 삭제 요청 시각 - 값이 있으면 숨김 처리되고 이후 일괄 삭제됨
+    private LocalDateTime deleteDate;
+
     private Boolean topActive;
 
+    // 조회 시마다 갱신하지 않고 ArticleViewService 에서 모아서 반영
+    // 엔티티 저장 시 예전 값으로 덮어쓰지 않도록 일괄 UPDATE 로만 변경
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
+    // love 행 수의 비정규화 값 - LoveCountService 에서 모아서 반영
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long loveCount;
+
     @Builder
     public Article(Category category, Profile profile, String title, String content, Boolean topActive) {
         this.category = category;
@@ -43,6 +68,8 @@ public class Article {
         this.title = title;
         this.content = content;
         this.topActive = topActive;
+        this.viewCount = 0L;
+        this.loveCount = 0L;
         this.createDate = LocalDateTime.now();
         this.modifyDate = LocalDateTime.now();
     }
@@ -9,6 +9,7 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_article_path", columnList = "article_id, path"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +33,12 @@ public class Comment { // 댓글
 
     private LocalDateTime createDate;
 
+    // 조상부터 자신까지의 ID 를 고정 길이로 이어붙인 경로 (예: 0000001a/0000001f/)
+    @Column(length = 720)
+    private String path;
+
+    private Integer depth;
+
     @Builder
     public Comment(Profile profile, Article article, Comment parent, String content) {
         this.profile = profile;
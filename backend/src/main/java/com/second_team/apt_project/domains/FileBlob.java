@@ -0,0 +1,45 @@
+package com.second_team.apt_project.domains;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_file_blob_release", columnList = "ref_count, release_date"))
+public class FileBlob { // 내용 주소 파일 (같은 내용은 한 번만 저장)
+
+    @Id
+    @Column(length = 64)
+    private String hash; // SHA-256 (16진수)
+
+    @Column(length = 200)
+    private String url;
+
+    private Long size;
+
+    @Column(length = 50)
+    private String contentType;
+
+    private Long refCount; // 이 파일을 가리키는 FileSystem 행 수
+
+    private LocalDateTime createDate;
+
+    private LocalDateTime releaseDate; // 마지막으로 참조가 줄어든 시각
+
+    @Builder
+    public FileBlob(String hash, String url, Long size, String contentType) {
+        this.hash = hash;
+        this.url = url;
+        this.size = size;
+        this.contentType = contentType;
+        this.refCount = 1L;
+        this.createDate = LocalDateTime.now();
+    }
+}
@@ -6,10 +6,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_file_system_v", columnList = "v"))
 public class FileSystem {
     @Id
     @Column(length = 50)
@@ -18,10 +21,13 @@ public class FileSystem {
     @Column(length = 200)
     private String v;
 
+    private LocalDateTime createDate; // 임시 파일 정리 기준
+
     @Builder
 
     public FileSystem(String k, String v) {
         this.k = k;
         this.v = v;
+        this.createDate = LocalDateTime.now();
     }
 }
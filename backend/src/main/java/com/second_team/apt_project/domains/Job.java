@@ -0,0 +1,65 @@
+package com.second_team.apt_project.domains;
+
+import com.second_team.apt_project.enums.JobStatus;
+import com.second_team.apt_project.enums.JobType;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_job_status", columnList = "status, id"))
+public class Job { // 백그라운드 작업
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private JobType type;
+
+    private JobStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload; // 작업 파라미터 (JSON)
+
+    @Column(length = 24)
+    private String username; // 요청한 유저
+
+    @Column(length = 36)
+    private String owner; // 실행중인 서버
+
+    private Integer total;
+
+    private Integer done;
+
+    private Integer attempt;
+
+    @Column(columnDefinition = "TEXT")
+    private String message; // 결과 또는 실패 사유
+
+    private LocalDateTime createDate;
+
+    private LocalDateTime startDate;
+
+    private LocalDateTime heartbeatDate; // 실행중인 서버가 마지막으로 응답한 시각
+
+    private LocalDateTime finishDate;
+
+    @Builder
+    public Job(JobType type, String payload, String username) {
+        this.type = type;
+        this.status = JobStatus.WAITING;
+        this.payload = payload;
+        this.username = username;
+        this.total = 0;
+        this.done = 0;
+        this.attempt = 0;
+        this.createDate = LocalDateTime.now();
+    }
+}
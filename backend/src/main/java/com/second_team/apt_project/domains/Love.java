@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_love_article_profile", columnNames = {"article_id", "profile_id"}))
 public class Love {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,30 @@
+package com.second_team.apt_project.domains;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class Migration { // 시작 시 한 번만 돌리는 데이터 보정 작업의 완료 기록
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    private LocalDateTime doneDate;
+
+    @Builder
+    public Migration(String name) {
+        this.name = name;
+        this.doneDate = LocalDateTime.now();
+    }
+}
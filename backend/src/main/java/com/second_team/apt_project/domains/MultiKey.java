@@ -7,12 +7,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_multi_key_k", columnList = "k"))
 public class MultiKey {
 
     @Id
@@ -24,9 +26,12 @@ public class MultiKey {
 
     private List<String> vs;
 
+    private LocalDateTime createDate; // 임시 파일 정리 기준
+
     @Builder
     public MultiKey(String k, List<String> vs) {
         this.k = k;
         this.vs = vs;
+        this.createDate = LocalDateTime.now();
     }
 }
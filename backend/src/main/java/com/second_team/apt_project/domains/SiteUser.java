@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_site_user_household", columnList = "apt_id, role, dong, ho, username"))
 public class SiteUser { //사이트 유저
 
     @Id
@@ -33,12 +35,21 @@ public class SiteUser { //사이트 유저
     @Column(length = 25)
     private Integer aptNum; // 아파트 동
 
+    // 세대 계정(아파트ID_동_호)의 동, 호 - 세대 계정이 아니면 0
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer dong;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer ho;
+
     private LocalDateTime createDate;
 
     private LocalDateTime modifyDate;
 
     @Builder
-    public SiteUser(String username, String password, String email, Apt apt, UserRole role, Integer aptNum) {
+    public SiteUser(String username, String password, String email, Apt apt, UserRole role, Integer aptNum, Integer dong, Integer ho) {
         this.username = username;
         this.createDate = LocalDateTime.now();
         this.password = password;
@@ -46,5 +57,7 @@ public class SiteUser { //사이트 유저
         this.apt = apt;
         this.role = role;
         this.aptNum = aptNum;
+        this.dong = dong != null ? dong : 0;
+        this.ho = ho != null ? ho : 0;
     }
 }
\ No newline at end of file
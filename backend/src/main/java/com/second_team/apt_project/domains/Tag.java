@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,9 +24,15 @@ public class Tag {
 
     private LocalDateTime createDate;
 
+    // 이 태그가 달린 게시물 수 - 0 이 된 태그는 TagService 에서 주기적으로 정리
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long useCount;
+
     @Builder
     public Tag(String name) {
         this.createDate = LocalDateTime.now();
         this.name = name;
+        this.useCount = 0L;
     }
 }
@@ -0,0 +1,22 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArticleFeedResponseDTO {
+    private List<ArticleResponseDTO> articleResponseDTOList;
+    private String nextCursor; // 마지막 페이지면 null
+
+    @Builder
+    public ArticleFeedResponseDTO(List<ArticleResponseDTO> articleResponseDTOList, String nextCursor) {
+        this.articleResponseDTOList = articleResponseDTOList;
+        this.nextCursor = nextCursor;
+    }
+}
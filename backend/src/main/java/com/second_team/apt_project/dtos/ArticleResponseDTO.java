@@ -16,23 +16,31 @@ public class ArticleResponseDTO {
     private Long articleId;
     private String title;
     private String content;
+    private String excerpt;
+    private String imageUrl;
+    private String price;
     private Long createDate;
     private Long modifyDate;
     private String categoryName;
     private ProfileResponseDTO profileResponseDTO;
     private List<String> urlList;
     private Boolean topActive;
+    private Long viewCount;
     private List<TagResponseDTO> tagResponseDTOList;
     private Page<CommentResponseDTO> commentResponseDTOList;
 
     @Builder
-    public ArticleResponseDTO(Long articleId, String title, String content, Long createDate, Long modifyDate, String categoryName, ProfileResponseDTO profileResponseDTO, List<String> urlList, List<TagResponseDTO> tagResponseDTOList, Boolean topActive,Page<CommentResponseDTO> commentResponseDTOList) {
+    public ArticleResponseDTO(Long articleId, String title, String content, String excerpt, String imageUrl, String price, Long createDate, Long modifyDate, String categoryName, ProfileResponseDTO profileResponseDTO, List<String> urlList, List<TagResponseDTO> tagResponseDTOList, Boolean topActive, Long viewCount, Page<CommentResponseDTO> commentResponseDTOList) {
         this.articleId = articleId;
         this.title = title;
         this.content = content;
+        this.excerpt = excerpt;
+        this.imageUrl = imageUrl;
+        this.price = price;
         this.createDate = createDate;
         this.modifyDate = modifyDate;
         this.topActive = topActive;
+        this.viewCount = viewCount;
         this.categoryName = categoryName;
         this.profileResponseDTO = profileResponseDTO;
         this.urlList = urlList;
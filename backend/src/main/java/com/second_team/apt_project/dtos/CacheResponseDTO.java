@@ -0,0 +1,26 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheResponseDTO {
+    private boolean enabled;
+    private long hit;
+    private long miss;
+    private double hitRatio;
+    private int size;
+
+    @Builder
+    public CacheResponseDTO(boolean enabled, long hit, long miss, double hitRatio, int size) {
+        this.enabled = enabled;
+        this.hit = hit;
+        this.miss = miss;
+        this.hitRatio = hitRatio;
+        this.size = size;
+    }
+}
@@ -17,16 +17,20 @@ public class CommentResponseDTO {
     private Long parentId;
     private String content;
     private Long createDate;
+    private Integer depth;
+    private Long replyCount;
     private List<CommentResponseDTO> commentResponseDTOList;
 
     @Builder
-    public CommentResponseDTO(Long articleId, ProfileResponseDTO profileResponseDTO, Long parentId, String content, Long createDate, Long id, List<CommentResponseDTO> commentResponseDTOList) {
+    public CommentResponseDTO(Long articleId, ProfileResponseDTO profileResponseDTO, Long parentId, String content, Long createDate, Integer depth, Long replyCount, Long id, List<CommentResponseDTO> commentResponseDTOList) {
         this.id = id;
         this.articleId = articleId;
         this.profileResponseDTO = profileResponseDTO;
         this.parentId = parentId;
         this.content = content;
         this.createDate = createDate;
+        this.depth = depth;
+        this.replyCount = replyCount;
         this.commentResponseDTOList = commentResponseDTOList;
     }
 }
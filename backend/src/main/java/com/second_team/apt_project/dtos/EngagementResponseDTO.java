@@ -0,0 +1,28 @@
+package com.second_team.apt_project.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EngagementResponseDTO {
+    private Long articleId;
+    private long loveCount;
+
+    @JsonProperty("isLoved")
+    private boolean isLoved;
+
+    private long commentCount;
+
+    @Builder
+    public EngagementResponseDTO(Long articleId, long loveCount, boolean isLoved, long commentCount) {
+        this.articleId = articleId;
+        this.loveCount = loveCount;
+        this.isLoved = isLoved;
+        this.commentCount = commentCount;
+    }
+}
@@ -2,16 +2,20 @@ package com.second_team.apt_project.dtos;
 
 import lombok.*;
 
+import java.util.Map;
+
 @Getter
 @Setter
 @NoArgsConstructor
 public class ImageListResponseDTO {
     private String key;
     private String value;
+    private Map<Integer, String> variantUrlMap; // 너비 -> 축소본 주소 (만들어진 것만)
 
     @Builder
-    public ImageListResponseDTO(String key, String value) {
+    public ImageListResponseDTO(String key, String value, Map<Integer, String> variantUrlMap) {
         this.key = key;
         this.value = value;
+        this.variantUrlMap = variantUrlMap;
     }
 }
@@ -0,0 +1,36 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobResponseDTO {
+    private Long id;
+    private String type;
+    private String status;
+    private String username;
+    private Integer total;
+    private Integer done;
+    private String message;
+    private Long createDate;
+    private Long startDate;
+    private Long finishDate;
+
+    @Builder
+    public JobResponseDTO(Long id, String type, String status, String username, Integer total, Integer done, String message, Long createDate, Long startDate, Long finishDate) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.username = username;
+        this.total = total;
+        this.done = done;
+        this.message = message;
+        this.createDate = createDate;
+        this.startDate = startDate;
+        this.finishDate = finishDate;
+    }
+}
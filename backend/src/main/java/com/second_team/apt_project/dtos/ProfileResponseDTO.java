@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.Map;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,12 +15,14 @@ public class ProfileResponseDTO {
     private String name;
     private String username;
     private String url;
+    private Map<Integer, String> variantUrlMap; // 너비 -> 축소본 주소 (만들어진 것만)
 
     @Builder
-    public ProfileResponseDTO(Long id, String name, String username, String url) {
+    public ProfileResponseDTO(Long id, String name, String username, String url, Map<Integer, String> variantUrlMap) {
         this.id = id;
         this.name = name;
         this.username = username;
         this.url = url;
+        this.variantUrlMap = variantUrlMap;
     }
 }
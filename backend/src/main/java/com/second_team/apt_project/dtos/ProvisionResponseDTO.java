@@ -0,0 +1,34 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProvisionResponseDTO {
+    private Long aptId;
+    private int total;
+    private int done;
+    private int created;
+    private int skipped;
+    private long elapsedMillis;
+    private double perSecond;
+    private boolean finished;
+    private String error;
+
+    @Builder
+    public ProvisionResponseDTO(Long aptId, int total, int done, int created, int skipped, long elapsedMillis, double perSecond, boolean finished, String error) {
+        this.aptId = aptId;
+        this.total = total;
+        this.done = done;
+        this.created = created;
+        this.skipped = skipped;
+        this.elapsedMillis = elapsedMillis;
+        this.perSecond = perSecond;
+        this.finished = finished;
+        this.error = error;
+    }
+}
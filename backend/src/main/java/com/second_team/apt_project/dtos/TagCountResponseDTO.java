@@ -0,0 +1,19 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TagCountResponseDTO {
+    private Long id;
+    private String name;
+    private Long count;
+
+    @Builder
+    public TagCountResponseDTO(Long id, String name, Long count) {
+        this.id = id;
+        this.name = name;
+        this.count = count;
+    }
+}
@@ -0,0 +1,22 @@
+package com.second_team.apt_project.dtos;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserFeedResponseDTO {
+    private List<UserResponseDTO> userResponseDTOList;
+    private String nextCursor; // 마지막 페이지면 null
+
+    @Builder
+    public UserFeedResponseDTO(List<UserResponseDTO> userResponseDTOList, String nextCursor) {
+        this.userResponseDTOList = userResponseDTOList;
+        this.nextCursor = nextCursor;
+    }
+}
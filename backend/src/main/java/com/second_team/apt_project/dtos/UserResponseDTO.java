@@ -8,6 +8,8 @@ import lombok.*;
 public class UserResponseDTO {
     private String username;
     private Integer aptNum;
+    private Integer dong;
+    private Integer ho;
     private String email;
     private AptResponseDTO aptResponseDTO;
     private Long createDate;
@@ -16,9 +18,11 @@ public class UserResponseDTO {
 
 
     @Builder
-    public UserResponseDTO(String username, Integer aptNum, String email, AptResponseDTO aptResponseDTO, Long createDate, Long modifyDate, String role) {
+    public UserResponseDTO(String username, Integer aptNum, Integer dong, Integer ho, String email, AptResponseDTO aptResponseDTO, Long createDate, Long modifyDate, String role) {
         this.username = username;
         this.aptNum = aptNum;
+        this.dong = dong;
+        this.ho = ho;
         this.email = email;
         this.aptResponseDTO = aptResponseDTO;
         this.createDate = createDate;
@@ -0,0 +1,17 @@
+package com.second_team.apt_project.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum JobStatus {
+
+    WAITING("대기중"), RUNNING("실행중"), DONE("완료"), FAILED("실패")
+    //
+    ;
+    private final String status;
+
+
+    JobStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,20 @@
+package com.second_team.apt_project.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum JobType {
+
+    PROVISION("세대 계정 생성", true), DELETE_USER("유저 삭제", true), SEND_EMAIL("메일 발송", false)
+    //
+    ;
+    private final String name;
+    // 서버가 중간에 내려가도 처음부터 다시 실행해도 되는 작업인지
+    private final boolean retryable;
+
+
+    JobType(String name, boolean retryable) {
+        this.name = name;
+        this.retryable = retryable;
+    }
+}
@@ -0,0 +1,10 @@
+package com.second_team.apt_project.records;
+
+import com.second_team.apt_project.enums.UserRole;
+
+// 요청한 사용자와 PROFILE_ID 프로필 - profileOwner 는 프로필 주인의 username (없는 프로필이면 null)
+public record ActorRecord(String username, UserRole role, Long aptId, Long profileId, String profileOwner) {
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+}
@@ -0,0 +1,29 @@
+package com.second_team.apt_project.records;
+
+import lombok.Builder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시물 피드 커서 (createDate, id) - 클라이언트에는 인코딩된 문자열로만 전달
+@Builder
+public record ArticleCursorRecord(LocalDateTime createDate, Long id) {
+
+    public String encode() {
+        String value = createDate.toString() + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursorRecord decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (values.length != 2) throw new IllegalArgumentException("잘못된 커서");
+            return ArticleCursorRecord.builder().createDate(LocalDateTime.parse(values[0])).id(Long.parseLong(values[1])).build();
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("잘못된 커서");
+        }
+    }
+}
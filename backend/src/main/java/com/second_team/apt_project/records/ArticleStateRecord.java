@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// 연쇄 삭제용 게시물 ID 와 삭제 표시 여부 (삭제 표시된 게시물은 이미 인덱스에서 빠져 있음)
+public record ArticleStateRecord(Long id, boolean deleted) {
+}
@@ -0,0 +1,9 @@
+package com.second_team.apt_project.records;
+
+import java.time.LocalDateTime;
+
+// 게시물 목록 조회용 - content 없이 필요한 컬럼만 조회
+public record ArticleSummaryRecord(Long id, String title, String excerpt, String imageUrl, String price,
+                                   LocalDateTime createDate, LocalDateTime modifyDate, Boolean topActive, Long viewCount,
+                                   String categoryName, Long profileId, String profileName, String username) {
+}
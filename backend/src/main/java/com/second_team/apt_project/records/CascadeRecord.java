@@ -0,0 +1,31 @@
+package com.second_team.apt_project.records;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 연쇄 삭제 결과 - 테이블별 삭제 행 수 (삭제한 순서대로)
+public record CascadeRecord(Map<String, Long> countMap) {
+    public CascadeRecord() {
+        this(new LinkedHashMap<>());
+    }
+
+    public CascadeRecord add(String table, long count) {
+        countMap.merge(table, count, Long::sum);
+        return this;
+    }
+
+    public CascadeRecord addAll(CascadeRecord other) {
+        other.countMap().forEach(this::add);
+        return this;
+    }
+
+    public long total() {
+        return countMap.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return countMap.entrySet().stream().map(entry -> entry.getKey() + " " + entry.getValue()).collect(Collectors.joining(", "));
+    }
+}
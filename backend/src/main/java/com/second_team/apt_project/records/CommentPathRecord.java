@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// 하위 댓글까지 지우기 위한 댓글 경로
+public record CommentPathRecord(Long id, Long articleId, String path) {
+}
@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// DELETE_USER 작업 파라미터
+public record DeleteUserJobRecord(String username) {
+}
@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// PROVISION 작업 파라미터 - saveUserGroup 과 같은 값
+public record ProvisionJobRecord(Long aptId, Integer min, Integer max, Integer h, Integer w) {
+}
@@ -0,0 +1,8 @@
+package com.second_team.apt_project.records;
+
+// 세대 계정 일괄 생성 진행 상황 (error 는 실패로 끝났을 때만)
+public record ProvisionRecord(Long aptId, int total, int done, int created, long elapsedMillis, boolean finished, String error) {
+    public double perSecond() {
+        return elapsedMillis == 0 ? 0 : done * 1000.0 / elapsedMillis;
+    }
+}
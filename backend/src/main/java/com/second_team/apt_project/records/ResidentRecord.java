@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// 일괄 생성할 세대 계정 - username 은 비밀번호로도 사용
+public record ResidentRecord(String username, Integer aptNum, Integer dong, Integer ho) {
+}
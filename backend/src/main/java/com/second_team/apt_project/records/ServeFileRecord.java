@@ -0,0 +1,8 @@
+package com.second_team.apt_project.records;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+public record ServeFileRecord(Path path, long size, String etag, boolean immutable, MediaType mediaType) {
+}
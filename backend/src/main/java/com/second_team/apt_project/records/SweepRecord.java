@@ -0,0 +1,8 @@
+package com.second_team.apt_project.records;
+
+// 임시 업로드 정리 결과 - 지운 행 수, 파일 수, 파일 크기 합
+public record SweepRecord(long rows, long files, long bytes) {
+    public SweepRecord add(SweepRecord other) {
+        return new SweepRecord(rows + other.rows, files + other.files, bytes + other.bytes);
+    }
+}
@@ -0,0 +1,5 @@
+package com.second_team.apt_project.records;
+
+// 아파트별 태그 사용 수 - 삭제되지 않은 게시물 기준
+public record TagCountRecord(Long aptId, Long tagId, String name, Long count) {
+}
@@ -0,0 +1,29 @@
+package com.second_team.apt_project.records;
+
+import com.second_team.apt_project.enums.UserRole;
+import lombok.Builder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 유저 목록 커서 (role, dong, ho, username) - 클라이언트에는 인코딩된 문자열로만 전달
+@Builder
+public record UserCursorRecord(UserRole role, Integer dong, Integer ho, String username) {
+
+    public String encode() {
+        String value = role.name() + "," + dong + "," + ho + "," + username;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursorRecord decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 4);
+            if (values.length != 4) throw new IllegalArgumentException("잘못된 커서");
+            return UserCursorRecord.builder().role(UserRole.valueOf(values[0])).dong(Integer.parseInt(values[1]))
+                    .ho(Integer.parseInt(values[2])).username(values[3]).build();
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("잘못된 커서");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.second_team.apt_project.repositories;
+
+import com.second_team.apt_project.domains.FileBlob;
+import com.second_team.apt_project.repositories.customs.FileBlobRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String>, FileBlobRepositoryCustom {
+}
@@ -0,0 +1,11 @@
+package com.second_team.apt_project.repositories;
+
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.repositories.customs.JobRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
+
+}
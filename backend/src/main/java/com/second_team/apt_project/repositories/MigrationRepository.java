@@ -0,0 +1,9 @@
+package com.second_team.apt_project.repositories;
+
+import com.second_team.apt_project.domains.Migration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MigrationRepository extends JpaRepository<Migration, String> {
+}
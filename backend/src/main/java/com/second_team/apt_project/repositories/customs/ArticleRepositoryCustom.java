@@ -2,19 +2,49 @@ package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.Article;
 import com.second_team.apt_project.enums.Sorts;
+import com.second_team.apt_project.records.ArticleStateRecord;
+import com.second_team.apt_project.records.ArticleSummaryRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface ArticleRepositoryCustom {
-    Page<Article> findByArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive);
+    Page<ArticleSummaryRecord> findByArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive);
 
-    List<Article> findByTopActive(Long aptId, Long categoryId, Boolean topActive);
+    List<ArticleSummaryRecord> findByArticleFeed(Long aptId, Long categoryId, Boolean topActive, LocalDateTime createDate, Long articleId, int size);
+
+    List<ArticleSummaryRecord> findByTopActive(Long aptId, Long categoryId, Boolean topActive);
 
     List<Article> findByArticle(Long profileId);
 
-    Page<Article> searchByKeyword(Long id,Pageable pageable, String keyword, Sorts sorts);
+    Page<ArticleSummaryRecord> searchByKeyword(Long id,Pageable pageable, String keyword, Sorts sorts);
+
+    Page<ArticleSummaryRecord> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId);
+
+    List<ArticleSummaryRecord> findByIdList(List<Long> articleIdList);
+
+    List<Article> findByIdAfter(Long lastId, int size);
+
+    List<Article> findBySummaryIsNull(Long lastId, int size);
+
+    long updateSummary(Long id, String loadedExcerpt, String excerpt, String imageUrl, String price);
+
+    long addViewCount(List<Long> articleIdList, long count);
+
+    long addLoveCount(List<Long> articleIdList, long count);
+
+    long recountLove(List<Long> excludeIdList);
+
+    Map<Long, Long> findLoveCountByIdList(List<Long> articleIdList, Long aptId);
+
+    long softDelete(Long articleId, LocalDateTime deleteDate);
+
+    List<Long> findDeletedIdList(int size);
+
+    long deleteByIdList(List<Long> articleIdList);
 
-    Page<Article> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId);
+    List<ArticleStateRecord> findStateByProfileIdList(List<Long> profileIdList, Long lastId, int size);
 }
@@ -2,8 +2,10 @@ package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.ArticleTag;
 import com.second_team.apt_project.domains.Tag;
+import com.second_team.apt_project.records.TagCountRecord;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ArticleTagRepositoryCustom {
@@ -12,4 +14,18 @@ public interface ArticleTagRepositoryCustom {
     List<ArticleTag> findByTagList(Long id);
 
     ArticleTag findByTagId(Long id);
+
+    List<ArticleTag> findByArticleIdList(List<Long> articleIdList);
+
+    Map<Long, Long> countTagByArticleIdList(List<Long> articleIdList);
+
+    List<ArticleTag> findByIdList(List<Long> articleTagIdList);
+
+    long deleteByIdList(List<Long> articleTagIdList);
+
+    long deleteByArticleIdList(List<Long> articleIdList);
+
+    List<TagCountRecord> countTagByApt();
+
+    List<TagCountRecord> countTagByApt(List<Long> tagIdList);
 }
@@ -7,4 +7,6 @@ import java.util.List;
 
 public interface ChatMessageRepositoryCustom {
     List<ChatMessage> findByChatRoomList(ChatRoom chatRoom);
+
+    long deleteByProfileIdList(List<Long> profileIdList);
 }
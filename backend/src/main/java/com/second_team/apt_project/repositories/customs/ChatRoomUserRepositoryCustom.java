@@ -13,4 +13,6 @@ public interface ChatRoomUserRepositoryCustom {
     Optional<ChatRoomUser> findByChatRoom(ChatRoom chatRoom, Profile targetProfile);
 
     List<ChatRoomUser> getList(Profile profile);
+
+    long deleteByProfileIdList(List<Long> profileIdList);
 }
@@ -1,10 +1,12 @@
 package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.Comment;
+import com.second_team.apt_project.records.CommentPathRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CommentRepositoryCustom {
@@ -19,4 +21,24 @@ public interface CommentRepositoryCustom {
     List<Comment> findByArticle(Long articleId);
 
     List<Comment> findByProfile(Long profileId);
+
+    List<Comment> findRepliesByRootPathList(Long articleId, List<String> rootPathList);
+
+    Page<Comment> findReplies(Long articleId, String path, int minDepth, int maxDepth, Pageable pageable);
+
+    Map<Long, Long> countByArticleIdList(List<Long> articleIdList);
+
+    Map<String, Long> countRepliesByRootPathList(Long articleId, List<String> rootPathList);
+
+    long deleteByPath(Long articleId, String path);
+
+    List<Comment> findByPathIsNull(Long lastId, int size);
+
+    long updatePath(Long id, String path, int depth);
+
+    long deleteByArticleIdList(List<Long> articleIdList);
+
+    List<CommentPathRecord> findPathByProfileIdList(List<Long> profileIdList, Long lastId, int size);
+
+    long deleteByPathList(List<CommentPathRecord> pathList);
 }
@@ -0,0 +1,16 @@
+package com.second_team.apt_project.repositories.customs;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileBlobRepositoryCustom {
+    int acquire(String hash, String url, long size, String contentType);
+
+    long release(String hash, long count);
+
+    List<String> findReleasedHashList(LocalDateTime before, int size);
+
+    long deleteReleased(String hash);
+
+    boolean existsForUpdate(String hash);
+}
@@ -2,8 +2,24 @@ package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.FileSystem;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface FileSystemRepositoryCustom {
     Optional<FileSystem> findKey(String key);
+
+    List<FileSystem> findByKeyList(List<String> keyList);
+
+    long deleteByKeyList(List<String> keyList);
+
+    void insertAll(List<FileSystem> fileSystemList);
+
+    long fillCreateDate(String prefix, LocalDateTime now);
+
+    long touch(List<String> keyList, LocalDateTime now);
+
+    List<FileSystem> findExpiredList(String prefix, LocalDateTime before, int size);
+
+    List<String> findExistUrlList(List<String> urlList);
 }
@@ -0,0 +1,27 @@
+package com.second_team.apt_project.repositories.customs;
+
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.enums.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRepositoryCustom {
+    Page<Job> findList(Pageable pageable, String username);
+
+    List<Long> findIdByStatus(JobStatus status, int size);
+
+    List<Job> findStale(LocalDateTime before);
+
+    long claim(Long id, String owner);
+
+    long heartbeat(List<Long> idList, String owner);
+
+    long updateProgress(Long id, String owner, int done, int total);
+
+    long finish(Long id, String owner, JobStatus status, String message);
+
+    long release(Long id, LocalDateTime before, JobStatus status, String message);
+}
@@ -13,4 +13,8 @@ public interface LessonRepositoryCustom {
     List<Lesson> findByProfile(Long profileId);
 
     Page<Lesson> findByProfileAndCenter(Long profileId, Long cultureCenterId, Pageable pageable);
+
+    List<Long> findIdByProfileIdList(List<Long> profileIdList, Long lastId, int size);
+
+    long deleteByIdList(List<Long> lessonIdList);
 }
@@ -19,4 +19,8 @@ public interface LessonUserRepositoryCustom {
     List<LessonUser> findByProfileId(Long id);
 
     Optional<LessonUser> findByLessonAndProfile(Long lessonId, Long profileId);
+
+    long deleteByProfileIdList(List<Long> profileIdList);
+
+    long deleteByLessonIdList(List<Long> lessonIdList);
 }
@@ -5,6 +5,7 @@ import com.second_team.apt_project.domains.Love;
 import com.second_team.apt_project.domains.Profile;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LoveRepositoryCustom {
@@ -15,4 +16,16 @@ public interface LoveRepositoryCustom {
     boolean existsByArticleAndProfile(Article article, Profile profile);
 
     int countByArticleId(Long articleId);
+
+    long deleteByArticleAndProfile(Long articleId, Long profileId);
+
+    int insertIfAbsent(Long articleId, Long profileId);
+
+    List<Long> findLovedArticleIdList(Long profileId, List<Long> articleIdList);
+
+    long deleteByArticleIdList(List<Long> articleIdList);
+
+    Map<Long, Long> countByProfileIdList(List<Long> profileIdList);
+
+    long deleteByProfileIdList(List<Long> profileIdList);
 }
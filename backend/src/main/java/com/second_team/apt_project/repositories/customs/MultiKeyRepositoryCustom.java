@@ -2,8 +2,18 @@ package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.MultiKey;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MultiKeyRepositoryCustom {
     Optional<MultiKey> findByKey(String k);
+
+    List<MultiKey> findByKeyList(List<String> keyList);
+
+    long deleteByKeyList(List<String> keyList);
+
+    long fillCreateDate(String prefix, LocalDateTime now);
+
+    List<MultiKey> findExpiredList(String prefix, LocalDateTime before, int size);
 }
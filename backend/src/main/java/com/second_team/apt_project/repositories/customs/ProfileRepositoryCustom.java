@@ -7,4 +7,6 @@ import java.util.List;
 
 public interface ProfileRepositoryCustom {
     List<Profile> findProfilesByUserList(SiteUser user);
+
+    long deleteByIdList(List<Long> profileIdList);
 }
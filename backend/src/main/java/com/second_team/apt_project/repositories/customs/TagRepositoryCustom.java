@@ -2,6 +2,7 @@ package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.Tag;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +10,20 @@ public interface TagRepositoryCustom {
     Optional<Tag> findByName(String name);
 
     List<Tag> findByIdList(Long tagId);
+
+    List<Tag> findByNameList(List<String> nameList);
+
+    List<Tag> findByNameListForShare(List<String> nameList);
+
+    int insertIfAbsent(List<String> nameList);
+
+    long addUseCount(List<Long> tagIdList, long count);
+
+    List<Long> findExistIdList(List<Long> tagIdList);
+
+    long recountUse();
+
+    List<Tag> findUnused(LocalDateTime createDate, int size);
+
+    long deleteUnused(List<Long> tagIdList);
 }
@@ -1,6 +1,8 @@
 package com.second_team.apt_project.repositories.customs;
 
 import com.second_team.apt_project.domains.SiteUser;
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.records.UserCursorRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,5 +13,13 @@ public interface UserRepositoryCustom {
 
     Page<SiteUser> findByUserList(Pageable pageable, Long aptId);
 
+    List<SiteUser> findByUserCursor(Long aptId, UserCursorRecord cursor, int size);
+
+    List<SiteUser> findByHouseholdUnset(String lastUsername, int size);
+
     SiteUser findByUsername(String username);
+
+    ActorRecord findActor(String username, Long profileId);
+
+    List<String> findExistUsernameList(List<String> usernameList);
 }
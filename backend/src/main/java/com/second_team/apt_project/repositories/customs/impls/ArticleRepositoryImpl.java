@@ -1,17 +1,27 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.second_team.apt_project.domains.*;
 import com.second_team.apt_project.enums.Sorts;
+import com.second_team.apt_project.records.ArticleStateRecord;
+import com.second_team.apt_project.records.ArticleSummaryRecord;
 import com.second_team.apt_project.repositories.customs.ArticleRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
@@ -23,26 +33,48 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     QApt qApt = QApt.apt;
     QCategory qCategory = QCategory.category;
     QArticleTag qArticleTag = QArticleTag.articleTag;
+    QLove qLove = QLove.love;
+
+    // 목록에 필요한 컬럼만 조회 (content 제외)
+    private JPAQuery<ArticleSummaryRecord> selectSummary() {
+        return jpaQueryFactory.select(Projections.constructor(ArticleSummaryRecord.class,
+                        qArticle.id, qArticle.title, qArticle.excerpt, qArticle.imageUrl, qArticle.price,
+                        qArticle.createDate, qArticle.modifyDate, qArticle.topActive, qArticle.viewCount,
+                        qCategory.name, qProfile.id, qProfile.name, qSiteUser.username))
+                .from(qArticle)
+                .join(qArticle.category, qCategory)
+                .join(qArticle.profile, qProfile)
+                .join(qProfile.user, qSiteUser)
+                .where(qArticle.deleteDate.isNull());
+    }
 
     @Override
-    public Page<Article> findByArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive) {
-        QueryResults<Article> results = jpaQueryFactory.selectFrom(qArticle)
-                .leftJoin(qArticle.profile, qProfile)
-                .leftJoin(qProfile.user, qSiteUser)
-                .leftJoin(qSiteUser.apt, qApt)
-                .where(qArticle.topActive.eq(topActive).and(qApt.id.eq(aptId)).and(qCategory.id.eq(categoryId)))
+    public Page<ArticleSummaryRecord> findByArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive) {
+        QueryResults<ArticleSummaryRecord> results = this.selectSummary()
+                .where(qArticle.topActive.eq(topActive).and(qSiteUser.apt.id.eq(aptId)).and(qCategory.id.eq(categoryId)))
                 .orderBy(qArticle.createDate.desc()).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetchResults();
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
     @Override
-    public List<Article> findByTopActive(Long aptId, Long categoryId, Boolean topActive) {
-        return jpaQueryFactory.selectFrom(qArticle).distinct()
-                .leftJoin(qArticle.profile.user, qSiteUser)
-                .leftJoin(qSiteUser.apt, qApt)
+    public List<ArticleSummaryRecord> findByArticleFeed(Long aptId, Long categoryId, Boolean topActive, LocalDateTime createDate, Long articleId, int size) {
+        BooleanBuilder where = new BooleanBuilder(qArticle.topActive.eq(topActive).and(qSiteUser.apt.id.eq(aptId)).and(qCategory.id.eq(categoryId)));
+        if (createDate != null && articleId != null)
+            where.and(qArticle.createDate.lt(createDate).or(qArticle.createDate.eq(createDate).and(qArticle.id.lt(articleId))));
+        return this.selectSummary()
+                .where(where)
+                .orderBy(qArticle.createDate.desc(), qArticle.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleSummaryRecord> findByTopActive(Long aptId, Long categoryId, Boolean topActive) {
+        return this.selectSummary()
                 .where(qArticle.topActive.eq(topActive)
-                        .and(qApt.id.eq(aptId))
-                        .and(qArticle.category.id.eq(categoryId)))
+                        .and(qSiteUser.apt.id.eq(aptId))
+                        .and(qCategory.id.eq(categoryId)))
+                .orderBy(qArticle.createDate.desc())
                 .fetch();
     }
 
@@ -52,11 +84,10 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     }
 
     @Override
-    public Page<Article> searchByKeyword(Long id, Pageable pageable, String keyword, Sorts sorts) {
-        JPAQuery<Article> query = jpaQueryFactory
-                .selectFrom(qArticle).distinct()
+    public Page<ArticleSummaryRecord> searchByKeyword(Long id, Pageable pageable, String keyword, Sorts sorts) {
+        JPAQuery<ArticleSummaryRecord> query = this.selectSummary().distinct()
                 .leftJoin(qArticleTag).on(qArticleTag.article.id.eq(qArticle.id))
-                .where(qProfile.user.apt.id.eq(id))
+                .where(qSiteUser.apt.id.eq(id))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
         switch (sorts) {
@@ -66,11 +97,11 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 break;
             case TITLE_CONTENT:
                 query.where(qArticle.title.contains(keyword).or(qArticle.content.contains(keyword)))
-                        .orderBy(qArticle.title.asc(), qArticle.content.asc(), qArticle.createDate.desc());
+                        .orderBy(qArticle.title.asc(), qArticle.createDate.desc());
                 break;
             case PROFILE:
-                query.where(qArticle.profile.name.contains(keyword))
-                        .orderBy(qArticle.profile.name.asc(), qArticle.createDate.desc());
+                query.where(qProfile.name.contains(keyword))
+                        .orderBy(qProfile.name.asc(), qArticle.createDate.desc());
                 break;
             case TAG:
                 query.leftJoin(qArticleTag)
@@ -83,16 +114,15 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 throw new IllegalArgumentException("Invalid sort option: " + sorts);
         }
 
-        QueryResults<Article> results = query.fetchResults();
+        QueryResults<ArticleSummaryRecord> results = query.fetchResults();
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
     @Override
-    public Page<Article> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId) {
-        JPAQuery<Article> query = jpaQueryFactory
-                .selectFrom(qArticle).distinct()
+    public Page<ArticleSummaryRecord> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId) {
+        JPAQuery<ArticleSummaryRecord> query = this.selectSummary().distinct()
                 .leftJoin(qArticleTag).on(qArticleTag.article.id.eq(qArticle.id))
-                .where(qProfile.user.apt.id.eq(id).and(qArticle.category.id.eq(categoryId)))
+                .where(qSiteUser.apt.id.eq(id).and(qCategory.id.eq(categoryId)))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
         switch (sorts) {
@@ -102,11 +132,11 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 break;
             case TITLE_CONTENT:
                 query.where(qArticle.title.contains(keyword).or(qArticle.content.contains(keyword)))
-                        .orderBy(qArticle.title.asc(), qArticle.content.asc(), qArticle.createDate.desc());
+                        .orderBy(qArticle.title.asc(), qArticle.createDate.desc());
                 break;
             case PROFILE:
-                query.where(qArticle.profile.name.contains(keyword))
-                        .orderBy(qArticle.profile.name.asc(), qArticle.createDate.desc());
+                query.where(qProfile.name.contains(keyword))
+                        .orderBy(qProfile.name.asc(), qArticle.createDate.desc());
                 break;
             case TAG:
                 query.leftJoin(qArticleTag)
@@ -119,7 +149,115 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
                 throw new IllegalArgumentException("Invalid sort option: " + sorts);
         }
 
-        QueryResults<Article> results = query.fetchResults();
+        QueryResults<ArticleSummaryRecord> results = query.fetchResults();
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
+
+    @Override
+    public List<ArticleSummaryRecord> findByIdList(List<Long> articleIdList) {
+        return this.selectSummary().where(qArticle.id.in(articleIdList)).fetch();
+    }
+
+    @Override
+    public List<Article> findByIdAfter(Long lastId, int size) {
+        return jpaQueryFactory.selectFrom(qArticle)
+                .join(qArticle.profile, qProfile).fetchJoin()
+                .join(qProfile.user, qSiteUser).fetchJoin()
+                .where(qArticle.id.gt(lastId).and(qArticle.deleteDate.isNull()))
+                .orderBy(qArticle.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Article> findBySummaryIsNull(Long lastId, int size) {
+        return jpaQueryFactory.selectFrom(qArticle)
+                .where(qArticle.excerpt.isNull().or(qArticle.price.isNull().and(qArticle.content.contains("[PRICE]"))).and(qArticle.id.gt(lastId)))
+                .orderBy(qArticle.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 미리보기 컬럼만 갱신 - 읽은 뒤 수정된 게시물은 이미 새 미리보기가 있으므로 건너뜀
+    @Override
+    public long updateSummary(Long id, String loadedExcerpt, String excerpt, String imageUrl, String price) {
+        return jpaQueryFactory.update(qArticle)
+                .set(qArticle.excerpt, excerpt)
+                .set(qArticle.imageUrl, imageUrl)
+                .set(qArticle.price, price)
+                .where(qArticle.id.eq(id).and(loadedExcerpt == null ? qArticle.excerpt.isNull() : qArticle.excerpt.eq(loadedExcerpt).and(qArticle.price.isNull())))
+                .execute();
+    }
+
+    @Override
+    public long addViewCount(List<Long> articleIdList, long count) {
+        return jpaQueryFactory.update(qArticle)
+                .set(qArticle.viewCount, qArticle.viewCount.add(count))
+                .where(qArticle.id.in(articleIdList))
+                .execute();
+    }
+
+    @Override
+    public long addLoveCount(List<Long> articleIdList, long count) {
+        return jpaQueryFactory.update(qArticle)
+                .set(qArticle.loveCount, qArticle.loveCount.add(count))
+                .where(qArticle.id.in(articleIdList))
+                .execute();
+    }
+
+    // love 테이블 기준으로 전체 다시 계산 (excludeIdList 는 제외)
+    @Override
+    public long recountLove(List<Long> excludeIdList) {
+        JPAUpdateClause update = jpaQueryFactory.update(qArticle)
+                .set(qArticle.loveCount, JPAExpressions.select(qLove.count()).from(qLove).where(qLove.article.id.eq(qArticle.id)));
+        if (!excludeIdList.isEmpty()) update.where(qArticle.id.notIn(excludeIdList));
+        return update.execute();
+    }
+
+    @Override
+    public Map<Long, Long> findLoveCountByIdList(List<Long> articleIdList, Long aptId) {
+        Map<Long, Long> countMap = new HashMap<>();
+        BooleanBuilder where = new BooleanBuilder(qArticle.id.in(articleIdList).and(qArticle.deleteDate.isNull()));
+        if (aptId != null) where.and(qSiteUser.apt.id.eq(aptId));
+        List<Tuple> results = jpaQueryFactory.select(qArticle.id, qArticle.loveCount).from(qArticle)
+                .join(qArticle.profile, qProfile)
+                .join(qProfile.user, qSiteUser)
+                .where(where)
+                .fetch();
+        for (Tuple tuple : results)
+            countMap.put(tuple.get(qArticle.id), tuple.get(qArticle.loveCount));
+        return countMap;
+    }
+
+    @Override
+    public long softDelete(Long articleId, LocalDateTime deleteDate) {
+        return jpaQueryFactory.update(qArticle)
+                .set(qArticle.deleteDate, deleteDate)
+                .where(qArticle.id.eq(articleId).and(qArticle.deleteDate.isNull()))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findDeletedIdList(int size) {
+        return jpaQueryFactory.select(qArticle.id).from(qArticle)
+                .where(qArticle.deleteDate.isNotNull())
+                .orderBy(qArticle.deleteDate.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public long deleteByIdList(List<Long> articleIdList) {
+        return jpaQueryFactory.delete(qArticle).where(qArticle.id.in(articleIdList)).execute();
+    }
+
+    @Override
+    public List<ArticleStateRecord> findStateByProfileIdList(List<Long> profileIdList, Long lastId, int size) {
+        return jpaQueryFactory.select(Projections.constructor(ArticleStateRecord.class, qArticle.id, qArticle.deleteDate.isNotNull()))
+                .from(qArticle)
+                .where(qArticle.profile.id.in(profileIdList).and(qArticle.id.gt(lastId)))
+                .orderBy(qArticle.id.asc())
+                .limit(size)
+                .fetch();
+    }
 }
@@ -1,11 +1,17 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.second_team.apt_project.domains.*;
+import com.second_team.apt_project.records.TagCountRecord;
 import com.second_team.apt_project.repositories.customs.ArticleTagRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -14,6 +20,9 @@ public class ArticleTagRepositoryImpl implements ArticleTagRepositoryCustom {
 
     QArticleTag qArticleTag = QArticleTag.articleTag;
     QArticle qArticle = QArticle.article;
+    QTag qTag = QTag.tag;
+    QProfile qProfile = QProfile.profile;
+    QSiteUser qSiteUser = QSiteUser.siteUser;
 
 
     @Override
@@ -33,4 +42,66 @@ public class ArticleTagRepositoryImpl implements ArticleTagRepositoryCustom {
         return jpaQueryFactory.selectFrom(qArticleTag).where(qArticleTag.tag.id.eq(id)).fetchOne();
     }
 
+    @Override
+    public List<ArticleTag> findByArticleIdList(List<Long> articleIdList) {
+        return jpaQueryFactory.selectFrom(qArticleTag)
+                .join(qArticleTag.tag, qTag).fetchJoin()
+                .where(qArticleTag.article.id.in(articleIdList))
+                .orderBy(qArticleTag.id.asc())
+                .fetch();
+    }
+
+    // 태그 ID 별로 몇 개의 게시물에서 쓰였는지
+    @Override
+    public Map<Long, Long> countTagByArticleIdList(List<Long> articleIdList) {
+        Map<Long, Long> countMap = new HashMap<>();
+        List<Tuple> results = jpaQueryFactory.select(qArticleTag.tag.id, qArticleTag.count()).from(qArticleTag)
+                .where(qArticleTag.article.id.in(articleIdList))
+                .groupBy(qArticleTag.tag.id)
+                .fetch();
+        for (Tuple tuple : results)
+            countMap.put(tuple.get(qArticleTag.tag.id), tuple.get(qArticleTag.count()));
+        return countMap;
+    }
+
+    @Override
+    public List<ArticleTag> findByIdList(List<Long> articleTagIdList) {
+        return jpaQueryFactory.selectFrom(qArticleTag)
+                .join(qArticleTag.tag, qTag).fetchJoin()
+                .where(qArticleTag.id.in(articleTagIdList))
+                .fetch();
+    }
+
+    @Override
+    public long deleteByIdList(List<Long> articleTagIdList) {
+        return jpaQueryFactory.delete(qArticleTag).where(qArticleTag.id.in(articleTagIdList)).execute();
+    }
+
+    @Override
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        return jpaQueryFactory.delete(qArticleTag).where(qArticleTag.article.id.in(articleIdList)).execute();
+    }
+
+    @Override
+    public List<TagCountRecord> countTagByApt() {
+        return this.countTagByApt(qArticle.deleteDate.isNull());
+    }
+
+    @Override
+    public List<TagCountRecord> countTagByApt(List<Long> tagIdList) {
+        return this.countTagByApt(qArticle.deleteDate.isNull().and(qTag.id.in(tagIdList)));
+    }
+
+    private List<TagCountRecord> countTagByApt(Predicate where) {
+        return jpaQueryFactory.select(Projections.constructor(TagCountRecord.class,
+                        qSiteUser.apt.id, qTag.id, qTag.name, qArticleTag.count()))
+                .from(qArticleTag)
+                .join(qArticleTag.tag, qTag)
+                .join(qArticleTag.article, qArticle)
+                .join(qArticle.profile, qProfile)
+                .join(qProfile.user, qSiteUser)
+                .where(where)
+                .groupBy(qSiteUser.apt.id, qTag.id, qTag.name)
+                .fetch();
+    }
 }
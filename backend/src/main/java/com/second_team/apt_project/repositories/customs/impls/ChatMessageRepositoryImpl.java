@@ -19,4 +19,9 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
     public List<ChatMessage> findByChatRoomList(ChatRoom chatRoom) {
         return jpaQueryFactory.selectFrom(qChatMessage).where(qChatMessage.chatRoom.eq(chatRoom)).fetch();
     }
+
+    @Override
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return jpaQueryFactory.delete(qChatMessage).where(qChatMessage.profile.id.in(profileIdList)).execute();
+    }
 }
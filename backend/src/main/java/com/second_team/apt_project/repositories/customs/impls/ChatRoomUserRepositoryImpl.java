@@ -27,4 +27,9 @@ public class ChatRoomUserRepositoryImpl implements ChatRoomUserRepositoryCustom
     public List<ChatRoomUser> getList(Profile profile) {
         return jpaQueryFactory.selectFrom(qChatRoomUser).where(qChatRoomUser.profile.eq(profile)).fetch();
     }
+
+    @Override
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return jpaQueryFactory.delete(qChatRoomUser).where(qChatRoomUser.profile.id.in(profileIdList)).execute();
+    }
 }
@@ -1,22 +1,34 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.second_team.apt_project.domains.Comment;
 import com.second_team.apt_project.domains.QComment;
+import com.second_team.apt_project.domains.QProfile;
+import com.second_team.apt_project.domains.QSiteUser;
+import com.second_team.apt_project.records.CommentPathRecord;
 import com.second_team.apt_project.repositories.customs.CommentRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
     QComment qComment = QComment.comment;
+    QProfile qProfile = QProfile.profile;
+    QSiteUser qSiteUser = QSiteUser.siteUser;
 
     @Override
     public Optional<Comment> findByParentId(Long parentId) {
@@ -30,7 +42,12 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
     @Override
     public Page<Comment> findByCommentList(Pageable pageable, Long articleId) {
-        QueryResults<Comment> results = jpaQueryFactory.selectFrom(qComment).where(qComment.article.id.eq(articleId).and(qComment.parent.isNull())).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetchResults();
+        QueryResults<Comment> results = jpaQueryFactory.selectFrom(qComment)
+                .join(qComment.profile, qProfile).fetchJoin()
+                .join(qProfile.user, qSiteUser).fetchJoin()
+                .where(qComment.article.id.eq(articleId).and(qComment.parent.isNull()))
+                .orderBy(qComment.id.asc())
+                .offset(pageable.getOffset()).limit(pageable.getPageSize()).fetchResults();
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
@@ -49,4 +66,127 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return jpaQueryFactory.selectFrom(qComment).where(qComment.profile.id.eq(profileId)).fetch();
     }
 
+    // 루트 댓글들 아래의 모든 대댓글 (작성자 포함, 경로 순 = 트리 순서)
+    @Override
+    public List<Comment> findRepliesByRootPathList(Long articleId, List<String> rootPathList) {
+        BooleanBuilder pathBuilder = new BooleanBuilder();
+        for (String rootPath : rootPathList)
+            pathBuilder.or(qComment.path.startsWith(rootPath));
+        return jpaQueryFactory.selectFrom(qComment)
+                .join(qComment.profile, qProfile).fetchJoin()
+                .join(qProfile.user, qSiteUser).fetchJoin()
+                .where(qComment.article.id.eq(articleId).and(qComment.depth.gt(0)).and(pathBuilder))
+                .orderBy(qComment.path.asc())
+                .fetch();
+    }
+
+    @Override
+    public Page<Comment> findReplies(Long articleId, String path, int minDepth, int maxDepth, Pageable pageable) {
+        QueryResults<Comment> results = jpaQueryFactory.selectFrom(qComment)
+                .join(qComment.profile, qProfile).fetchJoin()
+                .join(qProfile.user, qSiteUser).fetchJoin()
+                .where(qComment.article.id.eq(articleId)
+                        .and(qComment.path.startsWith(path))
+                        .and(qComment.depth.between(minDepth, maxDepth)))
+                .orderBy(qComment.path.asc())
+                .offset(pageable.getOffset()).limit(pageable.getPageSize()).fetchResults();
+        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
+    }
+
+    @Override
+    public Map<Long, Long> countByArticleIdList(List<Long> articleIdList) {
+        Map<Long, Long> countMap = new HashMap<>();
+        List<Tuple> results = jpaQueryFactory.select(qComment.article.id, qComment.count())
+                .from(qComment)
+                .where(qComment.article.id.in(articleIdList))
+                .groupBy(qComment.article.id)
+                .fetch();
+        for (Tuple tuple : results)
+            countMap.put(tuple.get(qComment.article.id), tuple.get(qComment.count()));
+        return countMap;
+    }
+
+    // 루트 경로별 대댓글 수 (루트 경로는 모두 같은 길이)
+    @Override
+    public Map<String, Long> countRepliesByRootPathList(Long articleId, List<String> rootPathList) {
+        Map<String, Long> countMap = new HashMap<>();
+        if (rootPathList.isEmpty()) return countMap;
+        StringExpression rootPath = qComment.path.substring(0, rootPathList.getFirst().length());
+        List<Tuple> results = jpaQueryFactory.select(rootPath, qComment.count())
+                .from(qComment)
+                .where(qComment.article.id.eq(articleId).and(qComment.depth.gt(0)).and(rootPath.in(rootPathList)))
+                .groupBy(rootPath)
+                .fetch();
+        for (Tuple tuple : results)
+            countMap.put(tuple.get(rootPath), tuple.get(qComment.count()));
+        return countMap;
+    }
+
+    // 경로가 같은 접두어로 시작하는 하위 댓글까지 한 번에 삭제
+    @Override
+    public long deleteByPath(Long articleId, String path) {
+        jpaQueryFactory.update(qComment).setNull(qComment.parent)
+                .where(qComment.article.id.eq(articleId).and(qComment.path.startsWith(path))).execute();
+        return jpaQueryFactory.delete(qComment)
+                .where(qComment.article.id.eq(articleId).and(qComment.path.startsWith(path))).execute();
+    }
+
+    @Override
+    public List<Comment> findByPathIsNull(Long lastId, int size) {
+        QComment qParent = new QComment("parent");
+        return jpaQueryFactory.selectFrom(qComment)
+                .leftJoin(qComment.parent, qParent).fetchJoin()
+                .where(qComment.path.isNull().and(qComment.id.gt(lastId)))
+                .orderBy(qComment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 경로만 채움 (이미 채워졌으면 그대로)
+    @Override
+    public long updatePath(Long id, String path, int depth) {
+        return jpaQueryFactory.update(qComment)
+                .set(qComment.path, path)
+                .set(qComment.depth, depth)
+                .where(qComment.id.eq(id).and(qComment.path.isNull()))
+                .execute();
+    }
+
+    @Override
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        // 부모 댓글 참조를 먼저 끊어야 한 번에 지울 수 있음
+        jpaQueryFactory.update(qComment).setNull(qComment.parent).where(qComment.article.id.in(articleIdList)).execute();
+        return jpaQueryFactory.delete(qComment).where(qComment.article.id.in(articleIdList)).execute();
+    }
+
+    @Override
+    public List<CommentPathRecord> findPathByProfileIdList(List<Long> profileIdList, Long lastId, int size) {
+        return jpaQueryFactory.select(Projections.constructor(CommentPathRecord.class, qComment.id, qComment.article.id, qComment.path))
+                .from(qComment)
+                .where(qComment.profile.id.in(profileIdList).and(qComment.id.gt(lastId)))
+                .orderBy(qComment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 여러 댓글의 하위 트리를 한 번에 삭제 (deleteByPath 의 묶음 버전)
+    // path 를 채우기 전의 예전 댓글은 parent 를 따라 하위 댓글을 모아서 ID 로 지움
+    @Override
+    public long deleteByPathList(List<CommentPathRecord> pathList) {
+        if (pathList.isEmpty()) return 0;
+        BooleanBuilder pathBuilder = new BooleanBuilder();
+        List<Long> legacyIdList = new ArrayList<>();
+        for (CommentPathRecord commentPath : pathList)
+            if (commentPath.path() != null)
+                pathBuilder.or(qComment.article.id.eq(commentPath.articleId()).and(qComment.path.startsWith(commentPath.path())));
+            else legacyIdList.add(commentPath.id());
+        List<Long> childIdList = legacyIdList;
+        while (!childIdList.isEmpty()) {
+            childIdList = jpaQueryFactory.select(qComment.id).from(qComment).where(qComment.parent.id.in(childIdList)).fetch();
+            legacyIdList.addAll(childIdList);
+        }
+        if (!legacyIdList.isEmpty()) pathBuilder.or(qComment.id.in(legacyIdList));
+        jpaQueryFactory.update(qComment).setNull(qComment.parent).where(pathBuilder).execute();
+        return jpaQueryFactory.delete(qComment).where(pathBuilder).execute();
+    }
 }
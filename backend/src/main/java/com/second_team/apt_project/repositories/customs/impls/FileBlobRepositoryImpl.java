@@ -0,0 +1,65 @@
+package com.second_team.apt_project.repositories.customs.impls;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.second_team.apt_project.domains.QFileBlob;
+import com.second_team.apt_project.repositories.customs.FileBlobRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class FileBlobRepositoryImpl implements FileBlobRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
+    QFileBlob qFileBlob = QFileBlob.fileBlob;
+
+    // 처음 보는 내용이면 추가, 이미 있으면 참조 수만 증가 - 동시에 같은 파일을 올려도 한 행으로 합쳐짐
+    @Override
+    public int acquire(String hash, String url, long size, String contentType) {
+        return entityManager.createNativeQuery("INSERT INTO file_blob (hash, url, size, content_type, ref_count, create_date) VALUES (?1, ?2, ?3, ?4, 1, ?5) " +
+                        "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1")
+                .setParameter(1, hash)
+                .setParameter(2, url)
+                .setParameter(3, size)
+                .setParameter(4, contentType)
+                .setParameter(5, LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    @Override
+    public long release(String hash, long count) {
+        return jpaQueryFactory.update(qFileBlob)
+                .set(qFileBlob.refCount, qFileBlob.refCount.subtract(count))
+                .set(qFileBlob.releaseDate, LocalDateTime.now())
+                .where(qFileBlob.hash.eq(hash))
+                .execute();
+    }
+
+    @Override
+    public List<String> findReleasedHashList(LocalDateTime before, int size) {
+        return jpaQueryFactory.select(qFileBlob.hash).from(qFileBlob)
+                .where(qFileBlob.refCount.loe(0L).and(qFileBlob.releaseDate.lt(before)))
+                .limit(size)
+                .fetch();
+    }
+
+    // 그 사이 다시 참조되었으면 지우지 않음
+    @Override
+    public long deleteReleased(String hash) {
+        return jpaQueryFactory.delete(qFileBlob)
+                .where(qFileBlob.hash.eq(hash).and(qFileBlob.refCount.loe(0L)))
+                .execute();
+    }
+
+    // 다른 트랜잭션이 추가 중인 행이면 그 트랜잭션이 끝날 때까지 기다림
+    @Override
+    public boolean existsForUpdate(String hash) {
+        return jpaQueryFactory.select(qFileBlob.hash).from(qFileBlob)
+                .where(qFileBlob.hash.eq(hash))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchFirst() != null;
+    }
+}
@@ -4,16 +4,59 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.second_team.apt_project.domains.FileSystem;
 import com.second_team.apt_project.domains.QFileSystem;
 import com.second_team.apt_project.repositories.customs.FileSystemRepositoryCustom;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 @RequiredArgsConstructor
 public class FileSystemRepositoryImpl implements FileSystemRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
 
     QFileSystem qFileSystem = QFileSystem.fileSystem;
     @Override
     public Optional<FileSystem> findKey(String key) {
         return Optional.ofNullable(jpaQueryFactory.selectFrom(qFileSystem).where(qFileSystem.k.eq(key)).fetchOne());
     }
+
+    @Override
+    public List<FileSystem> findByKeyList(List<String> keyList) {
+        return jpaQueryFactory.selectFrom(qFileSystem).where(qFileSystem.k.in(keyList)).fetch();
+    }
+
+    @Override
+    public long deleteByKeyList(List<String> keyList) {
+        return jpaQueryFactory.delete(qFileSystem).where(qFileSystem.k.in(keyList)).execute();
+    }
+
+    // 새 키만 받으므로 save(merge) 대신 persist 해서 행마다 SELECT 하지 않음
+    @Override
+    public void insertAll(List<FileSystem> fileSystemList) {
+        for (FileSystem fileSystem : fileSystemList)
+            entityManager.persist(fileSystem);
+        entityManager.flush();
+    }
+
+    // 생성일 컬럼 추가 전의 행은 처음 정리할 때를 생성일로 봄
+    @Override
+    public long fillCreateDate(String prefix, LocalDateTime now) {
+        return jpaQueryFactory.update(qFileSystem).set(qFileSystem.createDate, now).where(qFileSystem.k.startsWith(prefix), qFileSystem.createDate.isNull()).execute();
+    }
+
+    @Override
+    public long touch(List<String> keyList, LocalDateTime now) {
+        return jpaQueryFactory.update(qFileSystem).set(qFileSystem.createDate, now).where(qFileSystem.k.in(keyList)).execute();
+    }
+
+    @Override
+    public List<FileSystem> findExpiredList(String prefix, LocalDateTime before, int size) {
+        return jpaQueryFactory.selectFrom(qFileSystem).where(qFileSystem.k.startsWith(prefix), qFileSystem.createDate.before(before)).limit(size).fetch();
+    }
+
+    @Override
+    public List<String> findExistUrlList(List<String> urlList) {
+        return jpaQueryFactory.select(qFileSystem.v).from(qFileSystem).where(qFileSystem.v.in(urlList)).fetch();
+    }
 }
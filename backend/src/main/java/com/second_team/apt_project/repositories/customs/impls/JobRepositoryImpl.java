@@ -0,0 +1,108 @@
+package com.second_team.apt_project.repositories.customs.impls;
+
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.domains.QJob;
+import com.second_team.apt_project.enums.JobStatus;
+import com.second_team.apt_project.repositories.customs.JobRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class JobRepositoryImpl implements JobRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    QJob qJob = QJob.job;
+
+    // username 이 null 이면 전체
+    @Override
+    public Page<Job> findList(Pageable pageable, String username) {
+        QueryResults<Job> results = jpaQueryFactory.selectFrom(qJob)
+                .where(username != null ? qJob.username.eq(username) : null)
+                .orderBy(qJob.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetchResults();
+        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
+    }
+
+    @Override
+    public List<Long> findIdByStatus(JobStatus status, int size) {
+        return jpaQueryFactory.select(qJob.id).from(qJob)
+                .where(qJob.status.eq(status))
+                .orderBy(qJob.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 하트비트가 before 보다 오래된 실행중 작업 (하트비트 컬럼 추가 전에 가져간 작업 포함)
+    @Override
+    public List<Job> findStale(LocalDateTime before) {
+        return jpaQueryFactory.selectFrom(qJob).where(qJob.status.eq(JobStatus.RUNNING).and(this.stale(before))).fetch();
+    }
+
+    // 대기중인 작업만 실행중으로 바꿈 - 1 이면 이 호출이 작업을 가져간 것
+    @Override
+    public long claim(Long id, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        return jpaQueryFactory.update(qJob)
+                .set(qJob.status, JobStatus.RUNNING)
+                .set(qJob.owner, owner)
+                .set(qJob.startDate, now)
+                .set(qJob.heartbeatDate, now)
+                .set(qJob.attempt, qJob.attempt.add(1))
+                .where(qJob.id.eq(id).and(qJob.status.eq(JobStatus.WAITING)))
+                .execute();
+    }
+
+    @Override
+    public long heartbeat(List<Long> idList, String owner) {
+        return jpaQueryFactory.update(qJob)
+                .set(qJob.heartbeatDate, LocalDateTime.now())
+                .where(qJob.id.in(idList).and(qJob.status.eq(JobStatus.RUNNING)).and(qJob.owner.eq(owner)))
+                .execute();
+    }
+
+    @Override
+    public long updateProgress(Long id, String owner, int done, int total) {
+        return jpaQueryFactory.update(qJob)
+                .set(qJob.done, done)
+                .set(qJob.total, total)
+                .set(qJob.heartbeatDate, LocalDateTime.now())
+                .where(qJob.id.eq(id).and(qJob.owner.eq(owner)))
+                .execute();
+    }
+
+    @Override
+    public long finish(Long id, String owner, JobStatus status, String message) {
+        return jpaQueryFactory.update(qJob)
+                .set(qJob.status, status)
+                .set(qJob.message, message)
+                .set(qJob.finishDate, LocalDateTime.now())
+                .where(qJob.id.eq(id).and(qJob.owner.eq(owner)))
+                .execute();
+    }
+
+    // 조회한 뒤 하트비트가 갱신됐으면 바꾸지 않음
+    @Override
+    public long release(Long id, LocalDateTime before, JobStatus status, String message) {
+        return jpaQueryFactory.update(qJob)
+                .set(qJob.status, status)
+                .set(qJob.message, message)
+                .setNull(qJob.owner)
+                .set(qJob.finishDate, status == JobStatus.FAILED ? LocalDateTime.now() : null)
+                .where(qJob.id.eq(id).and(qJob.status.eq(JobStatus.RUNNING)).and(this.stale(before)))
+                .execute();
+    }
+
+    private BooleanExpression stale(LocalDateTime before) {
+        return qJob.heartbeatDate.isNull().or(qJob.heartbeatDate.lt(before));
+    }
+}
@@ -40,4 +40,18 @@ public class LessonRepositoryImpl implements LessonRepositoryCustom {
         QueryResults<Lesson> results = jpaQueryFactory.selectFrom(qLesson).where(qLesson.cultureCenter.id.eq(cultureCenterId).and(qLesson.profile.id.eq(profileId)), qLesson.endDate.gt(LocalDateTime.now())).orderBy(qLesson.startDate.asc()).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetchResults();
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Long> findIdByProfileIdList(List<Long> profileIdList, Long lastId, int size) {
+        return jpaQueryFactory.select(qLesson.id).from(qLesson)
+                .where(qLesson.profile.id.in(profileIdList).and(qLesson.id.gt(lastId)))
+                .orderBy(qLesson.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public long deleteByIdList(List<Long> lessonIdList) {
+        return jpaQueryFactory.delete(qLesson).where(qLesson.id.in(lessonIdList)).execute();
+    }
+}
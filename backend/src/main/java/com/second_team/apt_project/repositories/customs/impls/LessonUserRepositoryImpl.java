@@ -43,4 +43,14 @@ public class LessonUserRepositoryImpl implements LessonUserRepositoryCustom {
     public Optional<LessonUser> findByLessonAndProfile(Long lessonId, Long profileId) {
         return Optional.ofNullable(jpaQueryFactory.selectFrom(qLessonUser).where(qLessonUser.lesson.id.eq(lessonId).and(qLessonUser.profile.id.eq(profileId))).fetchOne());
     }
+
+    @Override
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return jpaQueryFactory.delete(qLessonUser).where(qLessonUser.profile.id.in(profileIdList)).execute();
+    }
+
+    @Override
+    public long deleteByLessonIdList(List<Long> lessonIdList) {
+        return jpaQueryFactory.delete(qLessonUser).where(qLessonUser.lesson.id.in(lessonIdList)).execute();
+    }
 }
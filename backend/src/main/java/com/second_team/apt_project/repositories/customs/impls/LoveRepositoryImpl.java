@@ -1,19 +1,25 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.second_team.apt_project.domains.Article;
 import com.second_team.apt_project.domains.Love;
 import com.second_team.apt_project.domains.Profile;
 import com.second_team.apt_project.domains.QLove;
 import com.second_team.apt_project.repositories.customs.LoveRepositoryCustom;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 public class LoveRepositoryImpl implements LoveRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
     QLove qLove = QLove.love;
 
     @Override
@@ -43,4 +49,58 @@ public class LoveRepositoryImpl implements LoveRepositoryCustom {
                 .where(qLove.article.id.eq(articleId))
                 .fetchCount());
     }
+
+    @Override
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        return jpaQueryFactory.delete(qLove).where(qLove.article.id.in(articleIdList)).execute();
+    }
+
+    @Override
+    public long deleteByArticleAndProfile(Long articleId, Long profileId) {
+        return jpaQueryFactory.delete(qLove)
+                .where(qLove.article.id.eq(articleId).and(qLove.profile.id.eq(profileId)))
+                .execute();
+    }
+
+    /**
+     * (article_id, profile_id) 유니크 제약에 걸리면 그대로 둠 - 추가된 행 수 반환 (MySQL 전용)
+     * INSERT IGNORE 와 달리 FK 위반, 길이 초과 같은 다른 오류는 그대로 실패
+     * 드라이버 기본 설정(found rows)에서는 중복이어도 1 이 반환되므로 중복일 때 LAST_INSERT_ID 를 0 으로 두고 확인
+     */
+    @Override
+    public int insertIfAbsent(Long articleId, Long profileId) {
+        entityManager.createNativeQuery("INSERT INTO love (article_id, profile_id, create_date) VALUES (?1, ?2, ?3) ON DUPLICATE KEY UPDATE article_id = article_id + LAST_INSERT_ID(0)")
+                .setParameter(1, articleId)
+                .setParameter(2, profileId)
+                .setParameter(3, LocalDateTime.now())
+                .executeUpdate();
+        Number id = (Number) entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult();
+        return id.longValue() > 0 ? 1 : 0;
+    }
+
+    @Override
+    public List<Long> findLovedArticleIdList(Long profileId, List<Long> articleIdList) {
+        return jpaQueryFactory.select(qLove.article.id).from(qLove)
+                .where(qLove.profile.id.eq(profileId).and(qLove.article.id.in(articleIdList)))
+                .fetch();
+    }
+
+    // 게시물 ID 별로 프로필들이 누른 좋아요 수
+    @Override
+    public Map<Long, Long> countByProfileIdList(List<Long> profileIdList) {
+        Map<Long, Long> countMap = new HashMap<>();
+        List<Tuple> results = jpaQueryFactory.select(qLove.article.id, qLove.count())
+                .from(qLove)
+                .where(qLove.profile.id.in(profileIdList))
+                .groupBy(qLove.article.id)
+                .fetch();
+        for (Tuple tuple : results)
+            countMap.put(tuple.get(qLove.article.id), tuple.get(qLove.count()));
+        return countMap;
+    }
+
+    @Override
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return jpaQueryFactory.delete(qLove).where(qLove.profile.id.in(profileIdList)).execute();
+    }
 }
@@ -6,6 +6,8 @@ import com.second_team.apt_project.domains.QMultiKey;
 import com.second_team.apt_project.repositories.customs.MultiKeyRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -17,4 +19,24 @@ public class MultiKeyRepositoryImpl implements MultiKeyRepositoryCustom {
     public Optional<MultiKey> findByKey(String k) {
         return Optional.ofNullable(jpaQueryFactory.selectFrom(qMultiKey).where(qMultiKey.k.eq(k)).fetchOne());
     }
+
+    @Override
+    public List<MultiKey> findByKeyList(List<String> keyList) {
+        return jpaQueryFactory.selectFrom(qMultiKey).where(qMultiKey.k.in(keyList)).fetch();
+    }
+
+    @Override
+    public long deleteByKeyList(List<String> keyList) {
+        return jpaQueryFactory.delete(qMultiKey).where(qMultiKey.k.in(keyList)).execute();
+    }
+
+    @Override
+    public long fillCreateDate(String prefix, LocalDateTime now) {
+        return jpaQueryFactory.update(qMultiKey).set(qMultiKey.createDate, now).where(qMultiKey.k.startsWith(prefix), qMultiKey.createDate.isNull()).execute();
+    }
+
+    @Override
+    public List<MultiKey> findExpiredList(String prefix, LocalDateTime before, int size) {
+        return jpaQueryFactory.selectFrom(qMultiKey).where(qMultiKey.k.startsWith(prefix), qMultiKey.createDate.before(before)).limit(size).fetch();
+    }
 }
@@ -18,4 +18,9 @@ public class ProfileRepositoryImpl implements ProfileRepositoryCustom {
     public List<Profile> findProfilesByUserList(SiteUser user) {
         return jpaQueryFactory.selectFrom(qProfile).where(qProfile.user.eq(user)).fetch();
     }
+
+    @Override
+    public long deleteByIdList(List<Long> profileIdList) {
+        return jpaQueryFactory.delete(qProfile).where(qProfile.id.in(profileIdList)).execute();
+    }
 }
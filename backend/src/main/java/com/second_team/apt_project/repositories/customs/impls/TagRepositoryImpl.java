@@ -1,18 +1,27 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.second_team.apt_project.domains.QArticleTag;
 import com.second_team.apt_project.domains.QTag;
 import com.second_team.apt_project.domains.Tag;
 import com.second_team.apt_project.repositories.customs.TagRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 public class TagRepositoryImpl  implements TagRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
     QTag qTag = QTag.tag;
+    QArticleTag qArticleTag = QArticleTag.articleTag;
 
 
     @Override
@@ -24,4 +33,69 @@ public class TagRepositoryImpl  implements TagRepositoryCustom {
     public List<Tag> findByIdList(Long tagId) {
         return jpaQueryFactory.selectFrom(qTag).where(qTag.id.eq(tagId)).fetch();
     }
+
+    @Override
+    public List<Tag> findByNameList(List<String> nameList) {
+        return jpaQueryFactory.selectFrom(qTag).where(qTag.name.in(nameList)).fetch();
+    }
+
+    // 다른 트랜잭션이 방금 커밋한 행도 보이도록 잠금 읽기
+    @Override
+    public List<Tag> findByNameListForShare(List<String> nameList) {
+        return jpaQueryFactory.selectFrom(qTag).where(qTag.name.in(nameList)).setLockMode(LockModeType.PESSIMISTIC_READ).fetch();
+    }
+
+    // 한 문장으로 여러 태그 추가, 이미 있는 이름은 uk_tag_name 에 걸려 그대로 둠 (MySQL 전용)
+    // INSERT IGNORE 와 달리 길이 초과 같은 다른 오류는 그대로 실패
+    @Override
+    public int insertIfAbsent(List<String> nameList) {
+        String values = String.join(", ", Collections.nCopies(nameList.size(), "(?, ?, 0)"));
+        Query query = entityManager.createNativeQuery("INSERT INTO tag (name, create_date, use_count) VALUES " + values + " ON DUPLICATE KEY UPDATE id = id");
+        LocalDateTime now = LocalDateTime.now();
+        int index = 1;
+        for (String name : nameList) {
+            query.setParameter(index++, name);
+            query.setParameter(index++, now);
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public long addUseCount(List<Long> tagIdList, long count) {
+        return jpaQueryFactory.update(qTag)
+                .set(qTag.useCount, qTag.useCount.add(count))
+                .where(qTag.id.in(tagIdList))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findExistIdList(List<Long> tagIdList) {
+        return jpaQueryFactory.select(qTag.id).from(qTag).where(qTag.id.in(tagIdList)).fetch();
+    }
+
+    // article_tag 기준으로 전체 다시 계산
+    @Override
+    public long recountUse() {
+        return jpaQueryFactory.update(qTag)
+                .set(qTag.useCount, JPAExpressions.select(qArticleTag.count()).from(qArticleTag).where(qArticleTag.tag.id.eq(qTag.id)))
+                .execute();
+    }
+
+    @Override
+    public List<Tag> findUnused(LocalDateTime createDate, int size) {
+        return jpaQueryFactory.selectFrom(qTag)
+                .where(qTag.useCount.loe(0L).and(qTag.createDate.before(createDate)))
+                .limit(size)
+                .fetch();
+    }
+
+    // 사용 수가 0 이고 실제로도 어떤 게시물에도 달려있지 않은 태그만 삭제
+    @Override
+    public long deleteUnused(List<Long> tagIdList) {
+        return jpaQueryFactory.delete(qTag)
+                .where(qTag.id.in(tagIdList)
+                        .and(qTag.useCount.loe(0L))
+                        .and(JPAExpressions.selectOne().from(qArticleTag).where(qArticleTag.tag.id.eq(qTag.id)).notExists()))
+                .execute();
+    }
 }
@@ -1,85 +1,92 @@
 package com.second_team.apt_project.repositories.customs.impls;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.QueryResults;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.second_team.apt_project.domains.QApt;
+import com.second_team.apt_project.domains.QProfile;
 import com.second_team.apt_project.domains.QSiteUser;
 import com.second_team.apt_project.domains.SiteUser;
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.records.UserCursorRecord;
 import com.second_team.apt_project.repositories.customs.UserRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
 
     QSiteUser qSiteUser = QSiteUser.siteUser;
+    QApt qApt = QApt.apt;
+    QProfile qProfile = QProfile.profile;
 
     @Override
     public List<SiteUser> isDuplicateEmail(String email) {
         return jpaQueryFactory.select(qSiteUser).from(qSiteUser).where(qSiteUser.email.eq(email)).fetch();
     }
 
+    // 권한, 동, 호, username 순 - idx_site_user_household 인덱스 순서와 같음
     @Override
     public Page<SiteUser> findByUserList(Pageable pageable, Long aptId) {
-        JPAQuery<SiteUser> query = jpaQueryFactory.selectFrom(qSiteUser)
+        QueryResults<SiteUser> results = jpaQueryFactory.selectFrom(qSiteUser)
                 .where(qSiteUser.apt.id.eq(aptId))
-                .orderBy(qSiteUser.role.asc())
-                .orderBy(qSiteUser.username.asc()).offset(pageable.getOffset()).limit(pageable.getPageSize());
-
-        QueryResults<SiteUser> results = query.fetchResults();
-        List<SiteUser> sortedResults = results.getResults().stream()
-                .sorted(this::compareUsernames)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(sortedResults, pageable, results.getTotal());
+                .orderBy(qSiteUser.role.asc(), qSiteUser.dong.asc(), qSiteUser.ho.asc(), qSiteUser.username.asc())
+                .offset(pageable.getOffset()).limit(pageable.getPageSize())
+                .fetchResults();
+        return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
-    private int compareUsernames(SiteUser user1, SiteUser user2) {
-        String username1 = user1.getUsername();
-        String username2 = user2.getUsername();
-
-        ParsedUsername parsed1 = parseUsername(username1);
-        ParsedUsername parsed2 = parseUsername(username2);
-
-        int middleNumberComparison = parsed1.middleNumber.compareTo(parsed2.middleNumber);
-        if (middleNumberComparison != 0) {
-            return middleNumberComparison;
-        }
-
-        return parsed1.suffixNumber.compareTo(parsed2.suffixNumber);
+    // 커서 다음부터 size 개 - 커서가 null 이면 처음부터
+    @Override
+    public List<SiteUser> findByUserCursor(Long aptId, UserCursorRecord cursor, int size) {
+        BooleanBuilder where = new BooleanBuilder(qSiteUser.apt.id.eq(aptId));
+        if (cursor != null)
+            where.and(qSiteUser.role.gt(cursor.role())
+                    .or(qSiteUser.role.eq(cursor.role()).and(qSiteUser.dong.gt(cursor.dong())))
+                    .or(qSiteUser.role.eq(cursor.role()).and(qSiteUser.dong.eq(cursor.dong())).and(qSiteUser.ho.gt(cursor.ho())))
+                    .or(qSiteUser.role.eq(cursor.role()).and(qSiteUser.dong.eq(cursor.dong())).and(qSiteUser.ho.eq(cursor.ho())).and(qSiteUser.username.gt(cursor.username()))));
+        return jpaQueryFactory.selectFrom(qSiteUser)
+                .where(where)
+                .orderBy(qSiteUser.role.asc(), qSiteUser.dong.asc(), qSiteUser.ho.asc(), qSiteUser.username.asc())
+                .limit(size)
+                .fetch();
     }
 
-    private ParsedUsername parseUsername(String username) {
-        Pattern pattern = Pattern.compile("^(\\d+_\\d+)_(\\d+)$");
-        Matcher matcher = pattern.matcher(username);
-        if (matcher.find()) {
-            String prefix = matcher.group(1);
-            Integer middleNumber = Integer.parseInt(prefix.split("_")[1]);
-            Integer suffixNumber = Integer.parseInt(matcher.group(2));
-            return new ParsedUsername(middleNumber, suffixNumber);
-        }
-        return new ParsedUsername(0, 0);
+    @Override
+    public List<SiteUser> findByHouseholdUnset(String lastUsername, int size) {
+        return jpaQueryFactory.selectFrom(qSiteUser)
+                .where(qSiteUser.dong.eq(0).and(qSiteUser.username.gt(lastUsername)).and(qSiteUser.username.like("%!_%!_%", '!')))
+                .orderBy(qSiteUser.username.asc())
+                .limit(size)
+                .fetch();
     }
 
-    private static class ParsedUsername {
-        Integer middleNumber;
-        Integer suffixNumber;
+    @Override
+    public SiteUser findByUsername(String username) {
+        return jpaQueryFactory.selectFrom(qSiteUser).where(qSiteUser.username.eq(username)).fetchOne();
+    }
 
-        ParsedUsername(Integer middleNumber, Integer suffixNumber) {
-            this.middleNumber = middleNumber;
-            this.suffixNumber = suffixNumber;
-        }
+    // 사용자, 아파트 ID, 권한과 프로필 주인을 한 번에 조회
+    @Override
+    public ActorRecord findActor(String username, Long profileId) {
+        QSiteUser qOwner = new QSiteUser("owner");
+        return jpaQueryFactory.select(Projections.constructor(ActorRecord.class,
+                        qSiteUser.username, qSiteUser.role, qApt.id, qProfile.id, qOwner.username))
+                .from(qSiteUser)
+                .leftJoin(qSiteUser.apt, qApt)
+                .leftJoin(qProfile).on(profileId != null ? qProfile.id.eq(profileId) : qProfile.id.isNull())
+                .leftJoin(qProfile.user, qOwner)
+                .where(qSiteUser.username.eq(username))
+                .fetchOne();
     }
 
     @Override
-    public SiteUser findByUsername(String username) {
-        return jpaQueryFactory.selectFrom(qSiteUser).where(qSiteUser.username.eq(username)).fetchOne();
+    public List<String> findExistUsernameList(List<String> usernameList) {
+        return jpaQueryFactory.select(qSiteUser.username).from(qSiteUser).where(qSiteUser.username.in(usernameList)).fetch();
     }
 }
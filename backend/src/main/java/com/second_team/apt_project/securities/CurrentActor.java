@@ -0,0 +1,38 @@
+package com.second_team.apt_project.securities;
+
+import com.second_team.apt_project.records.ActorRecord;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Objects;
+
+/**
+ * 요청마다 한 번만 조회한 사용자/프로필 정보
+ * JwtTokenFilter 에서 토큰과 PROFILE_ID 헤더로 채우고 서비스에서 다시 사용한다.
+ */
+@Component
+@RequestScope
+public class CurrentActor {
+    private String username;
+    private Long profileId;
+    private ActorRecord actor;
+
+    public void set(String username, Long profileId, ActorRecord actor) {
+        this.username = username;
+        this.profileId = profileId;
+        this.actor = actor;
+    }
+
+    // 같은 사용자, 같은 프로필로 조회한 결과만 돌려줌
+    public ActorRecord get(String username, Long profileId) {
+        if (actor == null || !Objects.equals(this.username, username) || !Objects.equals(this.profileId, profileId))
+            return null;
+        return actor;
+    }
+
+    // 권한과 아파트는 프로필과 상관없으므로 사용자만 같으면 돌려줌
+    public ActorRecord get(String username) {
+        if (actor == null || !Objects.equals(this.username, username)) return null;
+        return actor;
+    }
+}
@@ -1,6 +1,7 @@
 package com.second_team.apt_project.securities;
 
 import com.second_team.apt_project.domains.SiteUser;
+import com.second_team.apt_project.records.ActorRecord;
 import com.second_team.apt_project.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,4 +24,8 @@ public class UserSecurityService implements UserDetailsService {
         UserDetails userDetails = new CustomUserDetails(_siteUser.get());
         return userDetails;
     }
-}
\ No newline at end of file
+
+    public ActorRecord loadActor(String username, Long profileId) {
+        return this.userRepository.findActor(username, profileId);
+    }
+}
@@ -1,5 +1,7 @@
 package com.second_team.apt_project.securities.jwt;
 
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.securities.CurrentActor;
 import com.second_team.apt_project.securities.UserSecurityService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,27 +9,37 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserSecurityService customUserDetailsService;
+    private final CurrentActor currentActor;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = getTokenFromRequest(request);
-        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-            UsernamePasswordAuthenticationToken authentication = getAuthenticationFromToken(accessToken);
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        String username = accessToken != null ? jwtTokenProvider.getVerifiedUsername(accessToken) : null;
+        if (username != null) {
+            // 사용자, 프로필, 권한을 한 번에 조회해서 요청 동안 재사용
+            Long profileId = getProfileIdFromRequest(request);
+            ActorRecord actor = customUserDetailsService.loadActor(username, profileId);
+            if (actor != null) {
+                currentActor.set(username, profileId, actor);
+                UsernamePasswordAuthenticationToken authentication = getAuthenticationFromActor(actor);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
@@ -40,9 +52,19 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private UsernamePasswordAuthenticationToken getAuthenticationFromToken(String token) {
-        String userId = jwtTokenProvider.getUsernameFromToken(token);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    private Long getProfileIdFromRequest(HttpServletRequest request) {
+        String profileId = request.getHeader("PROFILE_ID");
+        if (!StringUtils.hasText(profileId)) return null;
+        try {
+            return Long.parseLong(profileId.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private UsernamePasswordAuthenticationToken getAuthenticationFromActor(ActorRecord actor) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        if (actor.role() != null) authorities.add(new SimpleGrantedAuthority(actor.role().getValue()));
+        return new UsernamePasswordAuthenticationToken(actor.username(), null, authorities);
     }
-}
\ No newline at end of file
+}
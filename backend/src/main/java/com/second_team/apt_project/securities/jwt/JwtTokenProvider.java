@@ -2,15 +2,23 @@ package com.second_team.apt_project.securities.jwt;
 
 import com.second_team.apt_project.securities.CustomUserDetails;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Component
 public class JwtTokenProvider {
     @Value("${jwt.secret}")
@@ -19,6 +27,17 @@ public class JwtTokenProvider {
     private Long jwtAccessTokenExpirationTime;
     @Value("${jwt.refreshTokenExpirationTime}")
     private Long jwtRefreshTokenExpirationTime;
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxCacheSize;
+
+    private JwtParser jwtParser;
+    // 토큰 SHA-256 -> 검증된 claims, 토큰 만료 시각까지만 사용
+    private final Map<String, Claims> claimsMap = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(jwtSecretKey).build();
+    }
 
     // 토근 생성
     public String generateAccessToken(Authentication authentication) {
@@ -50,46 +69,67 @@ public class JwtTokenProvider {
 
     // 토근 분석
     public String getUserPhoneFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtSecretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .get("user-email", String.class);
+        return this.getClaims(token).get("user-email", String.class);
     }
 
     public String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtSecretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return this.getClaims(token).getSubject();
     }
 
     public Date getExpirationFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtSecretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return this.getClaims(token).getExpiration();
     }
 
     // 유효성 검사
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecretKey).parseClaimsJws(token);
+            this.getClaims(token);
             return true;
-        } catch (SignatureException ex) {
-            System.out.println("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            System.out.println("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            System.out.println("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            System.out.println("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            System.out.println("JWT claims string is empty.");
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Invalid JWT token: {}", ex.getMessage());
         }
         return false;
     }
 
-}
\ No newline at end of file
+    // 유효하지 않으면 null
+    public String getVerifiedUsername(String token) {
+        try {
+            return this.getClaims(token).getSubject();
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Invalid JWT token: {}", ex.getMessage());
+        }
+        return null;
+    }
+
+    public int getCacheSize() {
+        return claimsMap.size();
+    }
+
+    // 같은 토큰은 만료 전까지 한 번만 서명 검증과 파싱을 함
+    private Claims getClaims(String token) {
+        if (token == null || token.isBlank()) throw new IllegalArgumentException("JWT claims string is empty.");
+        String key = this.digest(token);
+        Claims claims = claimsMap.get(key);
+        long now = System.currentTimeMillis();
+        if (claims != null) {
+            if (claims.getExpiration() == null || claims.getExpiration().getTime() > now) return claims;
+            claimsMap.remove(key);
+        }
+        claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claimsMap.size() >= maxCacheSize) {
+            claimsMap.values().removeIf(cached -> cached.getExpiration() != null && cached.getExpiration().getTime() <= now);
+            if (claimsMap.size() >= maxCacheSize) claimsMap.clear();
+        }
+        claimsMap.put(key, claims);
+        return claims;
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
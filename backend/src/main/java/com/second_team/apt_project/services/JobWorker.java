@@ -0,0 +1,112 @@
+package com.second_team.apt_project.services;
+
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.dtos.JobResponseDTO;
+import com.second_team.apt_project.enums.JobStatus;
+import com.second_team.apt_project.services.module.JobService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * DB 의 대기중 작업을 가져와 전용 스레드에서 실행
+ * 진행 상황은 job 테이블에 저장하고 /api/sub/job/{id} 로도 전송한다.
+ * 실행중인 작업은 주기적으로 하트비트를 남겨서 다른 서버가 되살리지 않게 한다.
+ */
+@Service
+public class JobWorker {
+    private final JobService jobService;
+    private final MultiService multiService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService jobExecutor;
+    private final int threads;
+    private final Set<Long> runningIdSet = ConcurrentHashMap.newKeySet();
+
+    public JobWorker(JobService jobService, MultiService multiService, SimpMessagingTemplate messagingTemplate,
+                     @Value("${job.worker.threads:2}") int threads) {
+        this.jobService = jobService;
+        this.multiService = multiService;
+        this.messagingTemplate = messagingTemplate;
+        this.threads = Math.max(1, threads);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.jobExecutor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${job.poll.interval:1000}")
+    public void poll() {
+        int free = threads - runningIdSet.size();
+        if (free <= 0) return;
+        List<Long> idList = jobService.getWaitingIdList(free);
+        for (Long id : idList) {
+            if (!jobService.claim(id)) continue;
+            runningIdSet.add(id);
+            jobExecutor.execute(() -> {
+                try {
+                    this.run(id);
+                } finally {
+                    runningIdSet.remove(id);
+                }
+            });
+        }
+    }
+
+    // job.stale-timeout 보다 충분히 짧아야 함
+    @Scheduled(fixedDelayString = "${job.heartbeat.interval:30000}")
+    public void heartbeat() {
+        jobService.heartbeat(new ArrayList<>(runningIdSet));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(Long id) {
+        Job job = jobService.get(id);
+        if (job == null) return;
+        BiConsumer<Integer, Integer> progress = (done, total) -> {
+            jobService.progress(id, done, total);
+            this.send(id, JobStatus.RUNNING, done, total, null);
+        };
+        try {
+            String message = switch (job.getType()) {
+                case PROVISION -> multiService.runProvisionJob(job, progress);
+                case DELETE_USER -> multiService.runDeleteUserJob(job, progress);
+                case SEND_EMAIL -> multiService.runEmailJob(job, progress);
+            };
+            jobService.finish(id, JobStatus.DONE, message);
+            this.send(id, JobStatus.DONE, null, null, message);
+        } catch (Throwable ex) {
+            // Error 도 실패로 남겨야 하트비트가 끊긴 뒤 되살아나 다시 실행되지 않음
+            String message = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+            jobService.finish(id, JobStatus.FAILED, message);
+            this.send(id, JobStatus.FAILED, null, null, message);
+            if (ex instanceof Error error) throw error;
+        }
+    }
+
+    private void send(Long id, JobStatus status, Integer done, Integer total, String message) {
+        messagingTemplate.convertAndSend("/api/sub/job/" + id, JobResponseDTO.builder()
+                .id(id)
+                .status(status.name())
+                .done(done)
+                .total(total)
+                .message(message)
+                .build());
+    }
+}
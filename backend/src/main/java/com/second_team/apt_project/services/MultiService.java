@@ -1,26 +1,53 @@
 package com.second_team.apt_project.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.second_team.apt_project.AptProjectApplication;
 import com.second_team.apt_project.domains.*;
 import com.second_team.apt_project.dtos.*;
 import com.second_team.apt_project.enums.ImageKey;
+import com.second_team.apt_project.enums.JobType;
 import com.second_team.apt_project.enums.Sorts;
 import com.second_team.apt_project.enums.UserRole;
 import com.second_team.apt_project.exceptions.DataDuplicateException;
 import com.second_team.apt_project.exceptions.DataNotFoundException;
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.records.ArticleCursorRecord;
+import com.second_team.apt_project.records.ArticleStateRecord;
+import com.second_team.apt_project.records.ArticleSummaryRecord;
+import com.second_team.apt_project.records.CascadeRecord;
+import com.second_team.apt_project.records.CommentPathRecord;
+import com.second_team.apt_project.records.DeleteUserJobRecord;
+import com.second_team.apt_project.records.ProvisionJobRecord;
+import com.second_team.apt_project.records.ProvisionRecord;
+import com.second_team.apt_project.records.ResidentRecord;
+import com.second_team.apt_project.records.SweepRecord;
+import com.second_team.apt_project.records.TagCountRecord;
 import com.second_team.apt_project.records.TokenRecord;
+import com.second_team.apt_project.records.UserCursorRecord;
+import com.second_team.apt_project.securities.CurrentActor;
 import com.second_team.apt_project.securities.CustomUserDetails;
 import com.second_team.apt_project.securities.jwt.JwtTokenProvider;
 import com.second_team.apt_project.services.module.*;
+import com.second_team.apt_project.utils.TxUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -28,13 +55,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MultiService {
@@ -43,12 +74,24 @@ public class MultiService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AptService aptService;
     private final FileSystemService fileSystemService;
+    private final FileBlobService fileBlobService;
+    private final ImageVariantService imageVariantService;
     private final ProfileService profileService;
     private final CategoryService categoryService;
     private final MultiKeyService multiKeyService;
     private final ArticleService articleService;
     private final TagService tagService;
+    private final TagIndexService tagIndexService;
+    private final CurrentActor currentActor;
+    private final UserProvisionService userProvisionService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
     private final ArticleTagService articleTagService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleCacheService articleCacheService;
+    private final ArticleViewService articleViewService;
+    private final LoveCountService loveCountService;
     private final LoveService loveService;
     private final CommentService commentService;
     private final CultureCenterService cultureCenterService;
@@ -58,6 +101,13 @@ public class MultiService {
     private final ChatRoomUserService chatRoomUserService;
     private final ChatMessageService chatMessageService;
     private final ProposeService proposeService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${article.soft-delete:true}")
+    private boolean softDelete;
+
+    @Value("${user.delete.chunk-size:500}")
+    private int cascadeSize;
 
     /**
      * Auth
@@ -68,10 +118,9 @@ public class MultiService {
         String username = null;
         String body = "logout";
         if (accessToken != null && accessToken.length() > 7) {
-            String token = accessToken.substring(7);
-            if (this.jwtTokenProvider.validateToken(token)) {
+            username = this.jwtTokenProvider.getVerifiedUsername(accessToken.substring(7));
+            if (username != null) {
                 httpStatus = HttpStatus.OK;
-                username = this.jwtTokenProvider.getUsernameFromToken(token);
                 body = "okay";
             } else {
                 httpStatus = HttpStatus.UNAUTHORIZED;
@@ -89,8 +138,8 @@ public class MultiService {
 
     @Transactional
     public String refreshToken(String refreshToken) {
-        if (this.jwtTokenProvider.validateToken(refreshToken)) {
-            String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
+        String username = this.jwtTokenProvider.getVerifiedUsername(refreshToken);
+        if (username != null) {
             SiteUser user = userService.get(username);
             if (user != null) {
                 return this.jwtTokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), user.getPassword()));
@@ -118,20 +167,51 @@ public class MultiService {
     /**
      * User
      */
-    @Transactional
-    private void userCheck(SiteUser user, Profile profile) {
-        if (user == null) throw new DataNotFoundException("유저 객체 없음");
-        if (profile == null) throw new DataNotFoundException("프로필 객체 없음");
-        if (profile.getUser() != user) throw new IllegalArgumentException("유저와 일치 X");
+    // 사용자/프로필 확인 - 요청 안에서는 필터가 조회한 결과를 그대로 사용
+    private ActorRecord actor(String username, Long profileId) {
+        boolean inRequest = RequestContextHolder.getRequestAttributes() != null;
+        ActorRecord actor = inRequest ? currentActor.get(username, profileId) : null;
+        if (actor == null) {
+            actor = userService.getActor(username, profileId);
+            if (actor != null && inRequest) currentActor.set(username, profileId, actor);
+        }
+        if (actor == null) throw new DataNotFoundException("유저 객체 없음");
+        if (actor.profileId() == null) throw new DataNotFoundException("프로필 객체 없음");
+        if (!actor.username().equals(actor.profileOwner())) throw new IllegalArgumentException("유저와 일치 X");
+        return actor;
+    }
+
+    // 프로필 없이 권한/아파트만 필요한 경우 (없으면 null)
+    private ActorRecord userActor(String username) {
+        boolean inRequest = RequestContextHolder.getRequestAttributes() != null;
+        ActorRecord actor = inRequest ? currentActor.get(username) : null;
+        return actor != null ? actor : userService.getActor(username, null);
+    }
+
+    // 요청한 사용자의 아파트인지 (엔티티 비교 대신 ID 비교)
+    private boolean sameApt(ActorRecord actor, Apt apt) {
+        return apt != null && apt.getId().equals(actor.aptId());
+    }
+
+    // 요청한 프로필인지
+    private boolean isActor(ActorRecord actor, Profile profile) {
+        return profile != null && profile.getId().equals(actor.profileId());
     }
 
     @Transactional
     private UserResponseDTO getUserResponseDTO(SiteUser siteUser) {
+        return this.getUserResponseDTO(siteUser, this.getAptResponseDTO(siteUser.getApt()));
+    }
+
+    // 같은 아파트 유저 목록은 아파트 정보를 한 번만 만들어서 공유
+    private UserResponseDTO getUserResponseDTO(SiteUser siteUser, AptResponseDTO aptResponseDTO) {
         return UserResponseDTO.builder()
                 .aptNum(siteUser.getAptNum())
+                .dong(siteUser.getDong())
+                .ho(siteUser.getHo())
                 .username(siteUser.getUsername())
                 .email(siteUser.getEmail())
-                .aptResponseDTO(this.getAptResponseDTO(siteUser.getApt()))
+                .aptResponseDTO(aptResponseDTO)
                 .createDate(this.dateTimeTransfer(siteUser.getCreateDate()))
                 .modifyDate(this.dateTimeTransfer(siteUser.getModifyDate()))
                 .role(siteUser.getRole().toString())
@@ -140,13 +220,11 @@ public class MultiService {
 
     @Transactional
     public UserResponseDTO saveUser(String name, String password, String email, int aptNumber, int role, Long aptId, String username, Long profileId) {
-            SiteUser user = userService.get(username);
-            Profile profile = profileService.findById(profileId);
-            this.userCheck(user, profile);
+            ActorRecord actor = this.actor(username, profileId);
             Apt apt = aptService.get(aptId);
             if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
-            if (user.getRole() != UserRole.ADMIN)
-                if (!user.getApt().equals(apt) && user.getRole() == UserRole.SECURITY)
+            if (actor.role() != UserRole.ADMIN)
+                if (!this.sameApt(actor, apt) && actor.role() == UserRole.SECURITY)
                     throw new IllegalArgumentException("권한 불일치");
             if (email != null) userService.userEmailCheck(email);
             SiteUser siteUser = userService.save(name, password, email, aptNumber, role, apt);
@@ -154,79 +232,133 @@ public class MultiService {
 
     }
 
+    public ProvisionResponseDTO getProvision(String username, Long profileId, Long aptId) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin() && !(actor.role() == UserRole.SECURITY && aptId.equals(actor.aptId())))
+            throw new IllegalArgumentException("권한 불일치");
+        ProvisionRecord progress = userProvisionService.getProgress(aptId);
+        if (progress == null) throw new DataNotFoundException("진행 중인 작업 없음");
+        return this.provisionResponseDTO(progress);
+    }
+
+    private ProvisionResponseDTO provisionResponseDTO(ProvisionRecord progress) {
+        return ProvisionResponseDTO.builder()
+                .aptId(progress.aptId())
+                .total(progress.total())
+                .done(progress.done())
+                .created(progress.created())
+                .skipped(progress.done() - progress.created())
+                .elapsedMillis(progress.elapsedMillis())
+                .perSecond(progress.perSecond())
+                .finished(progress.finished())
+                .error(progress.error())
+                .build();
+    }
+
     @Transactional
     public List<UserResponseDTO> saveUserGroup(int min, int max, Long aptId, String username, int h, int w, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Apt apt = aptService.get(aptId);
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
-        if (user.getRole() != UserRole.ADMIN)
-            if (!user.getApt().equals(apt) && user.getRole() == UserRole.SECURITY)
+        if (actor.role() != UserRole.ADMIN)
+            if (!this.sameApt(actor, apt) && actor.role() == UserRole.SECURITY)
                 throw new IllegalArgumentException("권한 불일치");
         List<UserResponseDTO> userResponseDTOList = new ArrayList<>();
 
-        if (user.getRole() == UserRole.SECURITY || user.getRole() == UserRole.ADMIN) {
-            for (int aptNum = min; aptNum <= max; aptNum++) {  // min부터 max까지 각 동에 대해 반복
-                for (int i = 1; i <= h; i++) {  // 층수에 대한 반복
-                    for (int j = 1; j <= w; j++) {  // 층당 세대수에 대한 반복
-                        String jKey = String.valueOf(j);
-                        if (j < 10) jKey = "0" + jKey;  // 세대수가 한자리일 때 0을 붙임
-
-                        String name = aptNum + "_" + String.valueOf(i) + jKey;  // 아파트 번호 생성
-                        SiteUser _user = userService.saveGroup(name, aptNum, apt);// 사용자 그룹 저장
-                        if (aptNum == min && i == 1 && j == 1 || aptNum == max && i == h && j == w){
-                            userResponseDTOList.add(
-                                    UserResponseDTO.builder()
-                                            .username(_user.getUsername())
-                                            .aptNum(_user.getAptNum())
-                                            .aptResponseDTO(this.getAptResponseDTO(apt))
-                                            .build()
-                            );
-                         }
-                    }
-                }
-            }
-            this.userService.save(aptId + "_security", aptId + "_security", aptId + "security@security.co.kr", 0, 1, apt);
+        if (actor.role() == UserRole.SECURITY || actor.role() == UserRole.ADMIN) {
+            List<ResidentRecord> residentList = this.provisionResidents(apt, min, max, h, w, null);
+            AptResponseDTO aptResponseDTO = this.getAptResponseDTO(apt);
+            if (!residentList.isEmpty())
+                for (ResidentRecord resident : List.of(residentList.getFirst(), residentList.getLast()))
+                    userResponseDTOList.add(
+                            UserResponseDTO.builder()
+                                    .username(resident.username())
+                                    .aptNum(resident.aptNum())
+                                    .dong(resident.dong())
+                                    .ho(resident.ho())
+                                    .aptResponseDTO(aptResponseDTO)
+                                    .build()
+                    );
             return userResponseDTOList;
         } else {
             throw new IllegalArgumentException("권한 불일치");
         }
     }
 
+    // 해시는 병렬로, 저장은 묶음 단위로 - 진행 상황은 /api/sub/provision/{aptId} 로 전송
+    private List<ResidentRecord> provisionResidents(Apt apt, int min, int max, int h, int w, Consumer<ProvisionRecord> listener) {
+        List<ResidentRecord> residentList = new ArrayList<>();
+        for (int aptNum = min; aptNum <= max; aptNum++) {  // min부터 max까지 각 동에 대해 반복
+            for (int i = 1; i <= h; i++) {  // 층수에 대한 반복
+                for (int j = 1; j <= w; j++) {  // 층당 세대수에 대한 반복
+                    String jKey = String.valueOf(j);
+                    if (j < 10) jKey = "0" + jKey;  // 세대수가 한자리일 때 0을 붙임
+
+                    String name = aptNum + "_" + String.valueOf(i) + jKey;  // 아파트 번호 생성
+                    residentList.add(new ResidentRecord(apt.getId() + "_" + name, aptNum, aptNum, Integer.parseInt(i + jKey)));
+                }
+            }
+        }
+        userProvisionService.provision(apt.getId(), residentList, progress -> {
+            messagingTemplate.convertAndSend("/api/sub/provision/" + progress.aptId(), this.provisionResponseDTO(progress));
+            if (listener != null) listener.accept(progress);
+        });
+        this.userService.saveIfAbsent(apt.getId() + "_security", apt.getId() + "_security", apt.getId() + "security@security.co.kr", 0, 1, apt);
+        return residentList;
+    }
+
 
     @Transactional
     public Page<UserResponseDTO> getUserList(int page, Long aptId, String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Apt apt = aptService.get(aptId);
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
         Pageable pageable = PageRequest.of(page, 10);
         Page<SiteUser> userList = userService.getUserList(pageable, aptId);
         List<UserResponseDTO> responseDTOList = new ArrayList<>();
-        if (user.getRole() != UserRole.ADMIN)
-            if (!user.getApt().equals(apt) && user.getRole() == UserRole.SECURITY)
+        if (actor.role() != UserRole.ADMIN)
+            if (!this.sameApt(actor, apt) && actor.role() == UserRole.SECURITY)
                 throw new IllegalArgumentException("권한 불일치");
+        AptResponseDTO aptResponseDTO = this.getAptResponseDTO(apt);
         for (SiteUser siteUser : userList) {
 
-            UserResponseDTO userResponseDTO = getUserResponseDTO(siteUser);
+            UserResponseDTO userResponseDTO = getUserResponseDTO(siteUser, aptResponseDTO);
             responseDTOList.add(userResponseDTO);
         }
         return new PageImpl<>(responseDTOList, pageable, userList.getTotalElements());
     }
 
+    @Transactional
+    public UserFeedResponseDTO getUserFeed(String cursor, Long aptId, String username, Long profileId) {
+        ActorRecord actor = this.actor(username, profileId);
+        Apt apt = aptService.get(aptId);
+        if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
+        if (actor.role() != UserRole.ADMIN)
+            if (!this.sameApt(actor, apt) && actor.role() == UserRole.SECURITY)
+                throw new IllegalArgumentException("권한 불일치");
+        int size = 20;
+        // 다음 페이지 존재 여부 확인용으로 한 개 더 조회
+        List<SiteUser> userList = userService.getUserCursor(aptId, UserCursorRecord.decode(cursor), size + 1);
+        String nextCursor = null;
+        if (userList.size() > size) {
+            userList = userList.subList(0, size);
+            SiteUser last = userList.getLast();
+            nextCursor = UserCursorRecord.builder().role(last.getRole()).dong(last.getDong()).ho(last.getHo()).username(last.getUsername()).build().encode();
+        }
+        AptResponseDTO aptResponseDTO = this.getAptResponseDTO(apt);
+        List<UserResponseDTO> userResponseDTOList = userList.stream().map(siteUser -> this.getUserResponseDTO(siteUser, aptResponseDTO)).toList();
+        return UserFeedResponseDTO.builder().userResponseDTOList(userResponseDTOList).nextCursor(nextCursor).build();
+    }
+
     @Transactional
     public UserResponseDTO getUserDetail(String userId, String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         SiteUser user1 = userService.getUser(userId);
         if (user1 == null)
             throw new DataNotFoundException("타깃 유저 객체 없음");
         Apt apt = aptService.get(user1.getApt().getId());
-        if (user.getRole() != UserRole.ADMIN)
-            if (!user.getApt().equals(apt) && user.getRole() == UserRole.SECURITY)
+        if (actor.role() != UserRole.ADMIN)
+            if (!this.sameApt(actor, apt) && actor.role() == UserRole.SECURITY)
                 throw new IllegalArgumentException("권한 불일치");
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
         return this.getUserResponseDTO(user1);
@@ -266,23 +398,22 @@ public class MultiService {
 
     @Transactional
     public void deleteUser(String username, Long profileId, String deleteUsername) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         SiteUser deleteUser = userService.get(deleteUsername);
         if (deleteUser == null)
             throw new DataNotFoundException("타겟 유저 없음");
-        if (user.getRole() != UserRole.ADMIN)
-            if (!(user.getRole().equals(UserRole.SECURITY) && user.getApt().equals(deleteUser.getApt())))
+        if (actor.role() != UserRole.ADMIN)
+            if (!(actor.role() == UserRole.SECURITY && this.sameApt(actor, deleteUser.getApt())))
                 throw new IllegalArgumentException("삭제 권한 없음");
-        this.deleteUsers(deleteUser);
+        this.deleteUsers(deleteUser, (done, total) -> {});
     }
 
-    private void deleteUsers(SiteUser user) {
-        List<Profile> profileList = profileService.findProfilesByUserList(user);
-        for (Profile profile : profileList)
-            this.deleteProfiles(user, profile);
+    private CascadeRecord deleteUsers(SiteUser user, BiConsumer<Integer, Integer> progress) {
+        List<Long> profileIdList = profileService.findProfilesByUserList(user).stream().map(Profile::getId).toList();
+        Long aptId = user.getApt() != null ? user.getApt().getId() : null;
+        CascadeRecord cascade = this.cascadeDeleteProfiles(user.getUsername(), aptId, profileIdList, progress, TransactionOperations.withoutTransaction());
         userService.deleteUser(user);
+        return cascade.add("site_user", 1);
     }
 
     @Transactional
@@ -298,23 +429,40 @@ public class MultiService {
      */
 
     private AptResponseDTO getAptResponseDTO(Apt apt) {
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.APT.getKey(apt.getId().toString()));
-        List<ImageListResponseDTO> imageListResponseDTOS = new ArrayList<>();
-        if (_multiKey.isPresent()) {
-            for (String value : _multiKey.get().getVs()) {
-                Optional<FileSystem> _fileSystem = fileSystemService.get(value);
-                _fileSystem.ifPresent(fileSystem -> imageListResponseDTOS.add(ImageListResponseDTO.builder().key(fileSystem.getK()).value(fileSystem.getV()).build()));
-            }
-        }
+        return this.getAptResponseDTO(apt, this.getImageListMap(List.of(ImageKey.APT.getKey(apt.getId().toString()))));
+    }
+
+    private AptResponseDTO getAptResponseDTO(Apt apt, Map<String, List<ImageListResponseDTO>> imageListMap) {
+        List<ImageListResponseDTO> imageListResponseDTOS = imageListMap.getOrDefault(ImageKey.APT.getKey(apt.getId().toString()), new ArrayList<>());
         return AptResponseDTO.builder().aptId(apt.getId()).aptName(apt.getAptName()).roadAddress(apt.getRoadAddress()).urlList(imageListResponseDTOS).build();
     }
 
+    /**
+     * MultiKey 별 이미지 목록
+     * MultiKey 와 FileSystem 을 각각 한 번에 (캐시 + IN 조회) 가져오고 MultiKey 의 값 순서를 유지한다.
+     */
+    private Map<String, List<ImageListResponseDTO>> getImageListMap(Collection<String> multiKeyList) {
+        Map<String, List<String>> valueMap = multiKeyService.getAll(multiKeyList);
+        Map<String, String> urlMap = fileSystemService.getAll(valueMap.values().stream().flatMap(List::stream).toList());
+        Map<String, List<ImageListResponseDTO>> imageListMap = new HashMap<>();
+        valueMap.forEach((multiKey, valueList) -> {
+            List<ImageListResponseDTO> imageList = new ArrayList<>();
+            for (String value : valueList) {
+                String url = urlMap.get(value);
+                if (url != null)
+                    imageList.add(ImageListResponseDTO.builder().key(value).value(url).variantUrlMap(imageVariantService.getUrlMap(url)).build());
+            }
+            imageListMap.put(multiKey, imageList);
+        });
+        return imageListMap;
+    }
+
     @Transactional
     public AptResponseDTO saveApt(String roadAddress, String aptName, String username) {
-        SiteUser user = userService.get(username);
-        if (user == null)
+        ActorRecord actor = this.userActor(username);
+        if (actor == null)
             throw new DataNotFoundException("유저 객체 없음");
-        if (user.getRole() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
+        if (actor.role() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
         Apt apt = aptService.save(roadAddress, aptName);
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
         return this.getAptResponseDTO(apt);
@@ -322,22 +470,20 @@ public class MultiService {
 
     @Transactional
     public AptResponseDTO updateApt(Long profileId, Long aptId, String roadAddress, String aptName, List<String> key, String username) {
-        SiteUser user = userService.get(username);
-        if (user == null) throw new DataNotFoundException("유저 객체 없음");
-        Profile profile = profileService.findById(profileId);
+        ActorRecord actor = this.actor(username, profileId);
         Apt apt = aptService.get(aptId);
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
-        if (user.getRole() != UserRole.ADMIN && (user.getRole() != UserRole.SECURITY && !user.getApt().equals(apt)))
+        if (actor.role() != UserRole.ADMIN && (actor.role() != UserRole.SECURITY && !this.sameApt(actor, apt)))
             throw new IllegalArgumentException("권한 불일치");
         apt = aptService.update(apt, roadAddress, aptName);
-        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + profile.getId()));
+        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + actor.profileId()));
         Optional<MultiKey> _oldMulti = multiKeyService.get(ImageKey.APT.getKey(apt.getId().toString()));
         if (_oldMulti.isPresent()) if (key != null) {
             for (String k : key) {
                 Optional<FileSystem> _fileSystem = fileSystemService.get(k);
                 _fileSystem.ifPresent(fileSystem -> {
                     fileSystemService.delete(fileSystem);
-                    _oldMulti.get().getVs().remove(key);
+                    multiKeyService.remove(_oldMulti.get(), k);
                     deleteFile(_fileSystem.get());
                 });
             }
@@ -367,12 +513,14 @@ public class MultiService {
 
     @Transactional
     public List<AptResponseDTO> getAptList(String username) {
-        SiteUser user = userService.get(username);
-        if (user.getRole() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
+        ActorRecord actor = this.userActor(username);
+        if (actor == null) throw new DataNotFoundException("유저 객체 없음");
+        if (actor.role() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
         List<Apt> aptList = aptService.getAptList();
         List<AptResponseDTO> responseDTOList = new ArrayList<>();
+        Map<String, List<ImageListResponseDTO>> imageListMap = this.getImageListMap(aptList.stream().map(apt -> ImageKey.APT.getKey(apt.getId().toString())).toList());
         for (Apt apt : aptList) {
-            AptResponseDTO aptResponseDTO = this.getAptResponseDTO(apt);
+            AptResponseDTO aptResponseDTO = this.getAptResponseDTO(apt, imageListMap);
             responseDTOList.add(aptResponseDTO);
         }
         return responseDTOList;
@@ -381,10 +529,11 @@ public class MultiService {
 
     @Transactional
     public AptResponseDTO getAptDetail(Long aptId, String username) {
-        SiteUser user = userService.get(username);
+        ActorRecord actor = this.userActor(username);
+        if (actor == null) throw new DataNotFoundException("유저 객체 없음");
         Apt apt = aptService.get(aptId);
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
-        if (user.getRole() != UserRole.ADMIN && (user.getRole() != UserRole.SECURITY && !user.getApt().equals(apt)))
+        if (actor.role() != UserRole.ADMIN && (actor.role() != UserRole.SECURITY && !this.sameApt(actor, apt)))
             throw new IllegalArgumentException("권한 불일치");
         return this.getAptResponseDTO(apt);
     }
@@ -395,30 +544,20 @@ public class MultiService {
 
     @Transactional
     public ImageResponseDTO tempUpload(MultipartFile fileUrl, Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         if (!fileUrl.isEmpty()) {
             try {
-                String path = AptProjectApplication.getOsType().getLoc();
-                Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.TEMP.getKey(username + "." + profile.getId()));
+                Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.TEMP.getKey(username + "." + actor.profileId()));
                 if (_fileSystem.isPresent()) {
-                    FileSystem fileSystem = _fileSystem.get();
-                    File file = new File(path + fileSystem.getV());
-                    if (file.exists()) file.delete();
+                    this.releaseFiles(List.of(_fileSystem.get().getV()), false);
                     fileSystemService.delete(_fileSystem.get());
 
                 }
-                UUID uuid = UUID.randomUUID();
-                String fileLoc = "/api/user" + "/" + username + "/temp/" + profile.getId() + "/" + uuid + "." + fileUrl.getContentType().split("/")[1];
-                FileSystem fileSystem = fileSystemService.save(ImageKey.TEMP.getKey(username + "." + profile.getId()), fileLoc);
-
-                File file = new File(path + fileLoc);
-                if (!file.getParentFile().exists()) file.getParentFile().mkdirs();
-                fileUrl.transferTo(file);
+                String fileLoc = fileBlobService.store(fileUrl);
+                FileSystem fileSystem = fileSystemService.save(ImageKey.TEMP.getKey(username + "." + actor.profileId()), fileLoc);
                 return ImageResponseDTO.builder().key(fileSystem.getK()).url(fileSystem.getV()).build();
             } catch (IOException e) {
-                e.printStackTrace();
+                log.warn("temp upload: store failed {}", username, e);
             }
         }
         return null;
@@ -430,24 +569,16 @@ public class MultiService {
         if (user == null) throw new DataNotFoundException("유저 객체 없음");
         if (!fileUrl.isEmpty()) {
             try {
-                String path = AptProjectApplication.getOsType().getLoc();
                 Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.TEMP.getKey(username));
                 if (_fileSystem.isPresent()) {
-                    FileSystem fileSystem = _fileSystem.get();
-                    File file = new File(path + fileSystem.getV());
-                    if (file.exists()) file.delete();
+                    this.releaseFiles(List.of(_fileSystem.get().getV()), false);
                     fileSystemService.delete(_fileSystem.get());
                 }
-                UUID uuid = UUID.randomUUID();
-                String fileLoc = "/api/user" + "/" + username + "/temp/" + uuid + "." + fileUrl.getContentType().split("/")[1];
+                String fileLoc = fileBlobService.store(fileUrl);
                 FileSystem fileSystem = fileSystemService.save(ImageKey.TEMP.getKey(username), fileLoc);
-
-                File file = new File(path + fileLoc);
-                if (!file.getParentFile().exists()) file.getParentFile().mkdirs();
-                fileUrl.transferTo(file);
                 return ImageResponseDTO.builder().key(fileSystem.getK()).url(fileSystem.getV()).build();
             } catch (IOException e) {
-                e.printStackTrace();
+                log.warn("temp upload: store failed {}", username, e);
             }
         }
         return null;
@@ -455,35 +586,30 @@ public class MultiService {
 
     @Transactional
     public List<ImageListResponseDTO> tempUploadList(MultipartFile fileUrl, Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         if (!fileUrl.isEmpty()) {
             try {
-                String path = AptProjectApplication.getOsType().getLoc();
-                UUID uuid = UUID.randomUUID();
-                String fileLoc = "/api/user" + "/" + username + "/temp_list/" + profile.getId() + "/" + uuid + "." + fileUrl.getContentType().split("/")[1];
-                File file = new File(path + fileLoc);
-                if (!file.getParentFile().exists()) file.getParentFile().mkdirs();
-                fileUrl.transferTo(file);
-                Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + profile.getId()));
+                String fileLoc = fileBlobService.store(fileUrl);
+                Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + actor.profileId()));
                 if (_multiKey.isEmpty()) {
-                    MultiKey multiKey = multiKeyService.save(ImageKey.TEMP.getKey(username + "." + profile.getId()), ImageKey.TEMP.getKey(username + "." + profile.getId()) + ".0");
+                    MultiKey multiKey = multiKeyService.save(ImageKey.TEMP.getKey(username + "." + actor.profileId()), ImageKey.TEMP.getKey(username + "." + actor.profileId()) + ".0");
                     fileSystemService.save(multiKey.getVs().getLast(), fileLoc);
                 } else {
-                    multiKeyService.add(_multiKey.get(), ImageKey.TEMP.getKey(username + "." + profile.getId()) + "." + _multiKey.get().getVs().size());
+                    // 먼저 올린 행도 같이 갱신해서 작성 중인 묶음이 행 단위로 만료되지 않도록
+                    fileSystemService.touch(_multiKey.get().getVs());
+                    multiKeyService.add(_multiKey.get(), ImageKey.TEMP.getKey(username + "." + actor.profileId()) + "." + _multiKey.get().getVs().size());
                     fileSystemService.save(_multiKey.get().getVs().getLast(), fileLoc);
                 }
-                Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + profile.getId()));
+                Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + actor.profileId()));
                 List<ImageListResponseDTO> imageListResponseDTOS = new ArrayList<>();
                 if (_newMultiKey.isPresent()) for (String value : _newMultiKey.get().getVs()) {
                     Optional<FileSystem> fileSystem = fileSystemService.get(value);
-                    fileSystem.ifPresent(system -> imageListResponseDTOS.add(ImageListResponseDTO.builder().key(fileSystem.get().getK()).value(fileSystem.get().getV()).build()));
+                    fileSystem.ifPresent(system -> imageListResponseDTOS.add(ImageListResponseDTO.builder().key(fileSystem.get().getK()).value(fileSystem.get().getV()).variantUrlMap(imageVariantService.getUrlMap(fileSystem.get().getV())).build()));
                 }
                 return imageListResponseDTOS;
 
             } catch (IOException e) {
-                e.printStackTrace();
+                log.warn("temp upload: store failed {}", username, e);
             }
         }
         return null;
@@ -491,14 +617,86 @@ public class MultiService {
 
     @Transactional
     private void deleteFile(FileSystem fileSystem) {
+        this.releaseFiles(List.of(fileSystem.getV()), true);
+    }
+
+    /**
+     * 내용 주소 파일은 참조만 반환하고 (실제 삭제는 FileBlobService.sweep), 예전 경로의 파일은 커밋 후 삭제
+     * folder 가 true 면 파일이 있던 폴더째, 아니면 파일만 (폴더가 비면 폴더도) 지운다.
+     */
+    private void releaseFiles(List<String> urlList, boolean folder) {
+        fileBlobService.release(urlList);
+        List<String> legacyUrlList = urlList.stream().filter(url -> !fileBlobService.isBlob(url)).toList();
+        if (legacyUrlList.isEmpty()) return;
         String path = AptProjectApplication.getOsType().getLoc();
-        Path tempPath = Paths.get(path + fileSystem.getV());
-        File file = tempPath.toFile();
-        this.deleteFolder(file.getParentFile());
+        TxUtils.afterCommit(() -> {
+            for (String url : legacyUrlList) {
+                File file = new File(path + url);
+                if (folder) this.deleteFolder(file.getParentFile());
+                else if (file.delete()) {
+                    for (Path variant : imageVariantService.getPathList(url))
+                        variant.toFile().delete();
+                    String[] rest = file.getParentFile().list();
+                    if (rest != null && rest.length == 0) this.deleteFolder(file.getParentFile());
+                }
+                imageVariantService.evict(url);
+            }
+        });
+    }
+
+    // createDate 가 없는 예전 TEMP 행을 지금 시각으로 채움 (정리 한 번에 한 번만)
+    @Transactional
+    public long fillTempCreateDate() {
+        String prefix = ImageKey.TEMP.getKey("");
+        return fileSystemService.fillCreateDate(prefix) + multiKeyService.fillCreateDate(prefix);
+    }
+
+    /**
+     * 만료된 임시 업로드 한 묶음 정리
+     * 오래된 TEMP MultiKey 와 그 FileSystem 행, 오래된 TEMP FileSystem 행을 지우고 파일을 반환한다.
+     */
+    @Transactional
+    public SweepRecord sweepTempUploads(LocalDateTime before, int size) {
+        String prefix = ImageKey.TEMP.getKey("");
+        List<MultiKey> multiKeyList = multiKeyService.getExpiredList(prefix, before, size);
+        Map<String, FileSystem> fileSystemMap = new LinkedHashMap<>();
+        for (FileSystem fileSystem : fileSystemService.getList(multiKeyList.stream().flatMap(multiKey -> multiKey.getVs().stream()).distinct().toList()))
+            fileSystemMap.put(fileSystem.getK(), fileSystem);
+        for (FileSystem fileSystem : fileSystemService.getExpiredList(prefix, before, size))
+            fileSystemMap.put(fileSystem.getK(), fileSystem);
+        if (multiKeyList.isEmpty() && fileSystemMap.isEmpty()) return new SweepRecord(0, 0, 0);
+
+        List<String> urlList = fileSystemMap.values().stream().map(FileSystem::getV).toList();
+        String path = AptProjectApplication.getOsType().getLoc();
+        long files = 0;
+        long bytes = 0;
+        for (String url : urlList) {
+            if (fileBlobService.isBlob(url)) continue;
+            File file = new File(path + url);
+            if (file.isFile()) {
+                files++;
+                bytes += file.length();
+            }
+        }
+        this.releaseFiles(urlList, false);
+        long rows = fileSystemService.deleteByKeyList(new ArrayList<>(fileSystemMap.keySet()));
+        rows += multiKeyService.deleteByKeyList(multiKeyList.stream().map(MultiKey::getK).toList());
+        return new SweepRecord(rows, files, bytes);
     }
 
     @Transactional
     public String fileMove(String url, String newUrl, FileSystem fileSystem) {
+        String movedUrl = this.moveFile(url, newUrl);
+        fileSystemService.delete(fileSystem);
+        return movedUrl;
+    }
+
+    // 내용 주소 파일은 옮기지 않고 주소를 그대로 씀 (새 FileSystem 행이 참조를 넘겨받음)
+    private String moveFile(String url, String newUrl) {
+        if (fileBlobService.isBlob(url)) {
+            imageVariantService.request(url);
+            return url;
+        }
         try {
             String path = AptProjectApplication.getOsType().getLoc();
             Path tempPath = Paths.get(path + url);
@@ -506,10 +704,12 @@ public class MultiService {
 
             Files.createDirectories(newPath.getParent());
             Files.move(tempPath, newPath);
+            // 이동해도 수정 시각은 그대로라서 고아 파일 정리 대상이 되지 않도록 갱신
+            Files.setLastModifiedTime(newPath, FileTime.fromMillis(System.currentTimeMillis()));
             File file = tempPath.toFile();
             if (file.getParentFile().list().length == 0) this.deleteFolder(file.getParentFile());
             else file.delete();
-            fileSystemService.delete(fileSystem);
+            imageVariantService.request(newUrl + tempPath.getFileName());
             return newUrl + tempPath.getFileName();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -519,20 +719,13 @@ public class MultiService {
 
     @Transactional
     public void deleteImageList(String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId().toString()));
-        String path = AptProjectApplication.getOsType().getLoc();
+        ActorRecord actor = this.actor(username, profileId);
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId().toString()));
         if (_multiKey.isPresent()) {
             for (String value : _multiKey.get().getVs()) {
                 Optional<FileSystem> _fileSystem = fileSystemService.get(value);
                 if (_fileSystem.isPresent()) {
-                    File file = new File(path + _fileSystem.get().getV());
-                    if (file.exists()) {
-                        if (file.getParentFile().list().length == 0) this.deleteFolder(file.getParentFile());
-                        else file.delete();
-                    }
+                    this.releaseFiles(List.of(_fileSystem.get().getV()), false);
                     fileSystemService.delete(_fileSystem.get());
                 }
             }
@@ -576,24 +769,33 @@ public class MultiService {
                 FileSystem fileSystem = fileSystemService.save(ImageKey.USER.getKey(username + "." + profile.getId()), newUrl);
                 url = fileSystem.getV();
             }
-            return ProfileResponseDTO.builder().id(profile.getId()).url(url).name(profile.getName()).username(profile.getUser().getUsername()).build();
+            return ProfileResponseDTO.builder().id(profile.getId()).url(url).variantUrlMap(imageVariantService.getUrlMap(url)).name(profile.getName()).username(profile.getUser().getUsername()).build();
         }
         return null;
     }
 
 
+    private ProfileResponseDTO profileResponseDTO(Long id, String name, String username, String url) {
+        return ProfileResponseDTO.builder() //
+                .id(id) //
+                .name(name) //
+                .username(username) //
+                .url(url) //
+                .variantUrlMap(imageVariantService.getUrlMap(url)) //
+                .build();
+    }
+
     private ProfileResponseDTO profileResponseDTO(Profile profile) {
         Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(profile.getUser().getUsername() + "." + profile.getId()));
         String url = null;
         if (_fileSystem.isPresent()) url = _fileSystem.get().getV();
-        return ProfileResponseDTO.builder().id(profile.getId()).url(url).name(profile.getName()).username(profile.getUser().getUsername()).build();
+        return ProfileResponseDTO.builder().id(profile.getId()).url(url).variantUrlMap(imageVariantService.getUrlMap(url)).name(profile.getName()).username(profile.getUser().getUsername()).build();
     }
 
     @Transactional
     public ProfileResponseDTO getProfile(Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
 
         return profileResponseDTO(profile);
 
@@ -610,79 +812,164 @@ public class MultiService {
             Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(user.getUsername() + "." + profile.getId()));
             String url = null;
             if (_fileSystem.isPresent()) url = _fileSystem.get().getV();
-            responseDTOList.add(ProfileResponseDTO.builder().id(profile.getId()).url(url).username(profile.getUser().getUsername()).name(profile.getName()).build());
+            responseDTOList.add(ProfileResponseDTO.builder().id(profile.getId()).url(url).variantUrlMap(imageVariantService.getUrlMap(url)).username(profile.getUser().getUsername()).name(profile.getName()).build());
         }
         return responseDTOList;
     }
 
     @Transactional
     public ProfileResponseDTO updateProfile(String username, String url, String name, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         profileService.updateProfile(profile, name);
-        Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(user.getUsername() + "." + profile.getId()));
-        String path = AptProjectApplication.getOsType().getLoc();
+        articleSearchService.updateProfileName(actor.aptId(), actor.profileId(), name);
+        articleCacheService.evict(actor.aptId());
+        Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(actor.username() + "." + actor.profileId()));
+        Optional<FileSystem> _newFileSystem = fileSystemService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId()));
         if (_fileSystem.isPresent() && (url == null || !_fileSystem.get().getV().equals(url))) {
-            File old = new File(path + _fileSystem.get().getV());
-            if (old.exists()) old.delete();
+            this.releaseFiles(List.of(_fileSystem.get().getV()), false);
+            // 새 이미지로 바뀌지 않으면 지운 파일을 가리키지 않도록 행도 삭제
+            if (url == null || url.isBlank() || _newFileSystem.isEmpty()) fileSystemService.delete(_fileSystem.get());
         }
         if (url != null && !url.isBlank()) {
-            String newFile = "/api/user" + "/" + username + "/profile" + "/" + profile.getId() + "/";
-            Optional<FileSystem> _newFileSystem = fileSystemService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId()));
+            String newFile = "/api/user" + "/" + username + "/profile" + "/" + actor.profileId() + "/";
             if (_newFileSystem.isPresent()) {
                 String newUrl = this.fileMove(_newFileSystem.get().getV(), newFile, _newFileSystem.get());
-                fileSystemService.save(ImageKey.USER.getKey(user.getUsername() + "." + profile.getId()), newUrl);
+                fileSystemService.save(ImageKey.USER.getKey(actor.username() + "." + actor.profileId()), newUrl);
             }
         }
-        Optional<FileSystem> _newUserFileSystem = fileSystemService.get(ImageKey.USER.getKey(user.getUsername() + "." + profile.getId()));
+        Optional<FileSystem> _newUserFileSystem = fileSystemService.get(ImageKey.USER.getKey(actor.username() + "." + actor.profileId()));
         if (_newUserFileSystem.isPresent())
             url = _newUserFileSystem.get().getV();
-        return ProfileResponseDTO.builder().name(profile.getName()).username(user.getUsername()).url(url).id(profile.getId()).build();
+        return ProfileResponseDTO.builder().name(profile.getName()).username(actor.username()).url(url).variantUrlMap(imageVariantService.getUrlMap(url)).id(actor.profileId()).build();
+    }
+
+    // 프로필 이미지 주소를 한 번에 조회 (키: ImageKey.USER 키)
+    private Map<String, String> getProfileUrlMap(Collection<Profile> profileList) {
+        List<String> keyList = profileList.stream().map(profile -> ImageKey.USER.getKey(profile.getUser().getUsername() + "." + profile.getId())).distinct().toList();
+        return fileSystemService.getAll(keyList);
     }
 
     private String profileUrl(String username, Long id) {
-        Optional<FileSystem> _profileFileSystem = fileSystemService.get(ImageKey.USER.getKey(username + "." + id));
-        String profileUrl = null;
-        if (_profileFileSystem.isPresent()) profileUrl = _profileFileSystem.get().getV();
-        return profileUrl;
+        String key = ImageKey.USER.getKey(username + "." + id);
+        return fileSystemService.getAll(List.of(key)).get(key);
     }
 
     @Transactional
     public void deleteProfile(String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-
-        this.deleteProfiles(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        this.cascadeDeleteProfiles(actor.username(), actor.aptId(), List.of(actor.profileId()), (done, total) -> {}, TransactionOperations.withoutTransaction());
     }
 
-    private void deleteProfiles(SiteUser user, Profile profile) {
-        List<Article> articleList = articleService.findByArticle(profile.getId());
-        for (Article article : articleList)
-            this.deleteArticle(article.getId());
-        List<Comment> commentList = commentService.findByProfile(profile.getId());
-        for (Comment comment : commentList)
-            this.deleteComment(user.getUsername(), profile.getId(), comment.getId());
-        List<LessonUser> lessonUserList = lessonUserService.getMyList(profile);
-        for (LessonUser lessonUser : lessonUserList)
-            lessonUserService.delete(lessonUser);
-        List<Lesson> lessonList = lessonService.findByProfile(profile.getId());
-        for (Lesson lesson : lessonList)
-            this.deleteLessonList(lesson);
-        Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(user.getUsername() + "." + profile.getId()));
-        if (_fileSystem.isPresent()) {
-            this.deleteFile(_fileSystem.get());
-            fileSystemService.delete(_fileSystem.get());
-        }
-
-        Optional<FileSystem> _fileProfileTemp = fileSystemService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId()));
-        if (_fileProfileTemp.isPresent()) {
-            this.deleteFile(_fileProfileTemp.get());
-            fileSystemService.delete(_fileProfileTemp.get());
-        }
-        this.deleteImageList(user.getUsername(), profile.getId());
-        profileService.deleteProfile(profile);
+    /**
+     * 프로필과 딸린 데이터를 FK 순서대로 테이블 단위로 삭제
+     * 엔티티를 올리지 않고 ID 를 cascadeSize 개씩 끊어서 처리하고 파일은 커밋 후 삭제한다.
+     * 묶음은 batch 로 실행 - 요청 안에서는 바깥 트랜잭션 그대로, 작업에서는 묶음마다 따로 커밋
+     * progress 에는 끝난 단계 수 / 전체 단계 수를 알린다.
+     */
+    private CascadeRecord cascadeDeleteProfiles(String username, Long aptId, List<Long> profileIdList, BiConsumer<Integer, Integer> progress, TransactionOperations batch) {
+        CascadeRecord cascade = new CascadeRecord();
+        if (profileIdList.isEmpty()) return cascade;
+        int steps = 5;
+        // 1. 작성한 게시물 (딸린 댓글, 좋아요, 태그, 이미지 포함)
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long from = lastId;
+            lastId = batch.execute(status -> this.purgeProfileArticles(aptId, profileIdList, from, cascade));
+        }
+        if (aptId != null) articleCacheService.evict(aptId);
+        progress.accept(1, steps);
+        // 2. 다른 게시물에 단 댓글 - 하위 댓글까지
+        lastId = 0L;
+        while (lastId != null) {
+            Long from = lastId;
+            lastId = batch.execute(status -> {
+                List<CommentPathRecord> pathList = commentService.getPathList(profileIdList, from, cascadeSize);
+                if (pathList.isEmpty()) return null;
+                cascade.add("comment", commentService.deleteByPathList(pathList));
+                return pathList.getLast().id();
+            });
+        }
+        progress.accept(2, steps);
+        // 3. 다른 게시물에 누른 좋아요 - 지운 만큼 좋아요 수 보정
+        batch.executeWithoutResult(status -> {
+            Map<Long, Long> loveCountMap = loveService.countByProfileIdList(profileIdList);
+            cascade.add("love", loveService.deleteByProfileIdList(profileIdList));
+            TxUtils.afterCommit(() -> loveCountMap.forEach((articleId, count) -> loveCountService.add(articleId, -count)));
+        });
+        progress.accept(3, steps);
+        // 4. 채팅, 수강 신청, 개설한 레슨
+        batch.executeWithoutResult(status -> {
+            cascade.add("chat_message", chatMessageService.deleteByProfileIdList(profileIdList));
+            cascade.add("chat_room_user", chatRoomUserService.deleteByProfileIdList(profileIdList));
+            cascade.add("lesson_user", lessonUserService.deleteByProfileIdList(profileIdList));
+        });
+        lastId = 0L;
+        while (lastId != null) {
+            Long from = lastId;
+            lastId = batch.execute(status -> {
+                List<Long> lessonIdList = lessonService.getIdList(profileIdList, from, cascadeSize);
+                if (lessonIdList.isEmpty()) return null;
+                cascade.add("lesson_user", lessonUserService.deleteByLessonIdList(lessonIdList));
+                cascade.add("lesson", lessonService.deleteByIdList(lessonIdList));
+                return lessonIdList.getLast();
+            });
+        }
+        progress.accept(4, steps);
+        // 5. 프로필 이미지, 임시 이미지, 프로필
+        batch.executeWithoutResult(status -> {
+            cascade.addAll(this.purgeProfileFiles(username, profileIdList));
+            cascade.add("profile", profileService.deleteByIdList(profileIdList));
+        });
+        progress.accept(5, steps);
+        return cascade;
+    }
+
+    // 게시물 한 묶음 삭제 - 마지막 ID, 더 지울 게 없으면 null
+    private Long purgeProfileArticles(Long aptId, List<Long> profileIdList, Long lastId, CascadeRecord cascade) {
+        List<ArticleStateRecord> articleList = articleService.getStateList(profileIdList, lastId, cascadeSize);
+        if (articleList.isEmpty()) return null;
+        this.unindexArticles(aptId, articleList.stream().filter(article -> !article.deleted()).map(ArticleStateRecord::id).toList());
+        List<Long> articleIdList = articleList.stream().map(ArticleStateRecord::id).toList();
+        cascade.addAll(this.purgeArticles(articleIdList));
+        return articleIdList.getLast();
+    }
+
+    // 목록 밖의 메모리 인덱스(검색, 태그, 조회수, 좋아요 수)에서 게시물 제거 - 목록 캐시는 호출한 쪽에서 비움
+    private void unindexArticles(Long aptId, List<Long> articleIdList) {
+        if (aptId == null || articleIdList.isEmpty()) return;
+        Map<Long, Map<Long, String>> tagNameMap = new HashMap<>();
+        for (ArticleTag articleTag : articleTagService.getArticleList(articleIdList))
+            tagNameMap.computeIfAbsent(articleTag.getArticle().getId(), id -> new HashMap<>())
+                    .put(articleTag.getTag().getId(), articleTag.getTag().getName());
+        tagNameMap.values().forEach(articleTagNameMap -> tagIndexService.remove(aptId, articleTagNameMap));
+        for (Long articleId : articleIdList) {
+            articleSearchService.delete(aptId, articleId);
+            articleViewService.remove(articleId);
+            loveCountService.remove(articleId);
+        }
+    }
+
+    // 프로필 이미지는 폴더째, 임시 이미지는 파일만 (폴더가 비면 폴더도) 커밋 후 삭제
+    private CascadeRecord purgeProfileFiles(String username, List<Long> profileIdList) {
+        List<String> imageKeyList = new ArrayList<>();
+        List<String> tempKeyList = new ArrayList<>();
+        for (Long profileId : profileIdList) {
+            imageKeyList.add(ImageKey.USER.getKey(username + "." + profileId));
+            imageKeyList.add(ImageKey.TEMP.getKey(username + "." + profileId));
+            tempKeyList.add(ImageKey.TEMP.getKey(username + "." + profileId));
+        }
+        List<String> tempFileKeyList = multiKeyService.getList(tempKeyList).stream().flatMap(multiKey -> multiKey.getVs().stream()).toList();
+        List<String> imageUrlList = fileSystemService.getList(imageKeyList).stream().map(FileSystem::getV).toList();
+        List<String> tempUrlList = fileSystemService.getList(tempFileKeyList).stream().map(FileSystem::getV).toList();
+
+        CascadeRecord cascade = new CascadeRecord();
+        cascade.add("file_system", fileSystemService.deleteByKeyList(imageKeyList) + fileSystemService.deleteByKeyList(tempFileKeyList));
+        cascade.add("multi_key", multiKeyService.deleteByKeyList(tempKeyList));
+
+        this.releaseFiles(imageUrlList, true);
+        this.releaseFiles(tempUrlList, false);
+        return cascade;
     }
 
     /**
@@ -691,10 +978,8 @@ public class MultiService {
 
     @Transactional
     public CategoryResponseDTO saveCategory(String username, String name, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        if (user.getRole() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin()) throw new IllegalArgumentException("권한 불일치");
         Category category = this.categoryService.save(name);
         return categoryResponseDTO(category);
 
@@ -702,21 +987,18 @@ public class MultiService {
 
     @Transactional
     public void deleteCategory(Long categoryId, String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        if (user.getRole() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin()) throw new IllegalArgumentException("권한 불일치");
         Category category = categoryService.findById(categoryId);
         if (category == null) throw new DataNotFoundException("카테고리 객체 없음");
 
         categoryService.delete(category);
+        articleCacheService.evictAll();
     }
 
     @Transactional
     public CategoryResponseDTO getCategory(Long categoryId, String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Category category = categoryService.findById(categoryId);
         if (category == null) throw new DataNotFoundException("카테고리 객체 없음");
 
@@ -725,9 +1007,7 @@ public class MultiService {
 
     @Transactional
     public List<CategoryResponseDTO> getCategoryList(String username, Long profileId) {
-        SiteUser siteUser = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(siteUser, profile);
+        ActorRecord actor = this.actor(username, profileId);
         List<Category> categoryList = categoryService.getList();
         List<CategoryResponseDTO> responseDTOList = new ArrayList<>();
         for (Category category : categoryList) {
@@ -739,13 +1019,12 @@ public class MultiService {
 
     @Transactional
     public CategoryResponseDTO updateCategory(String username, Long profileId, Long id, String name) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Category category = categoryService.findById(id);
         if (category == null) throw new DataNotFoundException("카테고리 객체 없음");
-        if (user.getRole() != UserRole.ADMIN) throw new IllegalArgumentException("권한 불일치");
+        if (!actor.isAdmin()) throw new IllegalArgumentException("권한 불일치");
         category = categoryService.update(category, name);
+        articleCacheService.evictAll();
 
         return categoryResponseDTO(category);
     }
@@ -760,258 +1039,298 @@ public class MultiService {
      */
     @Transactional
     public ArticleResponseDTO saveArticle(Long profileId, Long categoryId, List<String> tagName, String title, String content, String username, Boolean topActive) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Category category = categoryService.findById(categoryId);
         if (category == null) throw new DataNotFoundException("카테고리 객체 없음");
         Article article = articleService.save(profile, title, content, category, topActive);
-        List<TagResponseDTO> tagResponseDTOList = new ArrayList<>();
-        if (tagName != null) {
-            for (String name : tagName) {
-                Tag tag = tagService.findByName(name);
-                if (tag == null) tag = tagService.save(name);
-                articleTagService.save(article, tag);
-                tagResponseDTOList.add(tagResponseDTO(tag));
-            }
-        }
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId().toString()));
+        List<TagResponseDTO> tagResponseDTOList = this.addArticleTags(article, tagName);
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId().toString()));
         _multiKey.ifPresent(multiKey -> this.updateArticleContent(article, multiKey));
+        articleSearchService.save(article, tagResponseDTOList.stream().map(TagResponseDTO::getName).toList());
+        articleCacheService.evict(actor.aptId(), category.getId());
         return this.getArticleResponseDTO(article, tagResponseDTOList);
     }
 
 
     @Transactional
     public ArticleResponseDTO updateArticle(Long profileId, Long articleId, Long categoryId, List<String> tagName, String title, List<Long> articleTagId, String content, String username, Boolean topActive) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Category category = categoryService.findById(categoryId);
         if (category == null) throw new DataNotFoundException("카테고리 객체 없음");
         Article targetArticle = articleService.findById(articleId);
-        if (profile != targetArticle.getProfile()) throw new IllegalArgumentException("수정 권한 없음");
+        if (!this.isActor(actor, targetArticle.getProfile())) throw new IllegalArgumentException("수정 권한 없음");
+        articleCacheService.evict(actor.aptId(), targetArticle.getCategory().getId());
         Article article = articleService.update(targetArticle, title, content, category, topActive);
-        List<TagResponseDTO> tagResponseDTOList = new ArrayList<>();
-        if (articleTagId != null) {
-            for (Long id : articleTagId) {
-                ArticleTag articleTag = articleTagService.findById(id);
-                if (articleTag == null)
-                    throw new DataNotFoundException("게시물 태그 객체가 없음");
-                List<ArticleTag> articleTags = articleTagService.findByTagList(articleTag.getTag().getId());
-                if (articleTags.size() == 1L) {
-                    for (ArticleTag articleTag1 : articleTags) {
-                        Tag tag = tagService.findById(articleTag1.getTag().getId());
-                        tagService.delete(tag);
-                    }
-                }
-                articleTagService.delete(articleTag);
-            }
-        }
-        if (tagName != null)
-            for (String name : tagName) {
-                Tag tag = tagService.findByName(name);
-
-                if (tag == null) tag = tagService.save(name);
-                ArticleTag articleTag = articleTagService.findByTagId(tag.getId());
-                if (articleTag == null)
-                    articleTagService.save(article, tag);
-                tagResponseDTOList.add(tagResponseDTO(tag));
-            }
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId().toString()));
+        if (articleTagId != null) this.removeArticleTags(article, articleTagId);
+        List<TagResponseDTO> tagResponseDTOList = this.addArticleTags(article, tagName);
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId().toString()));
         _multiKey.ifPresent(multiKey -> this.updateArticleContent(article, multiKey));
+        List<TagResponseDTO> articleTagList = this.getTagResponseDTOMap(List.of(article.getId())).getOrDefault(article.getId(), new ArrayList<>());
+        articleSearchService.save(article, articleTagList.stream().map(TagResponseDTO::getName).toList());
+        articleCacheService.evict(actor.aptId(), category.getId());
 
         return this.getArticleResponseDTO(article, tagResponseDTOList);
     }
 
     @Transactional
     public ArticleResponseDTO articleDetail(Long articleId, Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Article article = articleService.findById(articleId);
         if (article == null) throw new DataNotFoundException("게시물 객체 없음");
-        List<ArticleTag> articleTagList = articleTagService.getArticle(article.getId());
-        if (articleTagList == null) throw new DataNotFoundException("게시물태그 객체 없음");
-        List<TagResponseDTO> responseDTOList = new ArrayList<>();
-        for (ArticleTag articleTag : articleTagList) {
-            Tag tag = tagService.findById(articleTag.getTag().getId());
-            responseDTOList.add(tagResponseDTO(tag));
-        }
-        return this.getArticleResponseDTO(article, responseDTOList);
+        articleViewService.increment(article.getId());
+        Map<Long, List<TagResponseDTO>> tagMap = this.getTagResponseDTOMap(List.of(article.getId()));
+        return this.getArticleResponseDTO(article, tagMap.getOrDefault(article.getId(), new ArrayList<>()));
     }
 
 
     @Transactional
     public List<ArticleResponseDTO> topActive(String username, Long aptId, Long profileId, Long categoryId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Long targetAptId = actor.isAdmin() ? aptId : actor.aptId();
+        return articleCacheService.get(targetAptId, categoryId, true, () -> this.getTopActiveList(targetAptId, categoryId),
+                list -> new ArrayList<>(list.stream().map(this::copyArticleResponseDTO).toList()));
+    }
+
+    private List<ArticleResponseDTO> getTopActiveList(Long aptId, Long categoryId) {
         Boolean topActive = true;
-        List<Article> articleList;
-        if (user.getRole() == UserRole.ADMIN) {
-            articleList = articleService.topActive(aptId, categoryId, topActive);
-        } else {
-            articleList = articleService.topActive(user.getApt().getId(), categoryId, topActive);
-        }
-        List<ArticleResponseDTO> articleResponseDTOList = new ArrayList<>();
-        for (Article article : articleList) {
-            ArticleResponseDTO articleResponseDTO = ArticleResponseDTO.builder()
-                    .articleId(article.getId())
-                    .topActive(article.getTopActive())
-                    .title(article.getTitle())
-                    .content(article.getContent())
-                    .categoryName(article.getCategory().getName())
-                    .createDate(this.dateTimeTransfer(article.getCreateDate()))
-                    .modifyDate(this.dateTimeTransfer(article.getModifyDate()))
-                    .build();
-            articleResponseDTOList.add(articleResponseDTO);
-        }
-        return articleResponseDTOList;
+        List<ArticleSummaryRecord> articleList = articleService.topActive(aptId, categoryId, topActive);
+        return this.getArticleResponseDTOList(articleList);
     }
 
     @Transactional
     public Page<ArticleResponseDTO> articleList(String username, Long aptId, int page, Long profileId, Long categoryId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Long targetAptId = actor.isAdmin() ? aptId : actor.aptId();
+        // 첫 페이지만 캐시
+        if (page == 0)
+            return articleCacheService.get(targetAptId, categoryId, false, () -> this.getArticlePage(targetAptId, 0, categoryId),
+                    articlePage -> new PageImpl<>(new ArrayList<>(articlePage.getContent().stream().map(this::copyArticleResponseDTO).toList()), articlePage.getPageable(), articlePage.getTotalElements()));
+        return this.getArticlePage(targetAptId, page, categoryId);
+    }
+
+    // 캐시에 들어간 DTO 를 호출한 쪽이 바꿔도 캐시가 바뀌지 않도록 사본을 만듦
+    private ArticleResponseDTO copyArticleResponseDTO(ArticleResponseDTO article) {
+        return ArticleResponseDTO.builder() //
+                .articleId(article.getArticleId()) //
+                .title(article.getTitle()) //
+                .content(article.getContent()) //
+                .excerpt(article.getExcerpt()) //
+                .imageUrl(article.getImageUrl()) //
+                .price(article.getPrice()) //
+                .createDate(article.getCreateDate()) //
+                .modifyDate(article.getModifyDate()) //
+                .categoryName(article.getCategoryName()) //
+                .profileResponseDTO(this.copyProfileResponseDTO(article.getProfileResponseDTO())) //
+                .urlList(article.getUrlList() == null ? null : new ArrayList<>(article.getUrlList())) //
+                .tagResponseDTOList(article.getTagResponseDTOList() == null ? null : new ArrayList<>(article.getTagResponseDTOList().stream()
+                        .map(tag -> TagResponseDTO.builder().id(tag.getId()).name(tag.getName()).build()).toList())) //
+                .topActive(article.getTopActive()) //
+                .viewCount(article.getViewCount()) //
+                .commentResponseDTOList(article.getCommentResponseDTOList() == null ? null : new PageImpl<>(this.copyCommentResponseDTOList(article.getCommentResponseDTOList().getContent()),
+                        article.getCommentResponseDTOList().getPageable(), article.getCommentResponseDTOList().getTotalElements())) //
+                .build();
+    }
+
+    private ProfileResponseDTO copyProfileResponseDTO(ProfileResponseDTO profile) {
+        if (profile == null) return null;
+        return ProfileResponseDTO.builder() //
+                .id(profile.getId()) //
+                .name(profile.getName()) //
+                .username(profile.getUsername()) //
+                .url(profile.getUrl()) //
+                .variantUrlMap(profile.getVariantUrlMap() == null ? null : new LinkedHashMap<>(profile.getVariantUrlMap())) //
+                .build();
+    }
+
+    // 답글 목록까지 재귀로 복사
+    private List<CommentResponseDTO> copyCommentResponseDTOList(List<CommentResponseDTO> commentList) {
+        if (commentList == null) return null;
+        return new ArrayList<>(commentList.stream().map(comment -> CommentResponseDTO.builder() //
+                .id(comment.getId()) //
+                .articleId(comment.getArticleId()) //
+                .profileResponseDTO(this.copyProfileResponseDTO(comment.getProfileResponseDTO())) //
+                .parentId(comment.getParentId()) //
+                .content(comment.getContent()) //
+                .createDate(comment.getCreateDate()) //
+                .depth(comment.getDepth()) //
+                .replyCount(comment.getReplyCount()) //
+                .commentResponseDTOList(this.copyCommentResponseDTOList(comment.getCommentResponseDTOList())) //
+                .build()).toList());
+    }
+
+    private Page<ArticleResponseDTO> getArticlePage(Long aptId, int page, Long categoryId) {
         Pageable pageable = PageRequest.of(page, 15);
         Boolean topActive = false;
-        Page<Article> articleList;
-        if (user.getRole() == UserRole.ADMIN) {
-            articleList = articleService.getArticleList(pageable, aptId, categoryId, topActive);
-        } else {
-            articleList = articleService.getArticleList(pageable, user.getApt().getId(), categoryId, topActive);
-        }
-        List<ArticleResponseDTO> articleResponseDTOList = new ArrayList<>();
-        for (Article article : articleList) {
-            List<ArticleTag> articleTagList = articleTagService.getArticle(article.getId());
-            if (articleTagList == null) throw new DataNotFoundException("게시물태그 객체 없음");
-            List<TagResponseDTO> responseDTOList = new ArrayList<>();
-            for (ArticleTag articleTag : articleTagList) {
-                Tag tag = tagService.findById(articleTag.getTag().getId());
-                responseDTOList.add(tagResponseDTO(tag));
-            }
-            ArticleResponseDTO articleResponseDTO = this.getArticleResponseDTO(article, responseDTOList);
-            articleResponseDTOList.add(articleResponseDTO);
-        }
+        Page<ArticleSummaryRecord> articleList = articleService.getArticleList(pageable, aptId, categoryId, topActive);
+        List<ArticleResponseDTO> articleResponseDTOList = this.getArticleResponseDTOList(articleList.getContent());
         return new PageImpl<>(articleResponseDTOList, pageable, articleList.getTotalElements());
     }
 
     @Transactional
-    public void deleteArticle(String username, Long profileId, Long articleId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        Article article = articleService.findById(articleId);
-        if (!article.getProfile().equals(profile)) {
-            throw new IllegalArgumentException("작성자의 프로필이 일치하지 않습니다");
+    public ArticleFeedResponseDTO articleFeed(String username, Long aptId, String cursor, Long profileId, Long categoryId) {
+        ActorRecord actor = this.actor(username, profileId);
+        ArticleCursorRecord articleCursor = ArticleCursorRecord.decode(cursor);
+        LocalDateTime createDate = articleCursor != null ? articleCursor.createDate() : null;
+        Long articleId = articleCursor != null ? articleCursor.id() : null;
+        int size = 15;
+        Boolean topActive = false;
+        Long targetAptId = actor.isAdmin() ? aptId : actor.aptId();
+        // 다음 페이지 존재 여부 확인용으로 한 개 더 조회
+        List<ArticleSummaryRecord> articleList = articleService.getArticleFeed(targetAptId, categoryId, topActive, createDate, articleId, size + 1);
+        String nextCursor = null;
+        if (articleList.size() > size) {
+            articleList = articleList.subList(0, size);
+            ArticleSummaryRecord last = articleList.getLast();
+            nextCursor = ArticleCursorRecord.builder().createDate(last.createDate()).id(last.id()).build().encode();
         }
-
-        this.deleteArticle(article.getId());
+        return ArticleFeedResponseDTO.builder().articleResponseDTOList(this.getArticleResponseDTOList(articleList)).nextCursor(nextCursor).build();
     }
 
     @Transactional
-    private void deleteArticle(Long articleId) {
+    public void deleteArticle(String username, Long profileId, Long articleId) {
+        ActorRecord actor = this.actor(username, profileId);
         Article article = articleService.findById(articleId);
         if (article == null)
             throw new DataNotFoundException("게시물 객체 없음");
-        List<Comment> commentList = commentService.findByArticle(article.getId());
-        for (Comment comment : commentList)
-            deleteChildren(comment);
-        List<Love> loveList = loveService.findByArticle(article.getId());
-        for (Love love : loveList)
-            loveService.delete(love);
-        List<ArticleTag> articleTagList = articleTagService.getArticle(article.getId());
-        for (ArticleTag articleTag : articleTagList) {
-            List<ArticleTag> articleTags = articleTagService.findByTagList(articleTag.getTag().getId());
-            if (articleTags.size() == 1L) {
-                for (ArticleTag articleTag1 : articleTags) {
-                    Tag tag = tagService.findById(articleTag1.getTag().getId());
-                    tagService.delete(tag);
-                }
-            }
-            articleTagService.delete(articleTag);
-        }
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.ARTICLE.getKey(article.getId().toString()));
-        String path = AptProjectApplication.getOsType().getLoc();
-        if (_multiKey.isPresent()) {
-            for (String values : _multiKey.get().getVs()) {
-                Optional<FileSystem> _fileSystem = fileSystemService.get(values);
-                if (_fileSystem.isPresent()) {
-                    Path filePath = Paths.get(path + _fileSystem.get().getV());
-                    File file = filePath.toFile();
-                    this.deleteFolder(file.getParentFile());
-                    fileSystemService.delete(_fileSystem.get());
-                }
-            }
-            multiKeyService.delete(_multiKey.get());
+        if (!this.isActor(actor, article.getProfile())) {
+            throw new IllegalArgumentException("작성자의 프로필이 일치하지 않습니다");
         }
-        articleService.deleteArticle(article);
+
+        this.hideArticle(article);
+        if (!softDelete)
+            this.purgeArticles(List.of(article.getId()));
+    }
+
+    // 목록, 검색, 캐시에서 바로 빼고 삭제 표시만 남김
+    private void hideArticle(Article article) {
+        articleSearchService.delete(article);
+        Map<Long, String> tagNameMap = new HashMap<>();
+        for (ArticleTag articleTag : articleTagService.getArticleList(List.of(article.getId())))
+            tagNameMap.put(articleTag.getTag().getId(), articleTag.getTag().getName());
+        tagIndexService.remove(article.getProfile().getUser().getApt().getId(), tagNameMap);
+        articleCacheService.evict(article.getProfile().getUser().getApt().getId(), article.getCategory().getId());
+        articleViewService.remove(article.getId());
+        loveCountService.remove(article.getId());
+        articleService.softDelete(article);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${article.purge.interval:30000}")
+    public void purgeDeletedArticles() {
+        this.purgeArticles(articleService.findDeletedIdList(100));
+    }
+
+    // 게시물과 딸린 댓글, 좋아요, 태그, 이미지를 테이블 단위로 한 번에 삭제하고 파일은 커밋 후 삭제
+    private CascadeRecord purgeArticles(List<Long> articleIdList) {
+        CascadeRecord cascade = new CascadeRecord();
+        if (articleIdList.isEmpty()) return cascade;
+        List<String> multiKeyList = articleIdList.stream().map(id -> ImageKey.ARTICLE.getKey(id.toString())).toList();
+        List<String> fileKeyList = multiKeyService.getList(multiKeyList).stream().flatMap(multiKey -> multiKey.getVs().stream()).toList();
+        List<String> fileUrlList = fileSystemService.getList(fileKeyList).stream().map(FileSystem::getV).toList();
+        Map<Long, Long> tagCountMap = articleTagService.countTagMap(articleIdList);
+
+        cascade.add("comment", commentService.deleteByArticleIdList(articleIdList));
+        cascade.add("love", loveService.deleteByArticleIdList(articleIdList));
+        cascade.add("article_tag", articleTagService.deleteByArticleIdList(articleIdList));
+        tagService.decreaseUseCount(tagCountMap);
+        cascade.add("file_system", fileSystemService.deleteByKeyList(fileKeyList));
+        cascade.add("multi_key", multiKeyService.deleteByKeyList(multiKeyList));
+        cascade.add("article", articleService.deleteByIdList(articleIdList));
+
+        this.releaseFiles(fileUrlList, true);
+        return cascade;
     }
 
     @Transactional
     public Page<ArticleResponseDTO> searchArticle(String username, Long profileId, int page, String keyword, int sort, Long categoryId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Sorts sorts = Sorts.values()[sort];
         Pageable pageable = PageRequest.of(page, 15);
-        Page<Article> searchArticleList = null;
-        if (categoryId == null)
-            searchArticleList = articleService.searchByKeyword(user.getApt().getId(), pageable, keyword, sorts);
+        Page<ArticleSummaryRecord> searchArticleList = null;
+        if (articleSearchService.isReady()) {
+            // 인덱스에서 순위가 매겨진 ID 를 받아 현재 페이지만 조회
+            List<Long> rankedIdList = articleSearchService.search(actor.aptId(), keyword, sorts, categoryId);
+            int from = (int) Math.min(pageable.getOffset(), rankedIdList.size());
+            int to = Math.min(from + pageable.getPageSize(), rankedIdList.size());
+            List<ArticleSummaryRecord> articleList = articleService.findByIdList(rankedIdList.subList(from, to));
+            searchArticleList = new PageImpl<>(articleList, pageable, rankedIdList.size());
+        } else if (categoryId == null)
+            searchArticleList = articleService.searchByKeyword(actor.aptId(), pageable, keyword, sorts);
         else
-            searchArticleList = articleService.searchByCategoryKeyword(user.getApt().getId(), pageable, keyword, sorts, categoryId);
+            searchArticleList = articleService.searchByCategoryKeyword(actor.aptId(), pageable, keyword, sorts, categoryId);
         if (searchArticleList.isEmpty())
             throw new DataNotFoundException("검색 결과가 없습니다");
+        List<ArticleResponseDTO> articleResponseDTOList = this.getArticleResponseDTOList(searchArticleList.getContent());
+        return new PageImpl<>(articleResponseDTOList, pageable, searchArticleList.getTotalElements());
+    }
+
+    @Transactional
+    public int rebuildSearchIndex(String username, Long profileId) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin()) throw new IllegalArgumentException("권한 불일치");
+        return articleSearchService.rebuild();
+    }
+
+    @Transactional
+    public CacheResponseDTO getArticleCache(String username, Long profileId) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin()) throw new IllegalArgumentException("권한 불일치");
+        long hit = articleCacheService.getHit();
+        long miss = articleCacheService.getMiss();
+        return CacheResponseDTO.builder()
+                .enabled(articleCacheService.isEnabled())
+                .hit(hit)
+                .miss(miss)
+                .hitRatio(hit + miss == 0 ? 0 : (double) hit / (hit + miss))
+                .size(articleCacheService.getSize())
+                .build();
+    }
+
+    // 목록은 content 대신 미리보기(excerpt, imageUrl)만 전달
+    private List<ArticleResponseDTO> getArticleResponseDTOList(List<ArticleSummaryRecord> articleList) {
+        List<Long> articleIdList = articleList.stream().map(ArticleSummaryRecord::id).toList();
+        Map<Long, List<TagResponseDTO>> tagMap = this.getTagResponseDTOMap(articleIdList);
         List<ArticleResponseDTO> articleResponseDTOList = new ArrayList<>();
-        for (Article article : searchArticleList) {
-            List<ArticleTag> articleTagList = articleTagService.getArticle(article.getId());
-            if (articleTagList == null) throw new DataNotFoundException("게시물태그 객체 없음");
-            List<TagResponseDTO> responseDTOList = new ArrayList<>();
-            for (ArticleTag articleTag : articleTagList) {
-                Tag tag = tagService.findById(articleTag.getTag().getId());
-                responseDTOList.add(tagResponseDTO(tag));
-            }
-            ArticleResponseDTO articleResponseDTO = this.getArticleResponseDTO(article, responseDTOList);
-            articleResponseDTOList.add(articleResponseDTO);
+        for (ArticleSummaryRecord article : articleList) {
+            String profileUrl = this.profileUrl(article.username(), article.profileId());
+            articleResponseDTOList.add(ArticleResponseDTO.builder()
+                    .articleId(article.id())
+                    .title(article.title())
+                    .excerpt(article.excerpt())
+                    .imageUrl(article.imageUrl())
+                    .price(article.price())
+                    .createDate(this.dateTimeTransfer(article.createDate()))
+                    .modifyDate(this.dateTimeTransfer(article.modifyDate()))
+                    .categoryName(article.categoryName())
+                    .profileResponseDTO(ProfileResponseDTO.builder().id(article.profileId()).username(article.username()).url(profileUrl).variantUrlMap(imageVariantService.getUrlMap(profileUrl)).name(article.profileName()).build())
+                    .tagResponseDTOList(tagMap.getOrDefault(article.id(), new ArrayList<>()))
+                    .topActive(article.topActive())
+                    .viewCount(article.viewCount() + articleViewService.getPending(article.id()))
+                    .build());
         }
-        return new PageImpl<>(articleResponseDTOList, pageable, searchArticleList.getTotalElements());
+        return articleResponseDTOList;
+    }
+
+    // 게시물 목록의 태그를 한 번에 조회해서 게시물 ID 별로 묶음
+    private Map<Long, List<TagResponseDTO>> getTagResponseDTOMap(List<Long> articleIdList) {
+        Map<Long, List<TagResponseDTO>> tagMap = new HashMap<>();
+        for (ArticleTag articleTag : articleTagService.getArticleList(articleIdList))
+            tagMap.computeIfAbsent(articleTag.getArticle().getId(), id -> new ArrayList<>()).add(tagResponseDTO(articleTag.getTag()));
+        return tagMap;
     }
 
     private ArticleResponseDTO getArticleResponseDTO(Article article, List<TagResponseDTO> responseDTOList) {
         String profileUrl = this.profileUrl(article.getProfile().getUser().getUsername(), article.getProfile().getId());
-        Optional<MultiKey> _multiKey = multiKeyService.get(article.getId().toString());
-        List<String> urlList = new ArrayList<>();
-        if (_multiKey.isPresent()) {
-            for (String keyName : _multiKey.get().getVs()) {
-                Optional<FileSystem> _fileSystem = fileSystemService.get(keyName);
-                _fileSystem.ifPresent(fileSystem -> urlList.add(fileSystem.getV()));
-            }
-        }
+        List<String> urlList = this.getImageListMap(List.of(article.getId().toString())).getOrDefault(article.getId().toString(), new ArrayList<>())
+                .stream().map(ImageListResponseDTO::getValue).toList();
 
         return ArticleResponseDTO.builder()//
-                .articleId(article.getId()).title(article.getTitle()).content(article.getContent()).createDate(this.dateTimeTransfer(article.getCreateDate())).modifyDate(this.dateTimeTransfer(article.getModifyDate())).categoryName(article.getCategory().getName()).profileResponseDTO(ProfileResponseDTO.builder().id(article.getProfile().getId()).username(article.getProfile().getUser().getUsername()).url(profileUrl).name(article.getProfile().getName()).build()).tagResponseDTOList(responseDTOList).topActive(article.getTopActive()).urlList(urlList).build();
+                .articleId(article.getId()).title(article.getTitle()).content(article.getContent()).excerpt(article.getExcerpt()).imageUrl(article.getImageUrl()).price(article.getPrice()).createDate(this.dateTimeTransfer(article.getCreateDate())).modifyDate(this.dateTimeTransfer(article.getModifyDate())).categoryName(article.getCategory().getName()).profileResponseDTO(ProfileResponseDTO.builder().id(article.getProfile().getId()).username(article.getProfile().getUser().getUsername()).url(profileUrl).variantUrlMap(imageVariantService.getUrlMap(profileUrl)).name(article.getProfile().getName()).build()).tagResponseDTOList(responseDTOList).topActive(article.getTopActive()).viewCount(article.getViewCount() + articleViewService.getPending(article.getId())).urlList(urlList).build();
     }
 
     private void updateArticleContent(Article article, MultiKey multiKey) {
-        String content = article.getContent();
-        for (String keyName : multiKey.getVs()) {
-            Optional<MultiKey> _articleMulti = multiKeyService.get(ImageKey.ARTICLE.getKey(article.getId().toString()));
-            Optional<FileSystem> _fileSystem = fileSystemService.get(keyName);
-            if (_fileSystem.isPresent()) {
-                String newFile = "/api/article" + "/" + article.getId() + "/";
-                String newUrl = this.fileMove(_fileSystem.get().getV(), newFile, _fileSystem.get());
-                if (_articleMulti.isEmpty()) {
-                    MultiKey multiKey1 = multiKeyService.save(ImageKey.ARTICLE.getKey(article.getId().toString()), ImageKey.ARTICLE.getKey(article.getId().toString() + ".0"));
-                    fileSystemService.save(multiKey1.getVs().getLast(), newUrl);
-                } else {
-                    multiKeyService.add(_articleMulti.get(), ImageKey.ARTICLE.getKey(article.getId().toString()) + "." + _articleMulti.get().getVs().size());
-                    fileSystemService.save(_articleMulti.get().getVs().getLast(), newUrl);
-                }
-                content = content.replace(_fileSystem.get().getV(), newUrl);
-            }
-        }
-        multiKeyService.delete(multiKey);
+        String content = this.commitImages(ImageKey.ARTICLE, "/api/article", article.getId(), article.getContent(), multiKey);
         articleService.updateContent(article, content);
     }
 
@@ -1025,40 +1344,32 @@ public class MultiService {
                 .id(comment.getId()) //
                 .content(comment.getContent()) //
                 .articleId(comment.getArticle().getId()) //
-                .profileResponseDTO(ProfileResponseDTO.builder() //
-                        .id(profile.getId()) //
-                        .name(profile.getName()) //
-                        .url(profileUrl(profile.getName(), profile.getId())) //
-                        .username(profile.getUser().getUsername()) //
-                        .build()) //
+                .profileResponseDTO(this.profileResponseDTO(profile.getId(), profile.getName(), profile.getUser().getUsername(), profileUrl(profile.getUser().getUsername(), profile.getId()))) //
                 .createDate(this.dateTimeTransfer(comment.getCreateDate())) //
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null) //
+                .depth(comment.getDepth()) //
                 .build();
     }
 
-    @Transactional
-    private CommentResponseDTO commentResponseDTOList(Comment comment, Profile profile, List<CommentResponseDTO> commentResponseDTOList) {
+    private CommentResponseDTO commentResponseDTOList(Comment comment, Long articleId, Map<String, String> profileUrlMap) {
+        Profile profile = comment.getProfile();
         return CommentResponseDTO.builder() //
                 .id(comment.getId()) //
                 .content(comment.getContent()) //
-                .articleId(comment.getArticle().getId()) //
-                .profileResponseDTO(ProfileResponseDTO.builder() //
-                        .id(profile.getId()) //
-                        .name(profile.getName()) //
-                        .url(profileUrl(profile.getName(), profile.getId())) //
-                        .username(profile.getUser().getUsername()) //
-                        .build()) //
+                .articleId(articleId) //
+                .profileResponseDTO(this.profileResponseDTO(profile.getId(), profile.getName(), profile.getUser().getUsername(),
+                        profileUrlMap.get(ImageKey.USER.getKey(profile.getUser().getUsername() + "." + profile.getId())))) //
                 .createDate(this.dateTimeTransfer(comment.getCreateDate())) //
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null) //
-                .commentResponseDTOList(commentResponseDTOList)
+                .depth(comment.getDepth()) //
+                .commentResponseDTOList(new ArrayList<>())
                 .build();
     }
 
     @Transactional
     public CommentResponseDTO saveComment(String username, Long articleId, Long parentId, Long profileId, String content) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Article article = articleService.findById(articleId);
         if (article == null) throw new DataNotFoundException("게시물 객체 없음");
         Comment comment = commentService.saveComment(article, profile, content, parentId);
@@ -1070,68 +1381,83 @@ public class MultiService {
 
     @Transactional
     public CommentResponseDTO updateComment(String username, Long profileId, Long commentId, String content) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Comment comment = commentService.updateComment(commentId, content);
-        if (!profile.equals(comment.getProfile())) throw new IllegalArgumentException("작성자의 프로필이 일치하지 않습니다");
+        if (!this.isActor(actor, comment.getProfile())) throw new IllegalArgumentException("작성자의 프로필이 일치하지 않습니다");
         return this.commentResponseDTO(comment, profile);
     }
 
     @Transactional
     public Page<CommentResponseDTO> commentList(String username, Long profileId, int page, Long articleId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Article article = articleService.findById(articleId);
         if (article == null)
             throw new DataNotFoundException("게시물 객체 없음");
         Pageable pageable = PageRequest.of(page, 10);
         Page<Comment> commentList = commentService.getCommentPaging(pageable, article.getId());
         if (commentList == null) throw new DataNotFoundException("댓글 객체 없음");
-        List<CommentResponseDTO> commentResponseDTOList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            commentResponseDTOList.add(this.commentList(comment));
-        }
+        List<CommentResponseDTO> commentResponseDTOList = this.getCommentTree(commentList.getContent(), article.getId());
         return new PageImpl<>(commentResponseDTOList, pageable, commentList.getTotalElements());
     }
 
     @Transactional
     public void deleteComment(String username, Long profileId, Long commentId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Comment comment = commentService.findByComment(commentId);
         if (comment == null) throw new DataNotFoundException("댓글 객체 없음");
-        List<Comment> commentList = commentService.findByChildrentList(commentId);
-        for (Comment comment1 : commentList) {
-            deleteChildren(comment1);
-        }
-        if (!profile.equals(comment.getProfile())) {
+        if (!comment.getProfile().getId().equals(actor.profileId())) {
             throw new IllegalArgumentException("작성자의 프로필이 일치하지 않습니다");
         }
-        commentService.deleteComment(comment);
+        commentService.deleteSubtree(comment);
     }
 
-    private void deleteChildren(Comment comment) {
-        List<Comment> commentList = commentService.findByChildrentList(comment.getId());
-        if (commentList != null) {
-            for (Comment children : commentList) {
-                this.deleteChildren(children);
-            }
-        }
-        commentService.deleteComment(comment);
+    @Transactional
+    public Page<CommentResponseDTO> replyList(String username, Long profileId, Long commentId, int page, int depth) {
+        ActorRecord actor = this.actor(username, profileId);
+        Comment comment = commentService.findByComment(commentId);
+        if (comment == null) throw new DataNotFoundException("댓글 객체 없음");
+        if (depth < 1) throw new IllegalArgumentException("잘못된 깊이");
+        Pageable pageable = PageRequest.of(page, 20);
+        Page<Comment> replyList = commentService.getReplyPage(comment, depth, pageable);
+        Map<String, String> profileUrlMap = this.getProfileUrlMap(replyList.getContent().stream().map(Comment::getProfile).toList());
+        List<CommentResponseDTO> commentResponseDTOList = new ArrayList<>();
+        for (Comment reply : replyList)
+            commentResponseDTOList.add(this.commentResponseDTOList(reply, comment.getArticle().getId(), profileUrlMap));
+        return new PageImpl<>(commentResponseDTOList, pageable, replyList.getTotalElements());
     }
 
-    private CommentResponseDTO commentList(Comment comment) {
-        List<Comment> commentList = commentService.findByChildrentList(comment.getId());
+    // 루트 댓글 페이지 아래의 대댓글을 경로 접두어로 한 번에 조회해서 부모 ID 로 묶은 뒤 트리로 조립
+    private List<CommentResponseDTO> getCommentTree(List<Comment> rootList, Long articleId) {
         List<CommentResponseDTO> commentResponseDTOList = new ArrayList<>();
-        if (commentList != null)
-            for (Comment comment1 : commentList) {
-                commentResponseDTOList.add(this.commentList(comment1));
+        if (rootList.isEmpty()) return commentResponseDTOList;
+        List<String> rootPathList = rootList.stream().map(Comment::getPath).filter(Objects::nonNull).toList();
+        List<Comment> replyList = commentService.getReplyList(articleId, rootPathList);
+        Map<String, Long> replyCountMap = commentService.countReplies(articleId, rootPathList);
+        Map<Long, List<Comment>> childrenMap = new HashMap<>();
+        for (Comment reply : replyList)
+            childrenMap.computeIfAbsent(reply.getParent().getId(), id -> new ArrayList<>()).add(reply);
+        List<Profile> profileList = new ArrayList<>();
+        rootList.forEach(comment -> profileList.add(comment.getProfile()));
+        replyList.forEach(comment -> profileList.add(comment.getProfile()));
+        Map<String, String> profileUrlMap = this.getProfileUrlMap(profileList);
+
+        Deque<Map.Entry<Comment, CommentResponseDTO>> stack = new ArrayDeque<>();
+        for (Comment root : rootList) {
+            CommentResponseDTO rootDTO = this.commentResponseDTOList(root, articleId, profileUrlMap);
+            rootDTO.setReplyCount(replyCountMap.getOrDefault(root.getPath(), 0L));
+            commentResponseDTOList.add(rootDTO);
+            stack.push(Map.entry(root, rootDTO));
+        }
+        while (!stack.isEmpty()) {
+            Map.Entry<Comment, CommentResponseDTO> node = stack.pop();
+            for (Comment child : childrenMap.getOrDefault(node.getKey().getId(), List.of())) {
+                CommentResponseDTO childDTO = this.commentResponseDTOList(child, articleId, profileUrlMap);
+                node.getValue().getCommentResponseDTOList().add(childDTO);
+                stack.push(Map.entry(child, childDTO));
             }
-        return this.commentResponseDTOList(comment, comment.getProfile(), commentResponseDTOList);
-
+        }
+        return commentResponseDTOList;
     }
 
     /**
@@ -1139,14 +1465,26 @@ public class MultiService {
      */
     @Transactional
     public LoveResponseDTO toggleLove(String username, Long articleId, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Article article = articleService.findById(articleId);
         if (article == null) throw new DataNotFoundException("게시물 객체 없음");
 
-        boolean isLoved = loveService.toggleLove(article, profile);
-        int count = loveService.countLoveByArticle(article.getId());
+        // 동시에 눌려도 유니크 제약으로 한 행만 남고, 실제로 바뀐 만큼만 카운터에 반영
+        boolean isLoved;
+        long delta = 0;
+        if (loveService.deleteIfPresent(article, profile)) {
+            isLoved = false;
+            delta = -1;
+        } else {
+            isLoved = true;
+            if (loveService.saveIfAbsent(article, profile)) delta = 1;
+        }
+        if (delta != 0) {
+            long committedDelta = delta;
+            TxUtils.afterCommit(() -> loveCountService.add(article.getId(), committedDelta));
+        }
+        int count = Math.toIntExact(article.getLoveCount() + loveCountService.getPending(article.getId()) + delta);
 
         return LoveResponseDTO.builder()
                 .count(count)
@@ -1156,15 +1494,14 @@ public class MultiService {
 
     @Transactional
     public LoveResponseDTO getLoveInfo(Long articleId, Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Article article = articleService.findById(articleId);
         if (article == null)
             throw new DataNotFoundException("게시물 객체 없음");
 
         boolean isLoved = loveService.existsByArticleAndProfile(article, profile);
-        int count = loveService.countLoveByArticle(article.getId());
+        int count = Math.toIntExact(article.getLoveCount() + loveCountService.getPending(article.getId()));
 
         return LoveResponseDTO.builder()
                 .count(count)
@@ -1172,6 +1509,30 @@ public class MultiService {
                 .build();
     }
 
+    // 게시물 목록 한 페이지의 좋아요 수, 내 좋아요 여부, 댓글 수를 한 번에 조회
+    @Transactional
+    public List<EngagementResponseDTO> getEngagementList(String username, Long profileId, List<Long> articleIdList) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (articleIdList == null || articleIdList.isEmpty()) return new ArrayList<>();
+        if (articleIdList.size() > 50) throw new IllegalArgumentException("최대 50개까지 조회 가능");
+        List<Long> idList = articleIdList.stream().distinct().toList();
+        // 다른 아파트 게시물은 빠짐 (목록에서 건너뜀)
+        Map<Long, Long> loveCountMap = articleService.getLoveCountMap(idList, actor.isAdmin() ? null : actor.aptId());
+        Set<Long> lovedSet = loveService.getLovedArticleIdSet(actor.profileId(), idList);
+        Map<Long, Long> commentCountMap = commentService.countByArticleList(idList);
+        List<EngagementResponseDTO> engagementResponseDTOList = new ArrayList<>();
+        for (Long articleId : idList) {
+            if (!loveCountMap.containsKey(articleId)) continue;
+            engagementResponseDTOList.add(EngagementResponseDTO.builder()
+                    .articleId(articleId)
+                    .loveCount(loveCountMap.get(articleId) + loveCountService.getPending(articleId))
+                    .isLoved(lovedSet.contains(articleId))
+                    .commentCount(commentCountMap.getOrDefault(articleId, 0L))
+                    .build());
+        }
+        return engagementResponseDTOList;
+    }
+
 //    @Transactional
 //    public void saveLove(String username, Long articleId, Long profileId) {
 //        SiteUser user = userService.get(username);
@@ -1222,24 +1583,89 @@ public class MultiService {
 
     @Transactional
     public TagResponseDTO saveTag(String name, Long profileId, String username) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        Tag tag = tagService.findByName(name);
-        if (tag == null) tag = tagService.save(name);
-        return this.tagResponseDTO(tag);
+        ActorRecord actor = this.actor(username, profileId);
+        Map<String, Long> tagMap = tagService.resolve(List.of(name));
+        if (tagMap.isEmpty()) throw new IllegalArgumentException("태그 이름 없음");
+        // 대소문자만 다른 태그가 이미 있으면 그 이름으로
+        Map.Entry<String, Long> tag = tagMap.entrySet().iterator().next();
+        return TagResponseDTO.builder().id(tag.getValue()).name(tag.getKey()).build();
     }
 
     @Transactional
     public TagResponseDTO getTag(String username, Long profileId, Long tagId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Tag tag = tagService.findById(tagId);
         if (tag == null) throw new DataNotFoundException("태그 객체 없음");
         return this.tagResponseDTO(tag);
     }
 
+    public List<TagCountResponseDTO> suggestTag(String username, Long profileId, String keyword, int size) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (size < 1 || size > 20) throw new IllegalArgumentException("잘못된 개수");
+        return this.tagCountResponseDTOList(tagIndexService.suggest(actor.aptId(), keyword, size));
+    }
+
+    public List<TagCountResponseDTO> tagCloud(String username, Long profileId, int size) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (size < 1 || size > 100) throw new IllegalArgumentException("잘못된 개수");
+        return this.tagCountResponseDTOList(tagIndexService.top(actor.aptId(), size));
+    }
+
+    private List<TagCountResponseDTO> tagCountResponseDTOList(List<TagCountRecord> tagCountList) {
+        return tagCountList.stream().map(tagCount -> TagCountResponseDTO.builder()
+                .id(tagCount.tagId())
+                .name(tagCount.name())
+                .count(tagCount.count()).build()).toList();
+    }
+
+    // 이름을 한 번에 태그 ID 로 바꾸고 게시물에 아직 없는 태그만 연결
+    private List<TagResponseDTO> addArticleTags(Article article, List<String> tagNameList) {
+        List<TagResponseDTO> tagResponseDTOList = new ArrayList<>();
+        if (tagNameList == null || tagNameList.isEmpty()) return tagResponseDTOList;
+        Map<String, Long> tagMap = tagService.resolve(tagNameList);
+        Set<Long> existIdSet = new HashSet<>();
+        for (ArticleTag articleTag : articleTagService.getArticleList(List.of(article.getId())))
+            existIdSet.add(articleTag.getTag().getId());
+        Map<String, Long> newTagMap = new LinkedHashMap<>();
+        tagMap.forEach((name, id) -> {
+            if (!existIdSet.contains(id)) newTagMap.put(name, id);
+        });
+        // 사용 수를 먼저 올려야 sweep 과 겹쳐도 지워진 태그에 연결하지 않음 (지워져서 빠진 태그의 예전 ID 는 버림)
+        Map<String, Long> increasedMap = tagService.increaseUseCount(newTagMap);
+        Map<String, Long> linkMap = new LinkedHashMap<>();
+        tagMap.forEach((name, id) -> {
+            if (existIdSet.contains(id)) linkMap.put(name, id);
+            else if (increasedMap.containsKey(name)) linkMap.put(name, increasedMap.get(name));
+        });
+        increasedMap.forEach(linkMap::putIfAbsent);
+        List<Long> newIdList = linkMap.values().stream().filter(id -> !existIdSet.contains(id)).distinct().toList();
+        articleTagService.saveAll(article, newIdList.stream().map(tagService::getReference).toList());
+        Map<Long, String> newTagNameMap = new HashMap<>();
+        linkMap.forEach((name, id) -> {
+            if (newIdList.contains(id)) newTagNameMap.put(id, name);
+            tagResponseDTOList.add(TagResponseDTO.builder().id(id).name(name).build());
+        });
+        tagIndexService.add(article.getProfile().getUser().getApt().getId(), newTagNameMap);
+        return tagResponseDTOList;
+    }
+
+    private void removeArticleTags(Article article, List<Long> articleTagIdList) {
+        List<Long> idList = articleTagIdList.stream().distinct().toList();
+        List<ArticleTag> articleTagList = articleTagService.getList(idList);
+        if (articleTagList.size() != idList.size()) throw new DataNotFoundException("게시물 태그 객체가 없음");
+        Map<Long, Long> tagCountMap = new HashMap<>();
+        Map<Long, String> tagNameMap = new HashMap<>();
+        for (ArticleTag articleTag : articleTagList) {
+            if (!articleTag.getArticle().getId().equals(article.getId()))
+                throw new IllegalArgumentException("다른 게시물의 태그");
+            tagCountMap.merge(articleTag.getTag().getId(), 1L, Long::sum);
+            tagNameMap.put(articleTag.getTag().getId(), articleTag.getTag().getName());
+        }
+        articleTagService.deleteByIdList(idList);
+        tagService.decreaseUseCount(tagCountMap);
+        tagIndexService.remove(article.getProfile().getUser().getApt().getId(), tagNameMap);
+    }
+
     private TagResponseDTO tagResponseDTO(Tag tag) {
         return TagResponseDTO.builder().id(tag.getId()).name(tag.getName()).build();
     }
@@ -1262,16 +1688,14 @@ public class MultiService {
      */
     @Transactional
     public CenterResponseDTO saveCenter(String username, Long profileId, int type, LocalDateTime endDate, LocalDateTime startDate) {
-        SiteUser user = userService.get(username);
-        if (user.getRole() == UserRole.USER)
+        ActorRecord actor = this.actor(username, profileId);
+        if (actor.role() == UserRole.USER)
             throw new IllegalArgumentException("권한 불일치");
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        Apt apt = aptService.get(user.getApt().getId());
+        Apt apt = aptService.get(actor.aptId());
         if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
         CultureCenter cultureCenter = cultureCenterService.save(type, endDate, startDate, apt);
 
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId()));
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId()));
         if (_multiKey.isPresent()) {
             for (String values : _multiKey.get().getVs()) {
                 Optional<MultiKey> _centerMultiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
@@ -1291,52 +1715,49 @@ public class MultiService {
             }
             multiKeyService.delete(_multiKey.get());
         }
-        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
-        MultiKey multiKey = null;
-        if (_newMultiKey.isPresent()) multiKey = _newMultiKey.get();
-        return this.centerResponseDTO(cultureCenter, multiKey);
+        return this.centerResponseDTO(cultureCenter);
     }
 
-    private CenterResponseDTO centerResponseDTO(CultureCenter cultureCenter, MultiKey multiKey) {
-        List<ImageListResponseDTO> imageListResponseDTOS = new ArrayList<>();
-        if (multiKey != null) {
-            for (String value : multiKey.getVs()) {
-                Optional<FileSystem> _fileSystem = fileSystemService.get(value);
-                _fileSystem.ifPresent(fileSystem -> imageListResponseDTOS.add(ImageListResponseDTO.builder().key(fileSystem.getK()).value(fileSystem.getV()).build()));
-            }
+    private CenterResponseDTO centerResponseDTO(CultureCenter cultureCenter) {
+        return this.centerResponseDTO(cultureCenter, this.getImageListMap(this.centerImageKeyList(List.of(cultureCenter))));
+    }
+
+    // 센터 이미지와 소속 아파트 이미지 키
+    private List<String> centerImageKeyList(Collection<CultureCenter> cultureCenterList) {
+        List<String> keyList = new ArrayList<>();
+        for (CultureCenter cultureCenter : cultureCenterList) {
+            keyList.add(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
+            keyList.add(ImageKey.APT.getKey(cultureCenter.getApt().getId().toString()));
         }
-        return CenterResponseDTO.builder().id(cultureCenter.getId()).startDate(this.dateTimeTransfer(cultureCenter.getOpenTime())).endDate(this.dateTimeTransfer(cultureCenter.getCloseTime())).type(cultureCenter.getCenterType().toString()).createDate(this.dateTimeTransfer(cultureCenter.getCreateDate())).modifyDate(this.dateTimeTransfer(cultureCenter.getModifyDate())).imageListResponseDTOS(imageListResponseDTOS).aptResponseDTO(getAptResponseDTO(cultureCenter.getApt())).build();
+        return keyList;
+    }
+
+    private CenterResponseDTO centerResponseDTO(CultureCenter cultureCenter, Map<String, List<ImageListResponseDTO>> imageListMap) {
+        List<ImageListResponseDTO> imageListResponseDTOS = imageListMap.getOrDefault(ImageKey.CENTER.getKey(cultureCenter.getId().toString()), new ArrayList<>());
+        return CenterResponseDTO.builder().id(cultureCenter.getId()).startDate(this.dateTimeTransfer(cultureCenter.getOpenTime())).endDate(this.dateTimeTransfer(cultureCenter.getCloseTime())).type(cultureCenter.getCenterType().toString()).createDate(this.dateTimeTransfer(cultureCenter.getCreateDate())).modifyDate(this.dateTimeTransfer(cultureCenter.getModifyDate())).imageListResponseDTOS(imageListResponseDTOS).aptResponseDTO(getAptResponseDTO(cultureCenter.getApt(), imageListMap)).build();
     }
 
     @Transactional
     public CenterResponseDTO getCenter(String username, Long profileId, Long centerId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체 없음");
-        if (!cultureCenter.getApt().equals(user.getApt()) && UserRole.ADMIN != user.getRole())
+        if (!this.sameApt(actor, cultureCenter.getApt()) && UserRole.ADMIN != actor.role())
             throw new IllegalArgumentException("권한이 없음");
-        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
-        MultiKey newMultiKey = null;
-        if (_newMultiKey.isPresent())
-            newMultiKey = _newMultiKey.get();
-        return centerResponseDTO(cultureCenter, newMultiKey);
+        return centerResponseDTO(cultureCenter);
     }
 
     @Transactional
     public CenterResponseDTO updateCenter(String username, Long profileId, Long id, int type, LocalDateTime endDate, LocalDateTime startDate) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         CultureCenter cultureCenter = cultureCenterService.findById(id);
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체 없음");
-        if (user.getRole() == UserRole.USER && !user.getApt().equals(cultureCenter.getApt()))
+        if (actor.role() == UserRole.USER && !this.sameApt(actor, cultureCenter.getApt()))
             throw new IllegalArgumentException("권한 불일치");
         cultureCenterService.update(cultureCenter, type, endDate, startDate);
-        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + profile.getId()));
+        Optional<MultiKey> _newMultiKey = multiKeyService.get(ImageKey.TEMP.getKey(username + "." + actor.profileId()));
 
         if (_newMultiKey.isPresent()) {
             String newFile = "/api/center" + "/" + cultureCenter.getId() + "/";
@@ -1357,34 +1778,25 @@ public class MultiService {
             }
             multiKeyService.delete(_newMultiKey.get());
         }
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
-        MultiKey newMultiKey = null;
-        if (_multiKey.isPresent())
-            newMultiKey = _multiKey.get();
-        return centerResponseDTO(cultureCenter, newMultiKey);
+        return centerResponseDTO(cultureCenter);
 
     }
 
 
     @Transactional
     public void deleteCenter(String username, Long profileId, Long centerId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체 없음");
-        if (user.getRole() == UserRole.USER && !user.getApt().equals(cultureCenter.getApt()))
+        if (actor.role() == UserRole.USER && !this.sameApt(actor, cultureCenter.getApt()))
             throw new IllegalArgumentException("권한 불일치");
         Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
-        String path = AptProjectApplication.getOsType().getLoc();
         if (_multiKey.isPresent()) {
             for (String values : _multiKey.get().getVs()) {
                 Optional<FileSystem> _fileSystem = fileSystemService.get(values);
                 if (_fileSystem.isPresent()) {
-                    Path tempPath = Paths.get(path + _fileSystem.get().getV());
-                    File file = tempPath.toFile();
-                    this.deleteFolder(file.getParentFile());
+                    this.deleteFile(_fileSystem.get());
                     fileSystemService.delete(_fileSystem.get());
                 }
             }
@@ -1395,20 +1807,13 @@ public class MultiService {
 
     @Transactional
     public List<CenterResponseDTO> getCenterList(String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
-        List<CultureCenter> cultureCenterList = cultureCenterService.getList(user.getApt().getId());
+        ActorRecord actor = this.actor(username, profileId);
+        List<CultureCenter> cultureCenterList = cultureCenterService.getList(actor.aptId());
         if (cultureCenterList == null) throw new DataNotFoundException("센터 리스트 없음");
         List<CenterResponseDTO> centerResponseDTOS = new ArrayList<>();
-
-        for (CultureCenter cultureCenter : cultureCenterList) {
-            Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.CENTER.getKey(cultureCenter.getId().toString()));
-            MultiKey multiKey = null;
-            if (_multiKey.isPresent()) multiKey = _multiKey.get();
-
-            centerResponseDTOS.add(centerResponseDTO(cultureCenter, multiKey));
-        }
+        Map<String, List<ImageListResponseDTO>> imageListMap = this.getImageListMap(this.centerImageKeyList(cultureCenterList));
+        for (CultureCenter cultureCenter : cultureCenterList)
+            centerResponseDTOS.add(centerResponseDTO(cultureCenter, imageListMap));
         return centerResponseDTOS;
     }
 
@@ -1418,70 +1823,84 @@ public class MultiService {
 
     @Transactional
     public LessonResponseDTO saveLesson(String username, Long profileId, Long centerId, String name, String content, LocalDateTime startDate, LocalDateTime endDate) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
-        if (user.getRole() != UserRole.STAFF && !user.getApt().equals(cultureCenter.getApt()))
+        if (actor.role() != UserRole.STAFF && !this.sameApt(actor, cultureCenter.getApt()))
             throw new IllegalArgumentException("권한 불일치");
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체가 없음");
         Lesson lesson = lessonService.save(cultureCenter, profile, name, content, startDate, endDate);
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId()));
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId()));
         if (_multiKey.isPresent())
             lesson = this.updateLessonContent(lesson, _multiKey.get());
         return this.lessonResponseDTO(lesson);
     }
 
     private Lesson updateLessonContent(Lesson lesson, MultiKey multiKey) {
-        String content = lesson.getContent();
-        for (String keyName : multiKey.getVs()) {
-            Optional<MultiKey> _articleMulti = multiKeyService.get(ImageKey.LESSON.getKey(lesson.getId().toString()));
-            Optional<FileSystem> _fileSystem = fileSystemService.get(keyName);
-            if (_fileSystem.isPresent()) {
-                String newFile = "/api/lesson" + "/" + lesson.getId() + "/";
-                String newUrl = this.fileMove(_fileSystem.get().getV(), newFile, _fileSystem.get());
-                if (_articleMulti.isEmpty()) {
-                    MultiKey multiKey1 = multiKeyService.save(ImageKey.LESSON.getKey(lesson.getId().toString()), ImageKey.LESSON.getKey(lesson.getId().toString() + ".0"));
-                    fileSystemService.save(multiKey1.getVs().getLast(), newUrl);
-                } else {
-                    multiKeyService.add(_articleMulti.get(), ImageKey.LESSON.getKey(lesson.getId().toString()) + "." + _articleMulti.get().getVs().size());
-                    fileSystemService.save(_articleMulti.get().getVs().getLast(), newUrl);
-                }
-                content = content.replace(_fileSystem.get().getV(), newUrl);
-            }
-        }
-        multiKeyService.delete(multiKey);
+        String content = this.commitImages(ImageKey.LESSON, "/api/lesson", lesson.getId(), lesson.getContent(), multiKey);
         return lessonService.updateContent(lesson, content);
     }
 
+    /**
+     * 임시 이미지들을 대상 폴더로 옮기고 본문의 주소를 바꿈
+     * 임시 키 조회, FileSystem 추가/삭제, MultiKey 갱신은 각각 한 번씩만 하고 본문은 한 번만 훑는다.
+     */
+    private String commitImages(ImageKey imageKey, String folder, Long id, String content, MultiKey tempMultiKey) {
+        List<FileSystem> tempFileList = fileSystemService.getList(tempMultiKey.getVs());
+        String targetKey = imageKey.getKey(id.toString());
+        Optional<MultiKey> _targetMulti = multiKeyService.get(targetKey);
+        int index = _targetMulti.map(multiKey -> multiKey.getVs().size()).orElse(0);
+        Map<String, String> urlMap = new HashMap<>();
+        List<String> newKeyList = new ArrayList<>();
+        List<FileSystem> newFileList = new ArrayList<>();
+        for (FileSystem tempFile : tempFileList) {
+            String newUrl = this.moveFile(tempFile.getV(), folder + "/" + id + "/");
+            String newKey = targetKey + "." + index++;
+            newKeyList.add(newKey);
+            newFileList.add(FileSystem.builder().k(newKey).v(newUrl).build());
+            urlMap.put(tempFile.getV(), newUrl);
+        }
+        fileSystemService.deleteByKeyList(tempFileList.stream().map(FileSystem::getK).toList());
+        fileSystemService.saveAll(newFileList);
+        if (!newKeyList.isEmpty()) {
+            if (_targetMulti.isPresent()) multiKeyService.addAll(_targetMulti.get(), newKeyList);
+            else multiKeyService.saveAll(targetKey, newKeyList);
+        }
+        multiKeyService.delete(tempMultiKey);
+        return this.replaceUrls(content, urlMap);
+    }
+
+    // 바꿀 주소들을 하나의 패턴으로 묶어 본문을 한 번만 치환
+    private String replaceUrls(String content, Map<String, String> urlMap) {
+        if (content == null || urlMap.isEmpty()) return content;
+        String regex = urlMap.keySet().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return Pattern.compile(regex).matcher(content).replaceAll(match -> Matcher.quoteReplacement(urlMap.get(match.group())));
+    }
+
 
     private LessonResponseDTO lessonResponseDTO(Lesson lesson) {
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.CENTER.getKey(lesson.getCultureCenter().getId().toString()));
-        MultiKey centerMulti = null;
-        if (_multiKey.isPresent()) centerMulti = _multiKey.get();
-        Optional<FileSystem> _fileSystem = fileSystemService.get(ImageKey.USER.getKey(lesson.getProfile().getUser().getUsername() + "." + lesson.getProfile().getId()));
-        String profileUrl = null;
-        if (_fileSystem.isPresent()) profileUrl = _fileSystem.get().getV();
-        Optional<MultiKey> _lessonKey = multiKeyService.get(ImageKey.CENTER.getKey(lesson.getId().toString()));
-        List<String> key = new ArrayList<>();
-        if (_lessonKey.isPresent()) {
-            for (String keyName : _lessonKey.get().getVs()) {
-                Optional<FileSystem> _lessonFileUrl = fileSystemService.get(keyName);
-                _lessonFileUrl.ifPresent(fileSystem -> key.add(fileSystem.getK()));
+        return this.lessonResponseDTOList(List.of(lesson)).getFirst();
+    }
 
-            }
-        }
+    // 페이지의 센터/아파트 이미지와 강사 프로필 이미지를 한 번에 조회
+    private List<LessonResponseDTO> lessonResponseDTOList(List<Lesson> lessonList) {
+        Map<String, List<ImageListResponseDTO>> imageListMap = this.getImageListMap(this.centerImageKeyList(lessonList.stream().map(Lesson::getCultureCenter).distinct().toList()));
+        Map<String, String> profileUrlMap = this.getProfileUrlMap(lessonList.stream().map(Lesson::getProfile).toList());
+        List<LessonResponseDTO> lessonResponseDTOList = new ArrayList<>();
+        for (Lesson lesson : lessonList)
+            lessonResponseDTOList.add(this.lessonResponseDTO(lesson, imageListMap, profileUrlMap.get(ImageKey.USER.getKey(lesson.getProfile().getUser().getUsername() + "." + lesson.getProfile().getId()))));
+        return lessonResponseDTOList;
+    }
 
+    private LessonResponseDTO lessonResponseDTO(Lesson lesson, Map<String, List<ImageListResponseDTO>> imageListMap, String profileUrl) {
         return LessonResponseDTO.builder() //
                 .id(lesson.getId()) //
-                .centerResponseDTO(this.centerResponseDTO(lesson.getCultureCenter(), centerMulti)) //
-                .profileResponseDTO(ProfileResponseDTO.builder() //
-                        .id(lesson.getProfile().getId()) //
-                        .username(lesson.getProfile().getUser().getUsername()) //
-                        .name(lesson.getProfile().getName()) //
-                        .url(profileUrl) //
-                        .build()) //
+                .centerResponseDTO(this.centerResponseDTO(lesson.getCultureCenter(), imageListMap)) //
+                .profileResponseDTO(this.profileResponseDTO(lesson.getProfile().getId(), lesson.getProfile().getName(), lesson.getProfile().getUser().getUsername(), profileUrl)) //
                 .createDate(this.dateTimeTransfer(lesson.getCreateDate())) //
                 .modifyDate(this.dateTimeTransfer(lesson.getModifyDate())) //
                 .name(lesson.getName()) //
@@ -1493,51 +1912,43 @@ public class MultiService {
 
     @Transactional
     public LessonResponseDTO getLesson(String username, Long profileId, Long lessonId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Lesson lesson = lessonService.findById(lessonId);
         if (lesson == null)
             throw new DataNotFoundException("레슨 객체 없음");
 
-        if (!user.getApt().equals(lesson.getCultureCenter().getApt()))
+        if (!this.sameApt(actor, lesson.getCultureCenter().getApt()))
             throw new IllegalArgumentException("권한 없음");
         return this.lessonResponseDTO(lesson);
     }
 
     @Transactional
     public Page<LessonResponseDTO> getLessonPage(String username, Long profileId, int page, Long centerId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Pageable pageable = PageRequest.of(page, 15);
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체 없음");
-        if (!user.getApt().equals(cultureCenter.getApt()))
+        if (!this.sameApt(actor, cultureCenter.getApt()))
             throw new IllegalArgumentException("권한 없음");
 
-        Page<Lesson> lessonPage = lessonService.getPage(user.getApt().getId(), pageable, cultureCenter);
+        Page<Lesson> lessonPage = lessonService.getPage(actor.aptId(), pageable, cultureCenter);
         if (lessonPage == null)
             throw new DataNotFoundException("레슨 페이지 객체 없음");
-        List<LessonResponseDTO> lessonResponseDTOS = new ArrayList<>();
-        for (Lesson lesson : lessonPage)
-            lessonResponseDTOS.add(this.lessonResponseDTO(lesson));
+        List<LessonResponseDTO> lessonResponseDTOS = this.lessonResponseDTOList(lessonPage.getContent());
 
         return new PageImpl<>(lessonResponseDTOS, pageable, lessonPage.getTotalElements());
     }
 
     @Transactional
     public LessonResponseDTO updateLesson(String username, Long profileId, Long id, Long centerId, String name, String content, LocalDateTime startDate, LocalDateTime endDate) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
         if (cultureCenter == null) throw new DataNotFoundException("센터 객체 없음");
         Lesson lesson = lessonService.findById(id);
         if (lesson == null)
             throw new DataNotFoundException("레슨 객체 없음");
-        if (!lesson.getProfile().equals(profile))
+        if (!this.isActor(actor, lesson.getProfile()))
             throw new IllegalArgumentException("레슨 강사 아님");
 //        Optional<MultiKey> _oldMulti = multiKeyService.get(ImageKey.LESSON.getKey(lesson.getId().toString()));
 //        if (_oldMulti.isPresent()) {
@@ -1554,7 +1965,7 @@ public class MultiService {
 
 
         Lesson newlesson = lessonService.update(lesson, name, content, startDate, endDate);
-        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(user.getUsername() + "." + profile.getId()));
+        Optional<MultiKey> _multiKey = multiKeyService.get(ImageKey.TEMP.getKey(actor.username() + "." + actor.profileId()));
         if (_multiKey.isPresent())
             newlesson = this.updateLessonContent(newlesson, _multiKey.get());
 
@@ -1563,13 +1974,11 @@ public class MultiService {
 
     @Transactional
     public void deleteLesson(String username, Long profileId, Long lessonId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Lesson lesson = lessonService.findById(lessonId);
         if (lesson == null)
             throw new DataNotFoundException("레슨 객체 없음");
-        if (!lesson.getProfile().equals(profile))
+        if (!this.isActor(actor, lesson.getProfile()))
             throw new IllegalArgumentException("레슨 강사 아님");
         this.deleteLessonList(lesson);
 
@@ -1586,20 +1995,15 @@ public class MultiService {
 
     @Transactional
     public Page<LessonResponseDTO> getLessonStaff(String username, Long profileId, Long centerId, int page) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         CultureCenter cultureCenter = cultureCenterService.findById(centerId);
         if (cultureCenter == null)
             throw new DataNotFoundException("센터 객체 없음");
-        if (!cultureCenter.getApt().equals(user.getApt()) || user.getRole() == UserRole.USER)
+        if (!this.sameApt(actor, cultureCenter.getApt()) || actor.role() == UserRole.USER)
             throw new IllegalArgumentException("권한 없음");
         Pageable pageable = PageRequest.of(page, 10);
-        Page<Lesson> lessonPage = lessonService.findByProfileAndCenter(profile.getId(), cultureCenter.getId(), pageable);
-        List<LessonResponseDTO> lessonResponseDTOList = new ArrayList<>();
-        for (Lesson lesson : lessonPage) {
-            lessonResponseDTOList.add(this.lessonResponseDTO(lesson));
-        }
+        Page<Lesson> lessonPage = lessonService.findByProfileAndCenter(actor.profileId(), cultureCenter.getId(), pageable);
+        List<LessonResponseDTO> lessonResponseDTOList = this.lessonResponseDTOList(lessonPage.getContent());
         return new PageImpl<>(lessonResponseDTOList, pageable, lessonPage.getTotalElements());
     }
 
@@ -1610,15 +2014,14 @@ public class MultiService {
 
     @Transactional
     public LessonUserResponseDTO saveLessonUser(String username, Long profileId, Long lessonId, int type) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         Lesson lesson = lessonService.findById(lessonId);
         if (lesson == null)
             throw new DataNotFoundException("레슨 객체 없음");
-        if (!user.getApt().equals(lesson.getCultureCenter().getApt()))
+        if (!this.sameApt(actor, lesson.getCultureCenter().getApt()))
             throw new IllegalArgumentException("같은 아파트 아님");
-        LessonUser lessonUser = lessonUserService.findByLessonAndProfile(lesson.getId(), profile.getId());
+        LessonUser lessonUser = lessonUserService.findByLessonAndProfile(lesson.getId(), actor.profileId());
         if (lessonUser == null)
             lessonUser = lessonUserService.save(lesson, profile, type);
         return this.lessonUserResponseDTO(lessonUser);
@@ -1635,22 +2038,19 @@ public class MultiService {
 
     @Transactional
     public LessonUserResponseDTO getLessonUser(String username, Long profileId, Long lessonUserId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         LessonUser lessonUser = lessonUserService.findById(lessonUserId);
         if (lessonUser == null)
             throw new DataNotFoundException("레슨신청 객체 없음");
-        if (!lessonUser.getProfile().equals(profile) && user.getRole() == UserRole.USER && !user.getApt().equals(lessonUser.getLesson().getCultureCenter().getApt()))
+        if (!this.isActor(actor, lessonUser.getProfile()) && actor.role() == UserRole.USER && !this.sameApt(actor, lessonUser.getLesson().getCultureCenter().getApt()))
             throw new IllegalArgumentException("권한이 없음");
         return lessonUserResponseDTO(lessonUser);
     }
 
     @Transactional
     public List<LessonUserResponseDTO> getLessonUserMyList(String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         List<LessonUser> lessonUserList = lessonUserService.getMyList(profile);
         List<LessonUserResponseDTO> userResponseDTOS = new ArrayList<>();
         for (LessonUser lessonUser : lessonUserList) {
@@ -1661,13 +2061,11 @@ public class MultiService {
 
     @Transactional
     public List<LessonUserResponseDTO> getLessonUserStaffList(String username, Long profileId, int type, Long lessonId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         Lesson lesson = lessonService.findById(lessonId);
         if (lesson == null)
             throw new DataNotFoundException("레슨 객체 없음");
-        if (!lesson.getProfile().equals(profile))
+        if (!this.isActor(actor, lesson.getProfile()))
             throw new IllegalArgumentException("레슨 강사 아님");
         List<LessonUser> lessonUserList = lessonUserService.getStaffList(lesson, type);
         List<LessonUserResponseDTO> userResponseDTOS = new ArrayList<>();
@@ -1679,25 +2077,21 @@ public class MultiService {
 
     @Transactional
     public LessonUserResponseDTO updateLessonUser(String username, Long profileId, Long id, int type) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         LessonUser lessonUser = lessonUserService.findById(id);
         if (lessonUser == null)
             throw new DataNotFoundException("레슨신청 객체 없음");
-        if (!lessonUser.getProfile().equals(profile) && !lessonUser.getLesson().getProfile().equals(profile))
+        if (!this.isActor(actor, lessonUser.getProfile()) && !this.isActor(actor, lessonUser.getLesson().getProfile()))
             throw new IllegalArgumentException("권한이 없음");
         return lessonUserResponseDTO(lessonUserService.update(lessonUser, type));
     }
 
     @Transactional
     public void deleteLessonUser(String username, Long profileId, Long lessonUserId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
         LessonUser lessonUser = lessonUserService.findById(lessonUserId);
         if (lessonUser == null) throw new DataNotFoundException("레슨신청 객체 없음");
-        if (!(lessonUser.getProfile().equals(profile) || lessonUser.getLesson().getProfile().equals(profile)) && user.getRole() == UserRole.USER)
+        if (!(this.isActor(actor, lessonUser.getProfile()) || this.isActor(actor, lessonUser.getLesson().getProfile())) && actor.role() == UserRole.USER)
             throw new IllegalArgumentException("권한 없음");
         lessonUserService.delete(lessonUser);
     }
@@ -1709,19 +2103,18 @@ public class MultiService {
 
     @Transactional
     public ChatRoomResponseDTO saveChatRoom(String username, List<Long> targetProfileList, Long profileId, String title) {
-        SiteUser sendUser = userService.get(username);
-        Profile sendProfile = profileService.findById(profileId);
-        this.userCheck(sendUser, sendProfile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile sendProfile = profileService.getReference(actor.profileId());
         ChatRoom chatRoom = chatRoomService.save(title);
         chatRoomUserService.save(sendProfile, chatRoom);
         for (Long id : targetProfileList) {
-            if (!sendProfile.getId().equals(id)) {
+            if (!actor.profileId().equals(id)) {
                 Profile targetProfile = profileService.findById(id);
                 if (targetProfile == null)
                     throw new DataNotFoundException("상대 프로필 객체 없음");
                 if (targetProfile.getUser().getRole() == UserRole.ADMIN)
                     throw new IllegalArgumentException("어드민한테 메세지를 보낼 수 없음");
-                if (!sendProfile.getUser().getApt().equals(targetProfile.getUser().getApt()))
+                if (!this.sameApt(actor, targetProfile.getUser().getApt()))
                     throw new IllegalArgumentException("같은 아파트 주민 아님");
                 ChatRoomUser chatRoomUser = chatRoomUserService.findByProfile(chatRoom, targetProfile);
                 if (chatRoomUser == null)
@@ -1759,9 +2152,8 @@ public class MultiService {
 
     @Transactional
     public ChatRoomResponseDTO ChatRoomDetail(String username, Long profileId, Long chatRoomId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         ChatRoom chatRoom = chatRoomService.findById(chatRoomId);
         if (chatRoom == null)
             throw new DataNotFoundException("채팅방 객체 없음");
@@ -1771,9 +2163,8 @@ public class MultiService {
 
     @Transactional
     public List<ChatRoomResponseDTO> ChatRoomMyList(String username, Long profileId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         List<ChatRoomUser> chatRoomUserList = chatRoomUserService.getList(profile);
         List<ChatRoomResponseDTO> chatRoomResponseDTOS = new ArrayList<>();
         for (ChatRoomUser chatRoomUser : chatRoomUserList) {
@@ -1784,9 +2175,8 @@ public class MultiService {
 
     @Transactional
     public ChatRoomResponseDTO ChatRoomUpdate(String username, Long profileId, Long id, String title) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         ChatRoom targetChatRoom = chatRoomService.findById(id);
         if (targetChatRoom == null)
             throw new DataNotFoundException("채팅방 객체 없음");
@@ -1797,9 +2187,8 @@ public class MultiService {
 
     @Transactional
     public ChatRoomResponseDTO ChatRoomUserUpdate(String username, Long profileId, Long id, List<Long> targetProfileList) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         ChatRoom chatRoom = chatRoomService.findById(id);
         if (chatRoom == null)
             throw new DataNotFoundException("채팅방 객체 없음");
@@ -1807,13 +2196,13 @@ public class MultiService {
         if (chatRoomUser == null)
             throw new DataNotFoundException("채팅방에 있는 유저가 아님");
         for (Long targetProfileId : targetProfileList) {
-            if (!profile.getId().equals(targetProfileId)) {
+            if (!actor.profileId().equals(targetProfileId)) {
                 Profile targetProfile = profileService.findById(targetProfileId);
                 if (targetProfile == null)
                     throw new DataNotFoundException("상대 프로필 객체 없음");
                 if (targetProfile.getUser().getRole() == UserRole.ADMIN)
                     throw new IllegalArgumentException("어드민한테 메세지를 보낼 수 없음");
-                if (!profile.getUser().getApt().equals(targetProfile.getUser().getApt()))
+                if (!this.sameApt(actor, targetProfile.getUser().getApt()))
                     throw new IllegalArgumentException("같은 아파트 주민 아님");
                 ChatRoomUser targetChatRoomUser = chatRoomUserService.findByProfile(chatRoom, targetProfile);
                 if (targetChatRoomUser == null)
@@ -1825,9 +2214,8 @@ public class MultiService {
 
     @Transactional
     public void ChatRoomUserOut(String username, Long profileId, Long chatRoomId) {
-        SiteUser user = userService.get(username);
-        Profile profile = profileService.findById(profileId);
-        this.userCheck(user, profile);
+        ActorRecord actor = this.actor(username, profileId);
+        Profile profile = profileService.getReference(actor.profileId());
         ChatRoom chatRoom = chatRoomService.findById(chatRoomId);
         if (chatRoom == null)
             throw new DataNotFoundException("채팅방 객체 없음");
@@ -1870,14 +2258,11 @@ public class MultiService {
 
     @Transactional
     public ProposeResponseDTO getPropose(String username, Long proposeId, String password) {
-        SiteUser user = null;
-        if (username != null) {
-            user = this.userService.get(username);
-        }
+        ActorRecord actor = username != null ? this.userActor(username) : null;
         Propose propose = this.proposeService.get(proposeId);
-        if (user != null && user.getRole() != UserRole.ADMIN) {
+        if (actor != null && actor.role() != UserRole.ADMIN) {
             throw new IllegalArgumentException("NOT AUTH");
-        } else if (user == null && !this.proposeService.isMatchPropose(password, propose.getPassword())) {
+        } else if (actor == null && !this.proposeService.isMatchPropose(password, propose.getPassword())) {
             throw new IllegalArgumentException("NOT AUTH");
         }
         return this.proposeResponseDTO(propose);
@@ -1886,14 +2271,11 @@ public class MultiService {
 
     @Transactional
     public ProposeResponseDTO updatePropose(String username, ProposeRequestDTO proposeRequestDTO) {
-        SiteUser user = null;
-        if (username != null) {
-            user = this.userService.get(username);
-        }
+        ActorRecord actor = username != null ? this.userActor(username) : null;
         Propose _propose = this.proposeService.get(proposeRequestDTO.getId());
-        if (user != null && user.getRole() != UserRole.ADMIN) {
+        if (actor != null && actor.role() != UserRole.ADMIN) {
             throw new IllegalArgumentException("NOT AUTH");
-        } else if (user == null && !this.proposeService.isMatchPropose(proposeRequestDTO.getPassword(), _propose.getPassword())) {
+        } else if (actor == null && !this.proposeService.isMatchPropose(proposeRequestDTO.getPassword(), _propose.getPassword())) {
             throw new IllegalArgumentException("NOT AUTH");
         }
         Propose propose = this.proposeService.update(_propose, proposeRequestDTO);
@@ -1903,14 +2285,11 @@ public class MultiService {
 
     @Transactional
     public void deletePropose(String username, Long id, String password) {
-        SiteUser user = null;
-        if (username != null) {
-            user = this.userService.get(username);
-        }
+        ActorRecord actor = username != null ? this.userActor(username) : null;
         Propose propose = this.proposeService.get(id);
-        if (user != null && user.getRole() != UserRole.ADMIN) {
+        if (actor != null && actor.role() != UserRole.ADMIN) {
             throw new IllegalArgumentException("NOT AUTH");
-        } else if (user == null && !this.proposeService.isMatchPropose(password, propose.getPassword())) {
+        } else if (actor == null && !this.proposeService.isMatchPropose(password, propose.getPassword())) {
             throw new IllegalArgumentException("NOT AUTH");
         }
         this.proposeService.delete(propose);
@@ -1935,14 +2314,135 @@ public class MultiService {
 
     @Transactional
     public void sendEmail (String username, EmailRequestDTO requestDTO) {
-        SiteUser user = null;
-        if (username != null) {
-            user = this.userService.get(username);
-        }
-        if (user != null && user.getRole() != UserRole.ADMIN) {
+        ActorRecord actor = username != null ? this.userActor(username) : null;
+        if (actor != null && actor.role() != UserRole.ADMIN) {
             throw new IllegalArgumentException("NOT AUTH");
         }
        this.emailService.mailSend(requestDTO);
     }
 
+
+    /**
+     * Job
+     */
+
+    @Transactional
+    public JobResponseDTO submitProvisionJob(String username, Long profileId, Long aptId, Integer min, Integer max, Integer h, Integer w) {
+        ActorRecord actor = this.actor(username, profileId);
+        Apt apt = aptService.get(aptId);
+        if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
+        if (actor.role() != UserRole.ADMIN && !(actor.role() == UserRole.SECURITY && this.sameApt(actor, apt)))
+            throw new IllegalArgumentException("권한 불일치");
+        if (min == null || max == null || h == null || w == null || min > max || h < 1 || w < 1)
+            throw new IllegalArgumentException("잘못된 세대 정보");
+        Job job = jobService.save(JobType.PROVISION, this.toJson(new ProvisionJobRecord(aptId, min, max, h, w)), username);
+        return this.jobResponseDTO(job);
+    }
+
+    @Transactional
+    public JobResponseDTO submitDeleteUserJob(String username, Long profileId, String deleteUsername) {
+        ActorRecord actor = this.actor(username, profileId);
+        SiteUser deleteUser = userService.get(deleteUsername);
+        if (deleteUser == null)
+            throw new DataNotFoundException("타겟 유저 없음");
+        if (actor.role() != UserRole.ADMIN)
+            if (!(actor.role() == UserRole.SECURITY && this.sameApt(actor, deleteUser.getApt())))
+                throw new IllegalArgumentException("삭제 권한 없음");
+        Job job = jobService.save(JobType.DELETE_USER, this.toJson(new DeleteUserJobRecord(deleteUsername)), username);
+        return this.jobResponseDTO(job);
+    }
+
+    @Transactional
+    public JobResponseDTO submitEmailJob(String username, Long profileId, EmailRequestDTO requestDTO) {
+        ActorRecord actor = this.actor(username, profileId);
+        if (!actor.isAdmin()) throw new IllegalArgumentException("NOT AUTH");
+        Job job = jobService.save(JobType.SEND_EMAIL, this.toJson(requestDTO), username);
+        return this.jobResponseDTO(job);
+    }
+
+    @Transactional
+    public JobResponseDTO getJob(String username, Long profileId, Long jobId) {
+        ActorRecord actor = this.actor(username, profileId);
+        Job job = jobService.get(jobId);
+        if (job == null) throw new DataNotFoundException("작업 객체 없음");
+        if (!actor.isAdmin() && !username.equals(job.getUsername())) throw new IllegalArgumentException("권한 불일치");
+        return this.jobResponseDTO(job);
+    }
+
+    @Transactional
+    public Page<JobResponseDTO> getJobList(String username, Long profileId, int page) {
+        ActorRecord actor = this.actor(username, profileId);
+        Pageable pageable = PageRequest.of(page, 15);
+        Page<Job> jobPage = jobService.getList(pageable, actor.isAdmin() ? null : username);
+        List<JobResponseDTO> jobResponseDTOList = jobPage.getContent().stream().map(this::jobResponseDTO).toList();
+        return new PageImpl<>(jobResponseDTOList, pageable, jobPage.getTotalElements());
+    }
+
+    // 아래 run 메소드는 JobWorker 에서만 호출 - 권한은 작업 등록 시 확인함
+    @Transactional
+    public String runProvisionJob(Job job, BiConsumer<Integer, Integer> progress) {
+        ProvisionJobRecord record = this.fromJson(job.getPayload(), ProvisionJobRecord.class);
+        Apt apt = aptService.get(record.aptId());
+        if (apt == null) throw new DataNotFoundException("아파트 객체 없음");
+        List<ResidentRecord> residentList = this.provisionResidents(apt, record.min(), record.max(), record.h(), record.w(),
+                provision -> progress.accept(provision.done(), provision.total()));
+        ProvisionRecord result = userProvisionService.getProgress(apt.getId());
+        return residentList.size() + "세대 중 " + (result != null ? result.created() : 0) + "세대 생성";
+    }
+
+    // 세대 생성 작업처럼 묶음마다 커밋 - 중간에 멈추면 지운 만큼은 남고, 다시 실행하면 남은 것부터 지움
+    public String runDeleteUserJob(Job job, BiConsumer<Integer, Integer> progress) {
+        DeleteUserJobRecord record = this.fromJson(job.getPayload(), DeleteUserJobRecord.class);
+        ActorRecord target = userService.getActor(record.username(), null);
+        if (target == null) return "이미 삭제된 유저";
+        TransactionTemplate batch = new TransactionTemplate(transactionManager);
+        batch.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<Long> profileIdList = batch.execute(status -> profileService.findProfilesByUserList(userService.getReference(target.username())).stream().map(Profile::getId).toList());
+        CascadeRecord cascade = this.cascadeDeleteProfiles(target.username(), target.aptId(), profileIdList, progress, batch);
+        batch.executeWithoutResult(status -> {
+            SiteUser user = userService.get(target.username());
+            if (user != null) userService.deleteUser(user);
+        });
+        return record.username() + " 삭제 (" + cascade.add("site_user", 1) + ")";
+    }
+
+    // 제안 승인 안내 메일 한 통 (받는 사람은 제안한 사람) - 계정 정보가 담겨 있어 입주민에게 나눠 보낼 메일이 아님
+    public String runEmailJob(Job job, BiConsumer<Integer, Integer> progress) {
+        EmailRequestDTO requestDTO = this.fromJson(job.getPayload(), EmailRequestDTO.class);
+        progress.accept(0, 1);
+        this.emailService.mailSend(requestDTO);
+        progress.accept(1, 1);
+        return requestDTO.getTo() + " 발송";
+    }
+
+    private JobResponseDTO jobResponseDTO(Job job) {
+        return JobResponseDTO.builder()
+                .id(job.getId())
+                .type(job.getType().name())
+                .status(job.getStatus().name())
+                .username(job.getUsername())
+                .total(job.getTotal())
+                .done(job.getDone())
+                .message(job.getMessage())
+                .createDate(this.dateTimeTransfer(job.getCreateDate()))
+                .startDate(this.dateTimeTransfer(job.getStartDate()))
+                .finishDate(this.dateTimeTransfer(job.getFinishDate()))
+                .build();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("작업 파라미터 변환 실패");
+        }
+    }
+
+    private <T> T fromJson(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("작업 파라미터 변환 실패");
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package com.second_team.apt_project.services;
+
+import com.second_team.apt_project.AptProjectApplication;
+import com.second_team.apt_project.records.SweepRecord;
+import com.second_team.apt_project.services.module.FileSystemService;
+import com.second_team.apt_project.services.module.ImageVariantService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 버려진 임시 업로드와 고아 파일 정리
+ * 1. TTL 이 지난 TEMP MultiKey / FileSystem 행과 파일을 묶음 단위로 지운다.
+ * 2. 저장 폴더를 walkFileTree 로 돌면서 TTL 보다 오래됐고 FileSystem 행이 없는 파일을 묶음 단위로 확인해서 지운다.
+ * 내용 주소 파일(/api/blob)은 참조 수로 관리하므로 FileBlobService.sweep 이 맡는다.
+ */
+@Slf4j
+@Service
+public class TempUploadSweeper {
+    private static final List<String> FOLDER_LIST = List.of("/api/user", "/api/article", "/api/lesson", "/api/center", "/api/apt");
+    private static final String STAGING = "/upload_tmp";
+
+    private final MultiService multiService;
+    private final FileSystemService fileSystemService;
+    private final long ttl;
+    private final int batchSize;
+    private final int maxBatches;
+    // 비어 있으면 OS 별 저장 위치
+    private final String root;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TempUploadSweeper(MultiService multiService, FileSystemService fileSystemService,
+                             @Value("${file.gc.ttl:86400000}") long ttl,
+                             @Value("${file.gc.batch-size:500}") int batchSize,
+                             @Value("${file.gc.max-batches:100}") int maxBatches,
+                             @Value("${file.gc.root:}") String root) {
+        this.multiService = multiService;
+        this.fileSystemService = fileSystemService;
+        this.ttl = ttl;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.root = root;
+    }
+
+    @Scheduled(initialDelayString = "${file.gc.interval:3600000}", fixedDelayString = "${file.gc.interval:3600000}")
+    public SweepRecord sweep() {
+        if (!running.compareAndSet(false, true)) return new SweepRecord(0, 0, 0);
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(ttl));
+            SweepRecord temp = this.sweepTemp(before);
+            SweepRecord orphan = this.sweepOrphan(start - ttl);
+            SweepRecord total = temp.add(orphan);
+            if (total.rows() > 0 || total.files() > 0)
+                log.info("temp upload sweep: temp rows {}, temp files {}, orphan files {}, reclaimed {} bytes in {} ms",
+                        temp.rows(), temp.files(), orphan.files(), total.bytes(), System.currentTimeMillis() - start);
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 묶음마다 따로 커밋 (한 번에 maxBatches 묶음까지, 나머지는 다음 실행에서)
+    private SweepRecord sweepTemp(LocalDateTime before) {
+        multiService.fillTempCreateDate();
+        SweepRecord total = new SweepRecord(0, 0, 0);
+        for (int i = 0; i < maxBatches; i++) {
+            SweepRecord batch = multiService.sweepTempUploads(before, batchSize);
+            total = total.add(batch);
+            if (batch.rows() == 0) break;
+        }
+        return total;
+    }
+
+    private SweepRecord sweepOrphan(long beforeMillis) {
+        String path = this.root.isBlank() ? AptProjectApplication.getOsType().getLoc() : this.root;
+        Path root = Paths.get(path).toAbsolutePath().normalize();
+        OrphanVisitor visitor = new OrphanVisitor(root, beforeMillis);
+        for (String folder : FOLDER_LIST) {
+            Path start = root.resolve(folder.substring(1));
+            if (!Files.isDirectory(start)) continue;
+            try {
+                Files.walkFileTree(start, visitor);
+            } catch (IOException ex) {
+                log.warn("temp upload sweep: walk failed {}", start, ex);
+            }
+            visitor.flush();
+        }
+        // 업로드 중 중단되어 남은 저장 전 임시 파일
+        Path staging = root.resolve(STAGING.substring(1));
+        if (Files.isDirectory(staging))
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(staging, "*.part")) {
+                for (Path file : stream)
+                    visitor.deleteIfOld(file);
+            } catch (IOException | DirectoryIteratorException ex) {
+                log.warn("temp upload sweep: staging cleanup failed", ex);
+            }
+        return new SweepRecord(0, visitor.files, visitor.bytes);
+    }
+
+    /**
+     * 오래된 파일을 batchSize 개씩 모아 FileSystem 행이 있는지 한 번에 확인
+     * 축소본은 원본 주소로 확인하고, 오래된 빈 폴더는 빠져나올 때 지운다.
+     */
+    private class OrphanVisitor extends SimpleFileVisitor<Path> {
+        private final Path root;
+        private final long beforeMillis;
+        private final List<Path> batch = new ArrayList<>();
+        private final Set<Path> startSet = new HashSet<>();
+        private long files;
+        private long bytes;
+
+        OrphanVisitor(Path root, long beforeMillis) {
+            this.root = root;
+            this.beforeMillis = beforeMillis;
+            for (String folder : FOLDER_LIST)
+                startSet.add(root.resolve(folder.substring(1)));
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (attributes.isRegularFile() && attributes.lastModifiedTime().toMillis() < beforeMillis) {
+                batch.add(file);
+                if (batch.size() >= batchSize) this.flush();
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException ex) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException ex) throws IOException {
+            // 이번 묶음에서 비게 되는 폴더는 다음 실행에서 지움
+            if (startSet.contains(dir) || Files.getLastModifiedTime(dir).toMillis() >= beforeMillis)
+                return FileVisitResult.CONTINUE;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                if (stream.iterator().hasNext()) return FileVisitResult.CONTINUE;
+            }
+            try {
+                Files.deleteIfExists(dir);
+            } catch (DirectoryNotEmptyException ignored) {
+                // 그 사이에 파일이 생김
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) return;
+            List<String> urlList = new ArrayList<>();
+            for (Path file : batch)
+                urlList.add(this.originalUrl(file));
+            Set<String> existSet = new HashSet<>(fileSystemService.getExistUrlList(urlList.stream().distinct().toList()));
+            for (int i = 0; i < batch.size(); i++)
+                if (!existSet.contains(urlList.get(i))) this.deleteIfOld(batch.get(i));
+            batch.clear();
+        }
+
+        // 확인하는 사이에 새로 쓰인 파일은 건너뜀
+        void deleteIfOld(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (!attributes.isRegularFile() || attributes.lastModifiedTime().toMillis() >= beforeMillis) return;
+                if (Files.deleteIfExists(file)) {
+                    files++;
+                    bytes += attributes.size();
+                }
+            } catch (IOException ex) {
+                // 이미 지워졌거나 접근 불가 - 다음 실행에서 다시 확인
+            }
+        }
+
+        private String originalUrl(Path file) {
+            String url = "/" + root.relativize(file).toString().replace('\\', '/');
+            return ImageVariantService.originalUrl(url);
+        }
+    }
+}
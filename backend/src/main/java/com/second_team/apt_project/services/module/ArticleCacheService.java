@@ -0,0 +1,115 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.utils.TxUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 아파트, 카테고리별 게시물 첫 페이지와 상단 고정글 캐시
+ * 게시물 작성/수정/삭제, 프로필 변경 시 해당 아파트 항목만 비운다.
+ * 캐시한 DTO 는 변경 가능한 객체라서 호출하는 쪽에는 항상 copier 로 만든 사본을 준다.
+ */
+@Service
+public class ArticleCacheService {
+    private final boolean enabled;
+    private final Map<FeedKey, Object> cacheMap;
+    private final Map<Long, AtomicLong> versionMap = new ConcurrentHashMap<>();
+    private final LongAdder hit = new LongAdder();
+    private final LongAdder miss = new LongAdder();
+
+    public ArticleCacheService(@Value("${article.cache.enabled:true}") boolean enabled,
+                               @Value("${article.cache.max-size:1000}") int maxSize) {
+        this.enabled = enabled;
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FeedKey, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long aptId, Long categoryId, boolean topActive, Supplier<T> loader, UnaryOperator<T> copier) {
+        if (!enabled) return loader.get();
+        FeedKey key = new FeedKey(aptId, categoryId, topActive);
+        synchronized (cacheMap) {
+            Object value = cacheMap.get(key);
+            if (value != null) {
+                hit.increment();
+                return copier.apply((T) value);
+            }
+        }
+        miss.increment();
+        long version = this.version(aptId).get();
+        T value = loader.get();
+        synchronized (cacheMap) {
+            // 조회하는 사이에 무효화됐으면 저장하지 않음
+            if (value != null && this.version(aptId).get() == version) cacheMap.put(key, value);
+        }
+        return value != null ? copier.apply(value) : null;
+    }
+
+    // 커밋 전에 다른 요청이 이전 데이터를 다시 캐시할 수 있어서 커밋 후 한 번 더 비움
+    public void evict(Long aptId, Long categoryId) {
+        this.evictNow(aptId, categoryId);
+        TxUtils.afterCommit(() -> this.evictNow(aptId, categoryId));
+    }
+
+    public void evict(Long aptId) {
+        this.evictNow(aptId, null);
+        TxUtils.afterCommit(() -> this.evictNow(aptId, null));
+    }
+
+    // 카테고리 이름 변경처럼 모든 아파트에 걸치는 변경
+    public void evictAll() {
+        this.clearNow();
+        TxUtils.afterCommit(this::clearNow);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHit() {
+        return hit.sum();
+    }
+
+    public long getMiss() {
+        return miss.sum();
+    }
+
+    public int getSize() {
+        synchronized (cacheMap) {
+            return cacheMap.size();
+        }
+    }
+
+    private void evictNow(Long aptId, Long categoryId) {
+        this.version(aptId).incrementAndGet();
+        synchronized (cacheMap) {
+            cacheMap.keySet().removeIf(key -> key.aptId().equals(aptId) && (categoryId == null || categoryId.equals(key.categoryId())));
+        }
+    }
+
+    private void clearNow() {
+        synchronized (cacheMap) {
+            versionMap.values().forEach(AtomicLong::incrementAndGet);
+            cacheMap.clear();
+        }
+    }
+
+    private AtomicLong version(Long aptId) {
+        return versionMap.computeIfAbsent(aptId, id -> new AtomicLong());
+    }
+
+    private record FeedKey(Long aptId, Long categoryId, boolean topActive) {
+    }
+}
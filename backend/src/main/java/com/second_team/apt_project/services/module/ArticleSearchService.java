@@ -0,0 +1,309 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Article;
+import com.second_team.apt_project.domains.ArticleTag;
+import com.second_team.apt_project.enums.Sorts;
+import com.second_team.apt_project.repositories.ArticleRepository;
+import com.second_team.apt_project.repositories.ArticleTagRepository;
+import com.second_team.apt_project.utils.TxUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 아파트별 게시물 검색 인덱스 (메모리)
+ * 제목/내용/작성자/태그 필드를 따로 1~2글자 n-gram 으로 색인하고, 검색 모드(Sorts)에 해당하는 필드의 점수를 합친다.
+ * 변경은 커밋된 뒤에 반영한다 (롤백된 변경이 검색 결과에 남지 않도록).
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_GRAM = 2;
+    private static final int REBUILD_SIZE = 500;
+    // 검색 모드 -> 찾아볼 필드
+    private static final Map<Sorts, List<Field>> FIELD_MAP = Map.of(
+            Sorts.TITLE, List.of(Field.TITLE),
+            Sorts.TITLE_CONTENT, List.of(Field.TITLE, Field.CONTENT),
+            Sorts.PROFILE, List.of(Field.PROFILE),
+            Sorts.TAG, List.of(Field.TAG));
+
+    private final ArticleRepository articleRepository;
+    private final ArticleTagRepository articleTagRepository;
+
+    private volatile Map<Long, AptIndex> aptIndexMap = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // 재구성 중에 들어온 변경 (새 인덱스로 교체하기 전에 다시 적용)
+    private final Object changeLock = new Object();
+    private List<Consumer<Map<Long, AptIndex>>> changeLog;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void save(Article article, List<String> tagNameList) {
+        Long aptId = article.getProfile().getUser().getApt().getId();
+        IndexedArticle indexedArticle = this.indexedArticle(article, tagNameList);
+        TxUtils.afterCommit(() -> this.apply(indexMap -> indexMap.computeIfAbsent(aptId, id -> new AptIndex()).put(indexedArticle)));
+    }
+
+    public void delete(Article article) {
+        this.delete(article.getProfile().getUser().getApt().getId(), article.getId());
+    }
+
+    public void delete(Long aptId, Long articleId) {
+        TxUtils.afterCommit(() -> this.apply(indexMap -> {
+            AptIndex aptIndex = indexMap.get(aptId);
+            if (aptIndex != null) aptIndex.remove(articleId);
+        }));
+    }
+
+    public void updateProfileName(Long aptId, Long profileId, String name) {
+        Map<String, Integer> profileTerms = this.tokenize(name);
+        TxUtils.afterCommit(() -> this.apply(indexMap -> {
+            AptIndex aptIndex = indexMap.get(aptId);
+            if (aptIndex != null) aptIndex.updateProfileName(profileId, profileTerms);
+        }));
+    }
+
+    // 점수(일치한 n-gram 빈도 합) 내림차순, 같으면 최신순으로 정렬된 게시물 ID
+    public List<Long> search(Long aptId, String keyword, Sorts sorts, Long categoryId) {
+        AptIndex aptIndex = aptIndexMap.get(aptId);
+        if (aptIndex == null) return new ArrayList<>();
+        return aptIndex.search(this.queryGrams(keyword), FIELD_MAP.get(sorts), categoryId);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        this.rebuild();
+    }
+
+    // DB 전체를 ID 순으로 나눠 읽어서 새 인덱스를 만든 뒤 그동안의 변경을 다시 적용하고 교체
+    public synchronized int rebuild() {
+        synchronized (changeLock) {
+            changeLog = new ArrayList<>();
+        }
+        try {
+            return this.rebuildIndex();
+        } finally {
+            synchronized (changeLock) {
+                changeLog = null;
+            }
+        }
+    }
+
+    private int rebuildIndex() {
+        Map<Long, AptIndex> newIndexMap = new ConcurrentHashMap<>();
+        int count = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Article> articleList = articleRepository.findByIdAfter(lastId, REBUILD_SIZE);
+            if (articleList.isEmpty()) break;
+            Map<Long, List<String>> tagNameMap = new HashMap<>();
+            for (ArticleTag articleTag : articleTagRepository.findByArticleIdList(articleList.stream().map(Article::getId).toList()))
+                tagNameMap.computeIfAbsent(articleTag.getArticle().getId(), id -> new ArrayList<>()).add(articleTag.getTag().getName());
+            for (Article article : articleList) {
+                Long aptId = article.getProfile().getUser().getApt().getId();
+                newIndexMap.computeIfAbsent(aptId, id -> new AptIndex()).put(this.indexedArticle(article, tagNameMap.getOrDefault(article.getId(), new ArrayList<>())));
+                count++;
+            }
+            lastId = articleList.getLast().getId();
+        }
+        synchronized (changeLock) {
+            for (Consumer<Map<Long, AptIndex>> change : changeLog)
+                change.accept(newIndexMap);
+            aptIndexMap = newIndexMap;
+        }
+        ready = true;
+        return count;
+    }
+
+    // 현재 인덱스에 적용하고, 재구성 중이면 기록
+    private void apply(Consumer<Map<Long, AptIndex>> change) {
+        synchronized (changeLock) {
+            change.accept(aptIndexMap);
+            if (changeLog != null) changeLog.add(change);
+        }
+    }
+
+    private IndexedArticle indexedArticle(Article article, List<String> tagNameList) {
+        String content = article.getContent() != null ? HTML_TAG.matcher(article.getContent()).replaceAll(" ") : "";
+        Map<Field, Map<String, Integer>> terms = new EnumMap<>(Field.class);
+        terms.put(Field.TITLE, this.tokenize(article.getTitle()));
+        terms.put(Field.CONTENT, this.tokenize(content));
+        terms.put(Field.PROFILE, this.tokenize(article.getProfile().getName()));
+        terms.put(Field.TAG, this.tokenize(tagNameList != null ? String.join(" ", tagNameList) : null));
+        return new IndexedArticle(article.getId(), article.getProfile().getId(), article.getCategory().getId(), article.getCreateDate(), terms);
+    }
+
+    // 단어마다 1글자, 2글자 n-gram 과 빈도
+    private Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String word : this.words(text))
+            for (int n = 1; n <= MAX_GRAM; n++)
+                for (int i = 0; i + n <= word.length(); i++)
+                    terms.merge(word.substring(i, i + n), 1, Integer::sum);
+        return terms;
+    }
+
+    // 검색어는 단어 길이가 되는 한 가장 긴 n-gram 만 사용
+    private Set<String> queryGrams(String keyword) {
+        Set<String> grams = new HashSet<>();
+        for (String word : this.words(keyword)) {
+            int n = Math.min(MAX_GRAM, word.length());
+            for (int i = 0; i + n <= word.length(); i++)
+                grams.add(word.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) return words;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : DELIMITER.split(normalized))
+            if (!word.isEmpty()) words.add(word);
+        return words;
+    }
+
+    private enum Field {
+        TITLE, CONTENT, PROFILE, TAG
+    }
+
+    private record IndexedArticle(Long id, Long profileId, Long categoryId, LocalDateTime createDate,
+                                  Map<Field, Map<String, Integer>> terms) {
+    }
+
+    private static class AptIndex {
+        private final Map<Long, IndexedArticle> articleMap = new HashMap<>();
+        private final Map<Field, Map<String, Map<Long, Integer>>> postingMap = new EnumMap<>(Field.class);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        AptIndex() {
+            for (Field field : Field.values())
+                postingMap.put(field, new HashMap<>());
+        }
+
+        void put(IndexedArticle indexedArticle) {
+            lock.writeLock().lock();
+            try {
+                this.removeLocked(indexedArticle.id());
+                articleMap.put(indexedArticle.id(), indexedArticle);
+                this.addPostings(indexedArticle);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long articleId) {
+            lock.writeLock().lock();
+            try {
+                this.removeLocked(articleId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void updateProfileName(Long profileId, Map<String, Integer> profileTerms) {
+            lock.writeLock().lock();
+            try {
+                List<IndexedArticle> targetList = articleMap.values().stream().filter(article -> article.profileId().equals(profileId)).toList();
+                for (IndexedArticle target : targetList) {
+                    Map<Field, Map<String, Integer>> terms = new EnumMap<>(target.terms());
+                    terms.put(Field.PROFILE, profileTerms);
+                    this.removeLocked(target.id());
+                    IndexedArticle updated = new IndexedArticle(target.id(), target.profileId(), target.categoryId(), target.createDate(), terms);
+                    articleMap.put(updated.id(), updated);
+                    this.addPostings(updated);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(Set<String> grams, List<Field> fieldList, Long categoryId) {
+            lock.readLock().lock();
+            try {
+                Map<Long, Integer> scoreMap = new HashMap<>();
+                if (grams.isEmpty()) {
+                    for (Long id : articleMap.keySet()) scoreMap.put(id, 0);
+                } else {
+                    List<Map<Long, Integer>> postingList = new ArrayList<>();
+                    for (String gram : grams) {
+                        Map<Long, Integer> posting = this.posting(gram, fieldList);
+                        if (posting.isEmpty()) return new ArrayList<>();
+                        postingList.add(posting);
+                    }
+                    postingList.sort(Comparator.comparingInt(Map::size));
+                    candidate:
+                    for (Map.Entry<Long, Integer> entry : postingList.getFirst().entrySet()) {
+                        int score = entry.getValue();
+                        for (int i = 1; i < postingList.size(); i++) {
+                            Integer count = postingList.get(i).get(entry.getKey());
+                            if (count == null) continue candidate;
+                            score += count;
+                        }
+                        scoreMap.put(entry.getKey(), score);
+                    }
+                }
+                List<IndexedArticle> resultList = new ArrayList<>();
+                for (Long id : scoreMap.keySet()) {
+                    IndexedArticle article = articleMap.get(id);
+                    if (categoryId == null || categoryId.equals(article.categoryId())) resultList.add(article);
+                }
+                resultList.sort(Comparator.<IndexedArticle>comparingInt(article -> scoreMap.get(article.id())).reversed()
+                        .thenComparing(IndexedArticle::createDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(IndexedArticle::id, Comparator.reverseOrder()));
+                return resultList.stream().map(IndexedArticle::id).toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 필드가 하나면 그대로, 여럿이면 게시물마다 빈도를 더해서 합침 (각 필드 안에서만 n-gram 이 만들어짐)
+        private Map<Long, Integer> posting(String gram, List<Field> fieldList) {
+            if (fieldList.size() == 1) return postingMap.get(fieldList.getFirst()).getOrDefault(gram, Map.of());
+            Map<Long, Integer> merged = new HashMap<>();
+            for (Field field : fieldList) {
+                Map<Long, Integer> posting = postingMap.get(field).get(gram);
+                if (posting != null) posting.forEach((id, count) -> merged.merge(id, count, Integer::sum));
+            }
+            return merged;
+        }
+
+        private void addPostings(IndexedArticle indexedArticle) {
+            for (Map.Entry<Field, Map<String, Integer>> field : indexedArticle.terms().entrySet()) {
+                Map<String, Map<Long, Integer>> postings = postingMap.get(field.getKey());
+                for (Map.Entry<String, Integer> term : field.getValue().entrySet())
+                    postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(indexedArticle.id(), term.getValue());
+            }
+        }
+
+        private void removeLocked(Long articleId) {
+            IndexedArticle old = articleMap.remove(articleId);
+            if (old == null) return;
+            for (Map.Entry<Field, Map<String, Integer>> field : old.terms().entrySet()) {
+                Map<String, Map<Long, Integer>> postings = postingMap.get(field.getKey());
+                for (String term : field.getValue().keySet()) {
+                    Map<Long, Integer> posting = postings.get(term);
+                    if (posting == null) continue;
+                    posting.remove(articleId);
+                    if (posting.isEmpty()) postings.remove(term);
+                }
+            }
+        }
+    }
+}
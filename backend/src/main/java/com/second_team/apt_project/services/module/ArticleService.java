@@ -2,51 +2,110 @@ package com.second_team.apt_project.services.module;
 
 import com.second_team.apt_project.domains.*;
 import com.second_team.apt_project.enums.Sorts;
+import com.second_team.apt_project.records.ArticleStateRecord;
+import com.second_team.apt_project.records.ArticleSummaryRecord;
 import com.second_team.apt_project.repositories.ArticleRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 public class ArticleService {
+    private static final Pattern IMG_SRC = Pattern.compile("<img[^>]*?\\ssrc\\s*=\\s*[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PRICE = Pattern.compile("\\[PRICE](.*?)\\[/PRICE]", Pattern.DOTALL);
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern SPACE = Pattern.compile("\\s+");
+    private static final int EXCERPT_LENGTH = 150;
+    private static final int BACKFILL_SIZE = 500;
+    private static final String BACKFILL_EXCERPT = "article_excerpt";
+
     private final ArticleRepository articleRepository;
+    private final MigrationService migrationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArticleService(ArticleRepository articleRepository, MigrationService migrationService, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.migrationService = migrationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     public Article save(Profile profile, String title, String content, Category category, Boolean topActive) {
-        return articleRepository.save(Article.builder()
+        Article article = Article.builder()
                 .profile(profile)
                 .category(category)
                 .title(title)
                 .content(content)
                         .topActive(topActive)
-                .build());
+                .build();
+        this.summarize(article);
+        return articleRepository.save(article);
     }
 
     public void updateContent(Article article, String content) {
         article.setContent(content);
+        this.summarize(article);
         this.articleRepository.save(article);
     }
 
+    // 삭제 대기 중인 게시물은 없는 것으로 취급
     public Article findById(Long articleId) {
-        return articleRepository.findById(articleId).orElse(null);
+        return articleRepository.findById(articleId).filter(article -> article.getDeleteDate() == null).orElse(null);
+    }
+
+    // aptId 가 null 이면 아파트 구분 없이 (관리자)
+    public Map<Long, Long> getLoveCountMap(List<Long> articleIdList, Long aptId) {
+        return articleRepository.findLoveCountByIdList(articleIdList, aptId);
+    }
+
+    public void softDelete(Article article) {
+        articleRepository.softDelete(article.getId(), LocalDateTime.now());
+    }
+
+    public List<Long> findDeletedIdList(int size) {
+        return articleRepository.findDeletedIdList(size);
+    }
+
+    public long deleteByIdList(List<Long> articleIdList) {
+        return articleRepository.deleteByIdList(articleIdList);
+    }
+
+    public List<ArticleStateRecord> getStateList(List<Long> profileIdList, Long lastId, int size) {
+        return articleRepository.findStateByProfileIdList(profileIdList, lastId, size);
     }
 
-    public Page<Article> getArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive) {
+    public Page<ArticleSummaryRecord> getArticleList(Pageable pageable, Long aptId, Long categoryId, Boolean topActive) {
         return this.articleRepository.findByArticleList(pageable, aptId, categoryId, topActive);
     }
 
+    public List<ArticleSummaryRecord> getArticleFeed(Long aptId, Long categoryId, Boolean topActive, LocalDateTime createDate, Long articleId, int size) {
+        return this.articleRepository.findByArticleFeed(aptId, categoryId, topActive, createDate, articleId, size);
+    }
+
     public Article update(Article targetArticle, String title, String content, Category category, Boolean topActive) {
         targetArticle.setTitle(title);
         targetArticle.setContent(content);
         targetArticle.setCategory(category);
         targetArticle.setTopActive(topActive);
+        this.summarize(targetArticle);
         return this.articleRepository.save(targetArticle);
     }
 
-    public List<Article> topActive(Long aptId, Long categoryId, Boolean topActive) {
+    public List<ArticleSummaryRecord> topActive(Long aptId, Long categoryId, Boolean topActive) {
         return this.articleRepository.findByTopActive(aptId, categoryId, topActive);
     }
 
@@ -58,11 +117,61 @@ public class ArticleService {
         return articleRepository.findByArticle(profileId);
     }
 
-    public Page<Article> searchByKeyword(Long id, Pageable pageable, String keyword, Sorts sorts) {
+    public Page<ArticleSummaryRecord> searchByKeyword(Long id, Pageable pageable, String keyword, Sorts sorts) {
         return articleRepository.searchByKeyword(id, pageable, keyword, sorts);
     }
-    public Page<Article> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId) {
+    public Page<ArticleSummaryRecord> searchByCategoryKeyword(Long id, Pageable pageable, String keyword, Sorts sorts, Long categoryId) {
         return articleRepository.searchByCategoryKeyword(id, pageable, keyword, sorts, categoryId);
     }
 
+    // 전달받은 ID 순서를 유지해서 반환
+    public List<ArticleSummaryRecord> findByIdList(List<Long> articleIdList) {
+        if (articleIdList.isEmpty()) return new ArrayList<>();
+        Map<Long, ArticleSummaryRecord> articleMap = new HashMap<>();
+        for (ArticleSummaryRecord article : articleRepository.findByIdList(articleIdList))
+            articleMap.put(article.id(), article);
+        List<ArticleSummaryRecord> articleList = new ArrayList<>();
+        for (Long id : articleIdList)
+            if (articleMap.containsKey(id)) articleList.add(articleMap.get(id));
+        return articleList;
+    }
+
+    /**
+     * 미리보기(또는 중고장터 가격)가 없는 기존 게시물 채우기 - 끝나면 기록해서 다음 시작부터는 content 를 다시 훑지 않음
+     * 엔티티를 저장하면 그 사이 수정된 제목/내용을 되돌리므로 미리보기 컬럼만 묶음마다 따로 커밋해서 UPDATE
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillExcerpt() {
+        if (migrationService.isDone(BACKFILL_EXCERPT)) return;
+        Long lastId = 0L;
+        while (true) {
+            List<Article> articleList = articleRepository.findBySummaryIsNull(lastId, BACKFILL_SIZE);
+            if (articleList.isEmpty()) break;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Article article : articleList) {
+                    String loadedExcerpt = article.getExcerpt();
+                    this.summarize(article);
+                    articleRepository.updateSummary(article.getId(), loadedExcerpt, article.getExcerpt(), article.getImageUrl(), article.getPrice());
+                }
+            });
+            lastId = articleList.getLast().getId();
+        }
+        transactionTemplate.executeWithoutResult(status -> migrationService.done(BACKFILL_EXCERPT));
+    }
+
+    // content 에서 태그를 뺀 앞부분, 첫 이미지 주소, 가격을 추출
+    private void summarize(Article article) {
+        String content = article.getContent() != null ? article.getContent() : "";
+        Matcher matcher = IMG_SRC.matcher(content);
+        article.setImageUrl(matcher.find() ? matcher.group(1) : null);
+        Matcher priceMatcher = PRICE.matcher(content);
+        article.setPrice(priceMatcher.find() ? priceMatcher.group(1) : null);
+        String text = HTML_TAG.matcher(PRICE.matcher(content).replaceAll(" ")).replaceAll(" ")
+                .replace("&nbsp;", " ").replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&amp;", "&");
+        text = SPACE.matcher(text).replaceAll(" ").trim();
+        int end = Math.min(text.length(), EXCERPT_LENGTH);
+        if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) end--;
+        article.setExcerpt(text.substring(0, end));
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -42,4 +43,33 @@ public class ArticleTagService {
     public ArticleTag findByTagId(Long id) {
         return articleTagRepository.findByTagId(id);
     }
+
+    public List<ArticleTag> getArticleList(List<Long> articleIdList) {
+        if (articleIdList.isEmpty()) return new ArrayList<>();
+        return articleTagRepository.findByArticleIdList(articleIdList);
+    }
+
+    public void saveAll(Article article, List<Tag> tagList) {
+        articleTagRepository.saveAll(tagList.stream().map(tag -> ArticleTag.builder()
+                .article(article)
+                .tag(tag).build()).toList());
+    }
+
+    public List<ArticleTag> getList(List<Long> articleTagIdList) {
+        if (articleTagIdList.isEmpty()) return new ArrayList<>();
+        return articleTagRepository.findByIdList(articleTagIdList);
+    }
+
+    public void deleteByIdList(List<Long> articleTagIdList) {
+        if (articleTagIdList.isEmpty()) return;
+        articleTagRepository.deleteByIdList(articleTagIdList);
+    }
+
+    public Map<Long, Long> countTagMap(List<Long> articleIdList) {
+        return articleTagRepository.countTagByArticleIdList(articleIdList);
+    }
+
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        return articleTagRepository.deleteByArticleIdList(articleIdList);
+    }
 }
@@ -0,0 +1,76 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.repositories.ArticleRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수
+ * 조회마다 UPDATE 하지 않고 메모리에 누적했다가 주기적으로 증가분이 같은 게시물끼리 묶어 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleViewService {
+    private static final int FLUSH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    private final Map<Long, LongAdder> pendingMap = new ConcurrentHashMap<>();
+
+    public void increment(Long articleId) {
+        pendingMap.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long getPending(Long articleId) {
+        LongAdder adder = pendingMap.get(articleId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    public void remove(Long articleId) {
+        pendingMap.remove(articleId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${article.view.flush-interval:10000}")
+    public synchronized void flush() {
+        Map<Long, List<Long>> countMap = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingMap.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0)
+                countMap.computeIfAbsent(count, c -> new ArrayList<>()).add(entry.getKey());
+            else if (pendingMap.remove(entry.getKey(), entry.getValue()) && entry.getValue().sum() > 0)
+                // 제거하는 사이에 들어온 조회수는 되돌림
+                this.restore(entry.getKey(), entry.getValue().sum());
+        }
+        try {
+            for (Map.Entry<Long, List<Long>> entry : countMap.entrySet()) {
+                List<Long> articleIdList = entry.getValue();
+                for (int i = 0; i < articleIdList.size(); i += FLUSH_SIZE)
+                    articleRepository.addViewCount(articleIdList.subList(i, Math.min(i + FLUSH_SIZE, articleIdList.size())), entry.getKey());
+            }
+        } catch (RuntimeException ex) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            countMap.forEach((count, articleIdList) -> articleIdList.forEach(articleId -> this.restore(articleId, count)));
+            throw ex;
+        }
+    }
+
+    @Transactional
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        this.flush();
+    }
+
+    private void restore(Long articleId, long count) {
+        pendingMap.computeIfAbsent(articleId, id -> new LongAdder()).add(count);
+    }
+}
@@ -20,4 +20,8 @@ public class ChatMessageService {
     public void delete(ChatMessage chatMessage) {
         chatMessageRepository.delete(chatMessage);
     }
+
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return chatMessageRepository.deleteByProfileIdList(profileIdList);
+    }
 }
@@ -33,4 +33,8 @@ public class ChatRoomUserService {
     public void delete(ChatRoomUser chatRoomUser) {
         chatRoomUserRepository.delete(chatRoomUser);
     }
+
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return chatRoomUserRepository.deleteByProfileIdList(profileIdList);
+    }
 }
@@ -4,19 +4,39 @@ import com.second_team.apt_project.domains.Article;
 import com.second_team.apt_project.domains.Comment;
 import com.second_team.apt_project.domains.Profile;
 import com.second_team.apt_project.dtos.CommentResponseDTO;
+import com.second_team.apt_project.records.CommentPathRecord;
 import com.second_team.apt_project.repositories.CommentRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 public class CommentService {
+    private static final int SEGMENT_LENGTH = 8;
+    private static final int MAX_PATH_LENGTH = 720;
+    private static final int BACKFILL_SIZE = 500;
+
     private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 경로 채우기가 끝났는지 - 끝나기 전에는 경로가 없는 하위 댓글이 있을 수 있음
+    private volatile boolean backfilled;
+
+    public CommentService(CommentRepository commentRepository, PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     public Comment saveComment(Article article, Profile profile, String content, Long parentId) {
         Comment parent = null;
@@ -26,12 +46,20 @@ public class CommentService {
             if (comment.isPresent())
                 parent = comment.get();
         }
-        return commentRepository.save(Comment.builder()
+        // 경로 채우기가 아직 끝나지 않은 기존 댓글에 답글을 다는 경우
+        if (parent != null) this.fillPath(parent);
+        Comment comment = commentRepository.save(Comment.builder()
                 .article(article)
                 .content(content)
                 .profile(profile)
                 .parent(parent)
                 .build());
+        // 경로에 자신의 ID 가 들어가므로 저장 후에 채움
+        String path = (parent != null ? parent.getPath() : "") + this.segment(comment.getId());
+        if (path.length() > MAX_PATH_LENGTH) throw new IllegalArgumentException("댓글 깊이 초과");
+        comment.setPath(path);
+        comment.setDepth(parent != null ? parent.getDepth() + 1 : 0);
+        return commentRepository.save(comment);
     }
 
     public Comment updateComment(Long commentId, String content) {
@@ -73,4 +101,92 @@ public class CommentService {
         return commentRepository.findByProfile(profileId);
     }
 
+    public List<Comment> getReplyList(Long articleId, List<String> rootPathList) {
+        if (rootPathList.isEmpty()) return List.of();
+        return commentRepository.findRepliesByRootPathList(articleId, rootPathList);
+    }
+
+    // comment 아래 maxDepth 단계까지의 대댓글 (트리 순서)
+    public Page<Comment> getReplyPage(Comment comment, int maxDepth, Pageable pageable) {
+        this.fillPath(comment);
+        return commentRepository.findReplies(comment.getArticle().getId(), comment.getPath(), comment.getDepth() + 1, comment.getDepth() + maxDepth, pageable);
+    }
+
+    public Map<Long, Long> countByArticleList(List<Long> articleIdList) {
+        return commentRepository.countByArticleIdList(articleIdList);
+    }
+
+    public Map<String, Long> countReplies(Long articleId, List<String> rootPathList) {
+        return commentRepository.countRepliesByRootPathList(articleId, rootPathList);
+    }
+
+    public void deleteSubtree(Comment comment) {
+        this.fillPath(comment);
+        // 경로 채우기가 끝나기 전에는 경로가 없는 하위 댓글도 부모 ID 로 따라가서 같이 지움
+        if (!backfilled)
+            commentRepository.deleteByPathList(List.of(new CommentPathRecord(comment.getId(), comment.getArticle().getId(), null)));
+        else commentRepository.deleteByPath(comment.getArticle().getId(), comment.getPath());
+    }
+
+    /**
+     * 경로가 없는 기존 댓글 채우기 - 부모가 항상 먼저 저장되므로 ID 순으로 처리
+     * 엔티티를 저장하면 그 사이 수정된 내용을 덮어쓰므로 path/depth 만 묶음마다 따로 커밋해서 UPDATE
+     * 이전 묶음의 부모는 커밋된 뒤 다시 조회되므로 바로 앞 묶음까지만 들고 있음
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPath() {
+        Map<Long, Comment> previousMap = Map.of();
+        Long lastId = 0L;
+        while (true) {
+            List<Comment> commentList = commentRepository.findByPathIsNull(lastId, BACKFILL_SIZE);
+            if (commentList.isEmpty()) break;
+            Map<Long, Comment> doneMap = new HashMap<>();
+            for (Comment comment : commentList) {
+                Comment parent = null;
+                if (comment.getParent() != null) {
+                    Long parentId = comment.getParent().getId();
+                    parent = doneMap.getOrDefault(parentId, previousMap.getOrDefault(parentId, comment.getParent()));
+                }
+                comment.setPath((parent != null ? parent.getPath() : "") + this.segment(comment.getId()));
+                comment.setDepth(parent != null ? parent.getDepth() + 1 : 0);
+                doneMap.put(comment.getId(), comment);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Comment comment : commentList)
+                    commentRepository.updatePath(comment.getId(), comment.getPath(), comment.getDepth());
+            });
+            previousMap = doneMap;
+            lastId = commentList.getLast().getId();
+        }
+        backfilled = true;
+    }
+
+    // 경로가 없으면 조상부터 채움 (backfillPath 와 같은 값이므로 동시에 실행돼도 결과가 같음)
+    private void fillPath(Comment comment) {
+        if (comment.getPath() != null && comment.getDepth() != null) return;
+        Comment parent = comment.getParent();
+        if (parent != null) this.fillPath(parent);
+        comment.setPath((parent != null ? parent.getPath() : "") + this.segment(comment.getId()));
+        comment.setDepth(parent != null ? parent.getDepth() + 1 : 0);
+        commentRepository.save(comment);
+    }
+
+    // 고정 길이 36진수라 문자열 순서와 ID 순서가 같음
+    private String segment(Long id) {
+        String value = Long.toString(id, 36);
+        return "0".repeat(Math.max(0, SEGMENT_LENGTH - value.length())) + value + "/";
+    }
+
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        return commentRepository.deleteByArticleIdList(articleIdList);
+    }
+
+    public List<CommentPathRecord> getPathList(List<Long> profileIdList, Long lastId, int size) {
+        return commentRepository.findPathByProfileIdList(profileIdList, lastId, size);
+    }
+
+    public long deleteByPathList(List<CommentPathRecord> pathList) {
+        return commentRepository.deleteByPathList(pathList);
+    }
 }
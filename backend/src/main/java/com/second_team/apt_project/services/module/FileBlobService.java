@@ -0,0 +1,205 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.AptProjectApplication;
+import com.second_team.apt_project.repositories.FileBlobRepository;
+import com.second_team.apt_project.utils.TxUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 파일을 내용(SHA-256) 기준으로 한 번만 저장
+ * 스트림을 임시 파일로 쓰면서 해시를 계산하고 앞부분 바이트로 실제 형식을 확인한다.
+ * FileSystem 행 하나가 참조 하나이고, 참조가 없어진 파일은 유예 시간이 지난 뒤 sweep 에서 지운다.
+ * 저장한 트랜잭션이 롤백되면 이번 호출이 새로 놓은 파일은 (그 사이 다른 참조가 생기지 않았다면) 바로 지운다.
+ */
+@Service
+public class FileBlobService {
+    public static final String BLOB_URL = "/api/blob/";
+    private static final String STAGING = "/upload_tmp/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SNIFF_SIZE = 12;
+    private static final int SWEEP_SIZE = 100;
+
+    private final FileBlobRepository fileBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxSize;
+    private final long releaseGrace;
+    // 같은 해시의 저장과 정리가 겹치지 않도록 (해시별 잠금 대신 줄무늬 잠금)
+    private final Object[] lockList = new Object[64];
+
+    public FileBlobService(FileBlobRepository fileBlobRepository, PlatformTransactionManager transactionManager,
+                           @Value("${file.upload.max-size:20971520}") long maxSize,
+                           @Value("${file.blob.release-grace:600000}") long releaseGrace) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxSize = maxSize;
+        this.releaseGrace = releaseGrace;
+        for (int i = 0; i < lockList.length; i++)
+            lockList[i] = new Object();
+    }
+
+    public boolean isBlob(String url) {
+        return url != null && url.startsWith(BLOB_URL);
+    }
+
+    /**
+     * 업로드 파일을 저장하고 주소를 반환
+     * 같은 내용이 이미 있으면 임시 파일은 버리고 참조 수만 늘린다.
+     */
+    public String store(MultipartFile multipartFile) throws IOException {
+        if (multipartFile.getSize() > maxSize) throw new IllegalArgumentException("파일 크기 초과");
+        String path = AptProjectApplication.getOsType().getLoc();
+        Path staging = Files.createDirectories(Paths.get(path + STAGING)).resolve(UUID.randomUUID() + ".part");
+        try {
+            MessageDigest digest = this.sha256();
+            BlobType blobType;
+            long size;
+            try (InputStream in = multipartFile.getInputStream();
+                 FileChannel out = FileChannel.open(staging, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] head = in.readNBytes(SNIFF_SIZE);
+                blobType = BlobType.sniff(head);
+                if (blobType == null) throw new IllegalArgumentException("지원하지 않는 파일 형식");
+                digest.update(head);
+                out.write(ByteBuffer.wrap(head));
+                size = head.length;
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) throw new IllegalArgumentException("파일 크기 초과");
+                    digest.update(buffer, 0, read);
+                    out.write(ByteBuffer.wrap(buffer, 0, read));
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String url = BLOB_URL + hash.substring(0, 2) + "/" + hash + "." + blobType.extension;
+            Path target = Paths.get(path + url);
+            synchronized (this.lock(hash)) {
+                fileBlobRepository.acquire(hash, url, size, blobType.contentType);
+                if (Files.notExists(target)) {
+                    try {
+                        Files.createDirectories(target.getParent());
+                        Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException ex) {
+                        // 호출하는 쪽이 예외를 잡고 커밋해도 참조 수가 남지 않게
+                        fileBlobRepository.release(hash, 1);
+                        throw ex;
+                    }
+                    TxUtils.afterRollback(() -> this.discard(path, hash));
+                }
+            }
+            return url;
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    // url 마다 참조 하나씩 반환 (내용 주소 파일이 아닌 주소는 무시)
+    public void release(List<String> urlList) {
+        Map<String, Long> countMap = urlList.stream().filter(this::isBlob)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        countMap.forEach((url, count) -> fileBlobRepository.release(this.hash(url), count));
+    }
+
+    // 참조가 없어진 뒤 유예 시간이 지난 파일 정리 - 행을 먼저 지우고 지워진 경우에만 파일 삭제
+    @Scheduled(initialDelayString = "${file.blob.sweep-interval:600000}", fixedDelayString = "${file.blob.sweep-interval:600000}")
+    public int sweep() {
+        String path = AptProjectApplication.getOsType().getLoc();
+        List<String> hashList = fileBlobRepository.findReleasedHashList(LocalDateTime.now().minus(Duration.ofMillis(releaseGrace)), SWEEP_SIZE);
+        int count = 0;
+        for (String hash : hashList) {
+            synchronized (this.lock(hash)) {
+                Long deleted = transactionTemplate.execute(status -> fileBlobRepository.deleteReleased(hash));
+                if (deleted == null || deleted == 0) continue;
+                if (this.deleteFiles(path, hash)) count++;
+            }
+        }
+        return count;
+    }
+
+    // 롤백으로 행이 사라진 파일 - 같은 내용을 동시에 올린 트랜잭션이 끝날 때까지 기다렸다가 행이 없을 때만 지움
+    private void discard(String path, String hash) {
+        synchronized (this.lock(hash)) {
+            Boolean exists = transactionTemplate.execute(status -> fileBlobRepository.existsForUpdate(hash));
+            if (Boolean.FALSE.equals(exists)) this.deleteFiles(path, hash);
+        }
+    }
+
+    // 원본과 축소본 (해시_너비.확장자)
+    private boolean deleteFiles(String path, String hash) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(path + BLOB_URL + hash.substring(0, 2)), hash + "*")) {
+            for (Path file : stream)
+                Files.deleteIfExists(file);
+            return true;
+        } catch (IOException | DirectoryIteratorException ex) {
+            // 파일이 이미 없으면 행만 지워진 것으로 충분
+            return false;
+        }
+    }
+
+    private String hash(String url) {
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private Object lock(String hash) {
+        return lockList[Math.floorMod(hash.hashCode(), lockList.length)];
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // 앞부분 바이트(매직 넘버)로 판별하는 허용 형식
+    private enum BlobType {
+        JPEG("jpg", "image/jpeg"), PNG("png", "image/png"), GIF("gif", "image/gif"), WEBP("webp", "image/webp"), BMP("bmp", "image/bmp");
+
+        private final String extension;
+        private final String contentType;
+
+        BlobType(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        static BlobType sniff(byte[] head) {
+            if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) return JPEG;
+            if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return PNG;
+            if (startsWith(head, 0, 'G', 'I', 'F', '8') && head.length > 5 && (head[4] == '7' || head[4] == '9') && head[5] == 'a') return GIF;
+            if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) return WEBP;
+            if (startsWith(head, 0, 'B', 'M')) return BMP;
+            return null;
+        }
+
+        private static boolean startsWith(byte[] head, int offset, int... magic) {
+            if (head.length < offset + magic.length) return false;
+            for (int i = 0; i < magic.length; i++)
+                if ((head[offset + i] & 0xFF) != magic[i]) return false;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.AptProjectApplication;
+import com.second_team.apt_project.records.ServeFileRecord;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 전송용 경로/검증값 계산
+ * UUID 나 해시로 이름 지은 파일(과 그 축소본)은 내용이 바뀌지 않으므로 이름이 곧 ETag 이고 영구 캐시 대상이다.
+ */
+@Service
+public class FileServeService {
+    // uuid 또는 sha-256 (+ 축소본 _너비) + 확장자
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "^([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-f]{64})(_\\d+)?(\\.[A-Za-z0-9]+)?$");
+
+    // 요청 주소 -> 데이터 폴더 안의 일반 파일 (폴더 밖이거나 없으면 null)
+    public ServeFileRecord resolve(String uri) {
+        Path root = Paths.get(AptProjectApplication.getOsType().getLoc()).toAbsolutePath().normalize();
+        Path path;
+        BasicFileAttributes attributes;
+        try {
+            path = root.resolve(uri.startsWith("/") ? uri.substring(1) : uri).normalize();
+            if (!path.startsWith(root)) return null;
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException | InvalidPathException ex) {
+            return null;
+        }
+        if (!attributes.isRegularFile()) return null;
+        String name = path.getFileName().toString();
+        boolean immutable = IMMUTABLE_NAME.matcher(name).matches();
+        String etag = immutable //
+                ? "\"" + name + "\"" //
+                : "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+        MediaType mediaType = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new ServeFileRecord(path, attributes.size(), etag, immutable, mediaType);
+    }
+}
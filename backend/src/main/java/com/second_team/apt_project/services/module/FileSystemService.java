@@ -2,27 +2,85 @@ package com.second_team.apt_project.services.module;
 
 import com.second_team.apt_project.domains.FileSystem;
 import com.second_team.apt_project.repositories.FileSystemRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class FileSystemService {
     private final FileSystemRepository fileSystemRepository;
+    // 키 -> 주소 (읽기 전용 조회용)
+    private final KeyValueCache<String> urlCache;
+
+    public FileSystemService(FileSystemRepository fileSystemRepository,
+                             @Value("${file.cache.enabled:true}") boolean enabled,
+                             @Value("${file.cache.max-size:20000}") int maxSize,
+                             @Value("${file.cache.ttl:60000}") long ttl) {
+        this.fileSystemRepository = fileSystemRepository;
+        this.urlCache = new KeyValueCache<>(enabled, maxSize, ttl);
+    }
 
     public Optional<FileSystem> get(String key) {
         return this.fileSystemRepository.findKey(key);
     }
 
+    // 여러 키의 주소를 캐시 + 한 번의 IN 조회로 (없는 키는 빠짐)
+    public Map<String, String> getAll(Collection<String> keyList) {
+        return urlCache.getAll(keyList, missList -> {
+            Map<String, String> urlMap = new HashMap<>();
+            for (FileSystem fileSystem : fileSystemRepository.findByKeyList(missList))
+                urlMap.put(fileSystem.getK(), fileSystem.getV());
+            return urlMap;
+        });
+    }
+
     public FileSystem save(String key, String fileLoc) {
+        urlCache.evict(key);
         return fileSystemRepository.save(FileSystem.builder()
                 .k(key)
                 .v(fileLoc).build());
     }
 
     public void delete(FileSystem fileSystem) {
+        urlCache.evict(fileSystem.getK());
         fileSystemRepository.delete(fileSystem);
     }
+
+    public List<FileSystem> getList(List<String> keyList) {
+        if (keyList.isEmpty()) return new ArrayList<>();
+        return fileSystemRepository.findByKeyList(keyList);
+    }
+
+    public void saveAll(List<FileSystem> fileSystemList) {
+        if (fileSystemList.isEmpty()) return;
+        urlCache.evict(fileSystemList.stream().map(FileSystem::getK).toList());
+        fileSystemRepository.insertAll(fileSystemList);
+    }
+
+    public long fillCreateDate(String prefix) {
+        return fileSystemRepository.fillCreateDate(prefix, LocalDateTime.now());
+    }
+
+    // 정리 기준 시각을 지금으로 갱신 (주소는 그대로라 캐시는 두어도 됨)
+    public long touch(List<String> keyList) {
+        if (keyList.isEmpty()) return 0;
+        return fileSystemRepository.touch(keyList, LocalDateTime.now());
+    }
+
+    public List<FileSystem> getExpiredList(String prefix, LocalDateTime before, int size) {
+        return fileSystemRepository.findExpiredList(prefix, before, size);
+    }
+
+    public List<String> getExistUrlList(List<String> urlList) {
+        if (urlList.isEmpty()) return new ArrayList<>();
+        return fileSystemRepository.findExistUrlList(urlList);
+    }
+
+    public long deleteByKeyList(List<String> keyList) {
+        if (keyList.isEmpty()) return 0;
+        urlCache.evict(keyList);
+        return fileSystemRepository.deleteByKeyList(keyList);
+    }
 }
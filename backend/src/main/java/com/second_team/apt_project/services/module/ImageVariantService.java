@@ -0,0 +1,249 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.AptProjectApplication;
+import com.second_team.apt_project.utils.TxUtils;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 고정 너비 축소본 (원본 옆에 이름_너비.확장자 로 저장)
+ * 이미지가 최종 위치로 옮겨진 뒤 커밋되면 전용 스레드에서 만들고, 조회할 때는 만들어진 것만 알려준다.
+ * 축소본이 없는 예전 이미지는 처음 조회될 때 만든다.
+ * 파일 이름이 바뀌지 않으므로 축소본이 모두 있는 원본은 기억해 두고 다시 확인하지 않는다 (크기 제한 LRU).
+ */
+@Service
+public class ImageVariantService {
+    public static final List<Integer> WIDTH_LIST = List.of(64, 256, 1024);
+    private static final Pattern VARIANT_NAME = Pattern.compile("_(\\d{1,4})(\\.[^./]*)?$");
+
+    private final ThreadPoolExecutor variantExecutor;
+    private final long maxPixels;
+    // 작업 대기/진행 중인 원본 주소 (중복 요청 방지)
+    private final Set<String> pendingSet = ConcurrentHashMap.newKeySet();
+    // 축소본이 모두 만들어진 원본 주소 -> (너비 -> 주소)
+    private final Map<String, Map<Integer, String>> variantMap;
+    // 읽을 수 없는 형식 등으로 실패한 원본 주소 -> 실패 시각 (retryAfter 동안은 다시 시도하지 않음)
+    private final Map<String, Long> failedMap;
+    private final long retryAfter;
+
+    public ImageVariantService(@Value("${image.variant.threads:2}") int threads,
+                               @Value("${image.variant.queue-size:1000}") int queueSize,
+                               @Value("${image.variant.max-pixels:40000000}") long maxPixels,
+                               @Value("${image.variant.cache-size:10000}") int cacheSize,
+                               @Value("${image.variant.retry-after:3600000}") long retryAfter) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.variantExecutor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), runnable -> {
+            Thread thread = new Thread(runnable, "image-variant-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxPixels = maxPixels;
+        this.variantMap = this.lruMap(cacheSize);
+        this.failedMap = this.lruMap(cacheSize);
+        this.retryAfter = retryAfter;
+    }
+
+    public static String variantUrl(String url, int width) {
+        int dot = url.lastIndexOf('.');
+        if (dot < url.lastIndexOf('/') + 1) return url + "_" + width;
+        return url.substring(0, dot) + "_" + width + url.substring(dot);
+    }
+
+    // 축소본 주소면 원본 주소, 아니면 그대로
+    public static String originalUrl(String url) {
+        Matcher matcher = VARIANT_NAME.matcher(url);
+        if (!matcher.find() || !WIDTH_LIST.contains(Integer.parseInt(matcher.group(1)))) return url;
+        return url.substring(0, matcher.start()) + (matcher.group(2) != null ? matcher.group(2) : "");
+    }
+
+    // 커밋 후 축소본 생성 요청 (이미 있거나 대기 중이면 무시)
+    // 같은 주소로 다시 올라온 파일(지워졌다가 같은 내용으로 다시 저장된 blob 등)일 수 있으므로 기억한 결과는 버림
+    public void request(String url) {
+        if (url == null || url.isBlank()) return;
+        TxUtils.afterCommit(() -> {
+            this.evict(url);
+            this.submit(url);
+        });
+    }
+
+    // 만들어진 축소본만 너비 -> 주소로 반환, 하나도 없으면 생성 요청
+    public Map<Integer, String> getUrlMap(String url) {
+        if (url == null || url.isBlank()) return new LinkedHashMap<>();
+        Map<Integer, String> cached;
+        synchronized (variantMap) {
+            cached = variantMap.get(url);
+        }
+        if (cached != null) return new LinkedHashMap<>(cached);
+        Map<Integer, String> urlMap = new LinkedHashMap<>();
+        String path = AptProjectApplication.getOsType().getLoc();
+        for (Integer width : WIDTH_LIST) {
+            String variantUrl = variantUrl(url, width);
+            if (Files.exists(Paths.get(path + variantUrl))) urlMap.put(width, variantUrl);
+        }
+        if (urlMap.size() == WIDTH_LIST.size()) this.remember(url);
+        else if (urlMap.isEmpty()) this.submit(url);
+        return urlMap;
+    }
+
+    // 원본과 축소본 파일을 지운 뒤 호출
+    public void evict(String url) {
+        synchronized (variantMap) {
+            variantMap.remove(url);
+        }
+        synchronized (failedMap) {
+            failedMap.remove(url);
+        }
+    }
+
+    public List<Path> getPathList(String url) {
+        String path = AptProjectApplication.getOsType().getLoc();
+        return WIDTH_LIST.stream().map(width -> Paths.get(path + variantUrl(url, width))).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        variantExecutor.shutdownNow();
+    }
+
+    private void submit(String url) {
+        if (this.failedRecently(url) || !pendingSet.add(url)) return;
+        try {
+            variantExecutor.execute(() -> {
+                try {
+                    if (this.generate(url)) this.remember(url);
+                    else this.fail(url);
+                } catch (IOException | RuntimeException ex) {
+                    this.fail(url);
+                } finally {
+                    pendingSet.remove(url);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // 대기열이 가득 차면 건너뛰고 다음 조회 때 다시 요청
+            pendingSet.remove(url);
+        }
+    }
+
+    private void remember(String url) {
+        Map<Integer, String> urlMap = new LinkedHashMap<>();
+        for (Integer width : WIDTH_LIST)
+            urlMap.put(width, variantUrl(url, width));
+        synchronized (variantMap) {
+            variantMap.put(url, Collections.unmodifiableMap(urlMap));
+        }
+    }
+
+    private void fail(String url) {
+        synchronized (failedMap) {
+            failedMap.put(url, System.currentTimeMillis());
+        }
+    }
+
+    private boolean failedRecently(String url) {
+        synchronized (failedMap) {
+            Long failedAt = failedMap.get(url);
+            if (failedAt == null) return false;
+            if (System.currentTimeMillis() - failedAt < retryAfter) return true;
+            failedMap.remove(url);
+            return false;
+        }
+    }
+
+    private <V> Map<String, V> lruMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 원본을 한 번만 읽어서 큰 너비부터 차례로 줄여가며 저장 - 원본이 더 작으면 원본을 그대로 복사
+    private boolean generate(String url) throws IOException {
+        String path = AptProjectApplication.getOsType().getLoc();
+        Path source = Paths.get(path + url);
+        if (Files.notExists(source)) return false;
+        String extension = url.substring(url.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (!ImageIO.getImageWritersBySuffix(extension).hasNext()) return false;
+        if (!this.checkSize(source)) return false;
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) return false;
+        List<Integer> widthList = new ArrayList<>(WIDTH_LIST);
+        Collections.reverse(widthList);
+        for (Integer width : widthList) {
+            Path target = Paths.get(path + variantUrl(url, width));
+            if (Files.exists(target)) continue;
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            if (image.getWidth() <= width) Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            else {
+                image = this.resize(image, width, !extension.equals("png") && !extension.equals("gif"));
+                if (!ImageIO.write(image, extension, temp.toFile())) return false;
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    // 디코딩 전에 크기만 읽어서 지나치게 큰 이미지는 거름
+    private boolean checkSize(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) return false;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return false;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return (long) reader.getWidth(0) * reader.getHeight(0) <= maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+    private BufferedImage resize(BufferedImage image, int width, boolean opaque) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) currentHeight * nextWidth / currentWidth));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (opaque) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, nextWidth, nextHeight);
+                }
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+}
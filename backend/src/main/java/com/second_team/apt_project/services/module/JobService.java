@@ -0,0 +1,95 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.enums.JobStatus;
+import com.second_team.apt_project.enums.JobType;
+import com.second_team.apt_project.repositories.JobRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 작업 대기열
+ * 가져간 작업에는 이 서버의 owner 를 기록하고, 실행하는 동안 하트비트 시각을 갱신한다.
+ * 하트비트가 staleTimeout 넘게 끊긴 작업만 주인이 없어진 것으로 보고 되살린다.
+ */
+@Service
+public class JobService {
+    private static final int MAX_ATTEMPT = 3;
+
+    private final JobRepository jobRepository;
+    private final long staleTimeout;
+    // 서버(프로세스)마다 다른 값
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobService(JobRepository jobRepository,
+                      @Value("${job.stale-timeout:300000}") long staleTimeout) {
+        this.jobRepository = jobRepository;
+        this.staleTimeout = staleTimeout;
+    }
+
+    public Job save(JobType type, String payload, String username) {
+        return jobRepository.save(Job.builder()
+                .type(type)
+                .payload(payload)
+                .username(username).build());
+    }
+
+    public Job get(Long id) {
+        return jobRepository.findById(id).orElse(null);
+    }
+
+    public Page<Job> getList(Pageable pageable, String username) {
+        return jobRepository.findList(pageable, username);
+    }
+
+    public List<Long> getWaitingIdList(int size) {
+        return jobRepository.findIdByStatus(JobStatus.WAITING, size);
+    }
+
+    @Transactional
+    public boolean claim(Long id) {
+        return jobRepository.claim(id, owner) == 1;
+    }
+
+    @Transactional
+    public void heartbeat(List<Long> idList) {
+        if (!idList.isEmpty()) jobRepository.heartbeat(idList, owner);
+    }
+
+    // 작업 트랜잭션과 상관없이 바로 보이도록 따로 커밋
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void progress(Long id, int done, int total) {
+        jobRepository.updateProgress(id, owner, done, total);
+    }
+
+    // 그 사이 다른 서버가 되살려 가져간 작업이면 바꾸지 않음
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void finish(Long id, JobStatus status, String message) {
+        jobRepository.finish(id, owner, status, message);
+    }
+
+    // 하트비트가 끊긴 실행중 작업은 다시 실행해도 되는 것만 대기열로 돌리고 나머지는 실패 처리
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${job.recover.interval:60000}", fixedDelayString = "${job.recover.interval:60000}")
+    public void recover() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(staleTimeout));
+        for (Job job : jobRepository.findStale(before)) {
+            if (job.getType().isRetryable() && job.getAttempt() < MAX_ATTEMPT)
+                jobRepository.release(job.getId(), before, JobStatus.WAITING, null);
+            else
+                jobRepository.release(job.getId(), before, JobStatus.FAILED, "작업 서버 응답 없음으로 중단됨");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.utils.TxUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * FileSystem / MultiKey 조회용 크기 제한 LRU 캐시 (없는 키도 캐시)
+ * 쓰기 시 해당 키를 바로 비우고 트랜잭션이 끝난 뒤 한 번 더 비운다.
+ * 쓰기가 있었던 트랜잭션 안에서 읽은 값은 커밋 전 데이터일 수 있으므로 캐시하지 않는다.
+ * REPEATABLE READ 트랜잭션은 다른 트랜잭션이 커밋하고 비운 뒤에도 이전 스냅샷 값을 읽어 캐시할 수 있으므로 항목은 ttl 이 지나면 버린다.
+ */
+class KeyValueCache<V> {
+    private static final Object NONE = new Object();
+
+    private final boolean enabled;
+    private final long ttl;
+    private final Map<String, Entry> cacheMap;
+    private final AtomicLong version = new AtomicLong();
+
+    KeyValueCache(boolean enabled, int maxSize, long ttl) {
+        this.enabled = enabled && maxSize > 0 && ttl > 0;
+        this.ttl = ttl;
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 캐시에 없는 키만 loader 로 한 번에 조회, 행이 없는 키는 결과에서 빠짐
+    @SuppressWarnings("unchecked")
+    Map<String, V> getAll(Collection<String> keyList, Function<List<String>, Map<String, V>> loader) {
+        Map<String, V> valueMap = new HashMap<>();
+        Set<String> keySet = new LinkedHashSet<>(keyList);
+        keySet.remove(null);
+        if (keySet.isEmpty()) return valueMap;
+        if (!enabled) return loader.apply(new ArrayList<>(keySet));
+        List<String> missList = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (cacheMap) {
+            for (String key : keySet) {
+                Entry entry = cacheMap.get(key);
+                if (entry != null && entry.expireAt() <= now) {
+                    cacheMap.remove(key);
+                    entry = null;
+                }
+                if (entry == null) missList.add(key);
+                else if (entry.value() != NONE) valueMap.put(key, (V) entry.value());
+            }
+        }
+        if (missList.isEmpty()) return valueMap;
+        long current = version.get();
+        Map<String, V> loadMap = loader.apply(missList);
+        valueMap.putAll(loadMap);
+        if (!TransactionSynchronizationManager.hasResource(this)) synchronized (cacheMap) {
+            // 조회하는 사이에 무효화됐으면 저장하지 않음
+            if (version.get() == current) {
+                long expireAt = now + ttl;
+                for (String key : missList)
+                    cacheMap.put(key, new Entry(loadMap.containsKey(key) ? loadMap.get(key) : NONE, expireAt));
+            }
+        }
+        return valueMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    void evict(Collection<String> keyList) {
+        if (!enabled || keyList.isEmpty()) return;
+        this.evictNow(keyList);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        Set<String> dirtySet = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (dirtySet == null) {
+            Set<String> newDirtySet = new HashSet<>();
+            dirtySet = newDirtySet;
+            TransactionSynchronizationManager.bindResource(this, newDirtySet);
+            // 커밋/롤백 모두 - 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있음
+            TxUtils.afterCompletion(() -> {
+                TransactionSynchronizationManager.unbindResourceIfPossible(this);
+                this.evictNow(newDirtySet);
+            });
+        }
+        dirtySet.addAll(keyList);
+    }
+
+    void evict(String key) {
+        if (key != null) this.evict(List.of(key));
+    }
+
+    private void evictNow(Collection<String> keyList) {
+        version.incrementAndGet();
+        synchronized (cacheMap) {
+            cacheMap.keySet().removeAll(keyList);
+        }
+    }
+
+    private record Entry(Object value, long expireAt) {
+    }
+}
@@ -61,4 +61,12 @@ public class LessonService {
         lesson.setContent(content);
         return lessonRepository.save(lesson);
     }
+
+    public List<Long> getIdList(List<Long> profileIdList, Long lastId, int size) {
+        return lessonRepository.findIdByProfileIdList(profileIdList, lastId, size);
+    }
+
+    public long deleteByIdList(List<Long> lessonIdList) {
+        return lessonRepository.deleteByIdList(lessonIdList);
+    }
 }
@@ -51,4 +51,12 @@ public class LessonUserService {
     public LessonUser findByLessonAndProfile(Long lessonId, Long profileId) {
         return lessonUserRepository.findByLessonAndProfile(lessonId, profileId).orElse(null);
     }
+
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return lessonUserRepository.deleteByProfileIdList(profileIdList);
+    }
+
+    public long deleteByLessonIdList(List<Long> lessonIdList) {
+        return lessonUserRepository.deleteByLessonIdList(lessonIdList);
+    }
 }
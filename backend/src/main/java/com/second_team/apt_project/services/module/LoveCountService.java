@@ -0,0 +1,103 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.repositories.ArticleRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 좋아요 수
+ * love 행이 실제로 추가/삭제된 만큼의 증감을 메모리에 모았다가 주기적으로 Article.loveCount 에 반영한다.
+ */
+@Service
+public class LoveCountService implements SmartInitializingSingleton {
+    private static final int FLUSH_SIZE = 500;
+    private static final String RECOUNT = "article_love_count";
+
+    private final ArticleRepository articleRepository;
+    private final MigrationService migrationService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pendingMap = new ConcurrentHashMap<>();
+
+    public LoveCountService(ArticleRepository articleRepository, MigrationService migrationService, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.migrationService = migrationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void add(Long articleId, long delta) {
+        pendingMap.computeIfAbsent(articleId, id -> new LongAdder()).add(delta);
+    }
+
+    // 아직 DB 에 반영되지 않은 증감
+    public long getPending(Long articleId) {
+        LongAdder adder = pendingMap.get(articleId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    public void remove(Long articleId) {
+        pendingMap.remove(articleId);
+    }
+
+    // 웹 서버와 스케줄러가 시작되기 전에 실행 (요청 처리 중 증감과 겹치지 않음)
+    // 전체 게시물을 다시 세는 무거운 작업이라 처음 한 번만 (이후에는 증감만 반영)
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (migrationService.isDone(RECOUNT)) return;
+            this.recount();
+            migrationService.done(RECOUNT);
+        });
+    }
+
+    /**
+     * love 테이블 기준으로 맞춤 (이전 버전 데이터, 비정상 종료로 유실된 증감 보정)
+     * 모아둔 증감을 먼저 반영하고, 그 사이에 새로 쌓인 게시물은 다음 flush 가 반영하도록 건너뜀
+     */
+    @Transactional
+    public synchronized void recount() {
+        this.flush();
+        articleRepository.recountLove(new ArrayList<>(pendingMap.keySet()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${article.love.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, List<Long>> deltaMap = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingMap.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0)
+                deltaMap.computeIfAbsent(delta, d -> new ArrayList<>()).add(entry.getKey());
+            else if (pendingMap.remove(entry.getKey(), entry.getValue()) && entry.getValue().sum() != 0)
+                // 제거하는 사이에 들어온 증감은 되돌림
+                this.add(entry.getKey(), entry.getValue().sum());
+        }
+        try {
+            for (Map.Entry<Long, List<Long>> entry : deltaMap.entrySet()) {
+                List<Long> articleIdList = entry.getValue();
+                for (int i = 0; i < articleIdList.size(); i += FLUSH_SIZE)
+                    articleRepository.addLoveCount(articleIdList.subList(i, Math.min(i + FLUSH_SIZE, articleIdList.size())), entry.getKey());
+            }
+        } catch (RuntimeException ex) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            deltaMap.forEach((delta, articleIdList) -> articleIdList.forEach(articleId -> this.add(articleId, delta)));
+            throw ex;
+        }
+    }
+
+    @Transactional
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        this.flush();
+    }
+}
@@ -7,7 +7,10 @@ import com.second_team.apt_project.repositories.LoveRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -35,20 +38,33 @@ public class LoveService {
     public boolean existsByArticleAndProfile(Article article, Profile profile) {
         return loveRepository.existsByArticleAndProfile(article, profile);
     }
-    public boolean toggleLove(Article article, Profile profile) {
-        Love love = loveRepository.findByArticleAndProfile(article, profile).orElse(null);
-        if (love == null) {
-            loveRepository.save(Love.builder()
-                    .article(article)
-                    .profile(profile).build());
-            return true;
-        } else {
-            loveRepository.delete(love);
-            return false;
-        }
+    // 실제로 추가됐을 때만 true
+    public boolean saveIfAbsent(Article article, Profile profile) {
+        return loveRepository.insertIfAbsent(article.getId(), profile.getId()) > 0;
+    }
+
+    // 실제로 삭제됐을 때만 true
+    public boolean deleteIfPresent(Article article, Profile profile) {
+        return loveRepository.deleteByArticleAndProfile(article.getId(), profile.getId()) > 0;
+    }
+
+    public Set<Long> getLovedArticleIdSet(Long profileId, List<Long> articleIdList) {
+        return new HashSet<>(loveRepository.findLovedArticleIdList(profileId, articleIdList));
     }
 
     public int countLoveByArticle(Long articleId) {
         return loveRepository.countByArticleId(articleId);
     }
+
+    public long deleteByArticleIdList(List<Long> articleIdList) {
+        return loveRepository.deleteByArticleIdList(articleIdList);
+    }
+
+    public Map<Long, Long> countByProfileIdList(List<Long> profileIdList) {
+        return loveRepository.countByProfileIdList(profileIdList);
+    }
+
+    public long deleteByProfileIdList(List<Long> profileIdList) {
+        return loveRepository.deleteByProfileIdList(profileIdList);
+    }
 }
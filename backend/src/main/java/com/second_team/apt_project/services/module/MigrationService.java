@@ -0,0 +1,22 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Migration;
+import com.second_team.apt_project.repositories.MigrationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 시작 시 보정 작업이 이미 끝났는지 기록 (여러 서버가 동시에 돌려도 작업 자체는 같은 결과)
+@Service
+@RequiredArgsConstructor
+public class MigrationService {
+    private final MigrationRepository migrationRepository;
+
+    public boolean isDone(String name) {
+        return migrationRepository.existsById(name);
+    }
+
+    public void done(String name) {
+        if (!migrationRepository.existsById(name))
+            migrationRepository.save(Migration.builder().name(name).build());
+    }
+}
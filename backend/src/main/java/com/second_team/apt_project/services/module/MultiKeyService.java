@@ -2,26 +2,45 @@ package com.second_team.apt_project.services.module;
 
 import com.second_team.apt_project.domains.MultiKey;
 import com.second_team.apt_project.repositories.MultiKeyRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class MultiKeyService {
     private final MultiKeyRepository multiKeyRepository;
+    // 키 -> 값 목록 사본 (읽기 전용 조회용)
+    private final KeyValueCache<List<String>> valueCache;
+
+    public MultiKeyService(MultiKeyRepository multiKeyRepository,
+                           @Value("${file.cache.enabled:true}") boolean enabled,
+                           @Value("${file.cache.max-size:20000}") int maxSize,
+                           @Value("${file.cache.ttl:60000}") long ttl) {
+        this.multiKeyRepository = multiKeyRepository;
+        this.valueCache = new KeyValueCache<>(enabled, maxSize, ttl);
+    }
 
 
     public Optional<MultiKey> get(String key) {
         return multiKeyRepository.findByKey(key);
     }
 
+    // 여러 키의 값 목록을 캐시 + 한 번의 IN 조회로 (없는 키는 빠짐, 반환 목록은 수정 불가)
+    public Map<String, List<String>> getAll(Collection<String> keyList) {
+        return valueCache.getAll(keyList, missList -> {
+            Map<String, List<String>> valueMap = new HashMap<>();
+            for (MultiKey multiKey : multiKeyRepository.findByKeyList(missList))
+                valueMap.putIfAbsent(multiKey.getK(), multiKey.getVs() == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(multiKey.getVs())));
+            return valueMap;
+        });
+    }
+
     public MultiKey save(String key, String s) {
         List<String> multiList = new ArrayList<>();
         multiList.add(s);
+        valueCache.evict(key);
         return multiKeyRepository.save(MultiKey.builder()
                 .k(key)
                 .vs(multiList)
@@ -29,12 +48,56 @@ public class MultiKeyService {
 
     }
 
+    // 값을 더하면 정리 기준 시각도 갱신 (TEMP 키는 마지막 업로드부터 TTL)
     public MultiKey add(MultiKey multiKey, String s) {
+        valueCache.evict(multiKey.getK());
         multiKey.getVs().add(s);
+        multiKey.setCreateDate(LocalDateTime.now());
+        return multiKeyRepository.save(multiKey);
+    }
+
+    public MultiKey addAll(MultiKey multiKey, List<String> keyList) {
+        valueCache.evict(multiKey.getK());
+        multiKey.getVs().addAll(keyList);
+        multiKey.setCreateDate(LocalDateTime.now());
+        return multiKeyRepository.save(multiKey);
+    }
+
+    public MultiKey remove(MultiKey multiKey, String s) {
+        valueCache.evict(multiKey.getK());
+        multiKey.getVs().remove(s);
         return multiKeyRepository.save(multiKey);
     }
 
+    public MultiKey saveAll(String key, List<String> keyList) {
+        valueCache.evict(key);
+        return multiKeyRepository.save(MultiKey.builder()
+                .k(key)
+                .vs(new ArrayList<>(keyList))
+                .build());
+    }
+
     public void delete(MultiKey multiKey) {
+        valueCache.evict(multiKey.getK());
         multiKeyRepository.delete(multiKey);
     }
+
+    public List<MultiKey> getList(List<String> keyList) {
+        if (keyList.isEmpty()) return new ArrayList<>();
+        return multiKeyRepository.findByKeyList(keyList);
+    }
+
+    public long fillCreateDate(String prefix) {
+        return multiKeyRepository.fillCreateDate(prefix, LocalDateTime.now());
+    }
+
+    public List<MultiKey> getExpiredList(String prefix, LocalDateTime before, int size) {
+        return multiKeyRepository.findExpiredList(prefix, before, size);
+    }
+
+    public long deleteByKeyList(List<String> keyList) {
+        if (keyList.isEmpty()) return 0;
+        valueCache.evict(keyList);
+        return multiKeyRepository.deleteByKeyList(keyList);
+    }
 }
@@ -22,6 +22,11 @@ public class ProfileService {
         return profileRepository.findById(profileId).orElse(null);
     }
 
+    // 이미 확인한 프로필 - 조회 없이 참조만
+    public Profile getReference(Long profileId) {
+        return profileRepository.getReferenceById(profileId);
+    }
+
     public List<Profile> findProfilesByUserList(SiteUser user) {
         return profileRepository.findProfilesByUserList(user);
     }
@@ -34,4 +39,8 @@ public class ProfileService {
     public void deleteProfile(Profile profile) {
         profileRepository.delete(profile);
     }
+
+    public long deleteByIdList(List<Long> profileIdList) {
+        return profileRepository.deleteByIdList(profileIdList);
+    }
 }
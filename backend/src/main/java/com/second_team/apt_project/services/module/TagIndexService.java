@@ -0,0 +1,240 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.records.TagCountRecord;
+import com.second_team.apt_project.repositories.ArticleTagRepository;
+import com.second_team.apt_project.utils.TxUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아파트별 태그 자동완성 인덱스 (메모리)
+ * 태그 이름을 소문자로 정규화한 접두어 트리에 사용 수와 함께 담는다.
+ * 게시물 태그 추가/삭제, 게시물 삭제 시 커밋 후 반영하고 주기적으로 DB 기준으로 다시 만든다.
+ * 다시 만드는 동안 바뀐 태그는 새 트리에 다시 세어 넣은 뒤 교체한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagIndexService {
+    private static final int MAX_CATCH_UP = 5;
+
+    private final ArticleTagRepository articleTagRepository;
+
+    private volatile Map<Long, AptTagIndex> aptIndexMap = new ConcurrentHashMap<>();
+    private final Object changeLock = new Object();
+    // 다시 만드는 중에 바뀐 태그 ID (다시 만드는 중이 아니면 null)
+    private Set<Long> changedTagIdSet;
+
+    // tagNameMap: 태그 ID -> 이름, 게시물 하나에서 한 번씩 쓰인 것으로 계산
+    public void add(Long aptId, Map<Long, String> tagNameMap) {
+        if (tagNameMap.isEmpty()) return;
+        TxUtils.afterCommit(() -> this.apply(tagNameMap.keySet(), () -> aptIndexMap.computeIfAbsent(aptId, id -> new AptTagIndex()).update(tagNameMap, 1)));
+    }
+
+    public void remove(Long aptId, Map<Long, String> tagNameMap) {
+        if (tagNameMap.isEmpty()) return;
+        TxUtils.afterCommit(() -> this.apply(tagNameMap.keySet(), () -> {
+            AptTagIndex aptIndex = aptIndexMap.get(aptId);
+            if (aptIndex != null) aptIndex.update(tagNameMap, -1);
+        }));
+    }
+
+    // 접두어로 시작하는 태그를 사용 수 내림차순으로
+    public List<TagCountRecord> suggest(Long aptId, String prefix, int size) {
+        AptTagIndex aptIndex = aptIndexMap.get(aptId);
+        if (aptIndex == null || size <= 0) return new ArrayList<>();
+        return aptIndex.suggest(aptId, this.normalize(prefix), size);
+    }
+
+    public List<TagCountRecord> top(Long aptId, int size) {
+        return this.suggest(aptId, "", size);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        this.rebuild();
+    }
+
+    // 커밋 후 반영이 재구성과 겹쳐 어긋난 수를 주기적으로 맞춤
+    @Scheduled(initialDelayString = "${tag.index.rebuild-interval:3600000}", fixedDelayString = "${tag.index.rebuild-interval:3600000}")
+    public synchronized int rebuild() {
+        synchronized (changeLock) {
+            changedTagIdSet = new HashSet<>();
+        }
+        try {
+            return this.rebuildIndex();
+        } finally {
+            synchronized (changeLock) {
+                changedTagIdSet = null;
+            }
+        }
+    }
+
+    /**
+     * 조회 결과에 이미 들어간 증감인지 알 수 없으므로 조회 중에 바뀐 태그는 커밋 후 반영이 끝난 뒤 다시 세어서 덮어씀
+     * 더 바뀐 태그가 없을 때 잠금 안에서 교체, MAX_CATCH_UP 번 안에 따라잡지 못하면 기존 트리를 유지
+     */
+    private int rebuildIndex() {
+        Map<Long, AptTagIndex> newIndexMap = new ConcurrentHashMap<>();
+        List<TagCountRecord> countList = articleTagRepository.countTagByApt();
+        for (TagCountRecord tagCount : countList)
+            newIndexMap.computeIfAbsent(tagCount.aptId(), id -> new AptTagIndex()).put(tagCount.tagId(), tagCount.name(), tagCount.count());
+        for (int i = 0; i < MAX_CATCH_UP; i++) {
+            List<Long> tagIdList;
+            synchronized (changeLock) {
+                if (changedTagIdSet.isEmpty()) {
+                    aptIndexMap = newIndexMap;
+                    return countList.size();
+                }
+                tagIdList = new ArrayList<>(changedTagIdSet);
+                changedTagIdSet.clear();
+            }
+            newIndexMap.values().forEach(aptIndex -> aptIndex.removeAll(tagIdList));
+            for (TagCountRecord tagCount : articleTagRepository.countTagByApt(tagIdList))
+                newIndexMap.computeIfAbsent(tagCount.aptId(), id -> new AptTagIndex()).put(tagCount.tagId(), tagCount.name(), tagCount.count());
+        }
+        return 0;
+    }
+
+    private void apply(Collection<Long> tagIdList, Runnable change) {
+        synchronized (changeLock) {
+            change.run();
+            if (changedTagIdSet != null) changedTagIdSet.addAll(tagIdList);
+        }
+    }
+
+    private String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static class TagEntry {
+        private final Long id;
+        private final String name;
+        private long count;
+
+        TagEntry(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Map<Long, TagEntry> tagMap = new HashMap<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && tagMap.isEmpty();
+        }
+    }
+
+    private class AptTagIndex {
+        private final Node root = new Node();
+        private final Map<Long, TagEntry> tagMap = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(Long tagId, String name, long count) {
+            lock.writeLock().lock();
+            try {
+                this.addLocked(tagId, name, count);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void removeAll(Collection<Long> tagIdList) {
+            lock.writeLock().lock();
+            try {
+                for (Long tagId : tagIdList) {
+                    TagEntry entry = tagMap.get(tagId);
+                    if (entry != null) this.removeLocked(entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void update(Map<Long, String> tagNameMap, long delta) {
+            lock.writeLock().lock();
+            try {
+                tagNameMap.forEach((tagId, name) -> this.addLocked(tagId, name, delta));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<TagCountRecord> suggest(Long aptId, String prefix, int size) {
+            lock.readLock().lock();
+            try {
+                Node node = root;
+                for (int i = 0; i < prefix.length() && node != null; i++)
+                    node = node.children.get(prefix.charAt(i));
+                if (node == null) return new ArrayList<>();
+                // 사용 수가 가장 작은 항목이 맨 앞에 오는 크기 size 의 힙
+                Comparator<TagEntry> order = Comparator.<TagEntry>comparingLong(entry -> entry.count)
+                        .thenComparing(entry -> entry.name, Comparator.reverseOrder());
+                PriorityQueue<TagEntry> heap = new PriorityQueue<>(order);
+                Deque<Node> stack = new ArrayDeque<>();
+                stack.push(node);
+                while (!stack.isEmpty()) {
+                    Node current = stack.pop();
+                    for (TagEntry entry : current.tagMap.values()) {
+                        if (heap.size() < size) heap.add(entry);
+                        else if (order.compare(entry, heap.peek()) > 0) {
+                            heap.poll();
+                            heap.add(entry);
+                        }
+                    }
+                    current.children.values().forEach(stack::push);
+                }
+                List<TagEntry> entryList = new ArrayList<>(heap);
+                entryList.sort(order.reversed());
+                return entryList.stream().map(entry -> new TagCountRecord(aptId, entry.id, entry.name, entry.count)).toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void addLocked(Long tagId, String name, long delta) {
+            TagEntry entry = tagMap.get(tagId);
+            if (entry == null) {
+                if (delta <= 0) return;
+                entry = new TagEntry(tagId, name);
+                tagMap.put(tagId, entry);
+                Node node = root;
+                for (char c : normalize(name).toCharArray())
+                    node = node.children.computeIfAbsent(c, key -> new Node());
+                node.tagMap.put(tagId, entry);
+            }
+            entry.count += delta;
+            if (entry.count <= 0) this.removeLocked(entry);
+        }
+
+        // 더 이상 쓰이지 않는 태그는 트리에서 빼고 빈 노드도 정리
+        private void removeLocked(TagEntry entry) {
+            tagMap.remove(entry.id);
+            String key = normalize(entry.name);
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) return;
+            node.tagMap.remove(entry.id);
+            for (int i = key.length(); i > 0 && path.get(i).isEmpty(); i--)
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+}
@@ -2,16 +2,32 @@ package com.second_team.apt_project.services.module;
 
 import com.second_team.apt_project.domains.Tag;
 import com.second_team.apt_project.repositories.TagRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class TagService {
+    private static final int MAX_CACHE_SIZE = 10000;
+    private static final int SWEEP_SIZE = 500;
+
     private final TagRepository tagRepository;
 
+    // 태그 이름(collationKey) -> 태그 (커밋된 태그만 담음)
+    private final Map<CollationKey, Tag> tagMap = new ConcurrentHashMap<>();
+    // MySQL 기본 collation(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트 무시
+    private final Collator collator = this.collator();
+
     public Tag findByName(String name) {
         return tagRepository.findByName(name).orElse(null);
     }
@@ -25,8 +41,113 @@ public class TagService {
         return tagRepository.findById(tagId).orElse(null);
     }
 
+    public Tag getReference(Long tagId) {
+        return tagRepository.getReferenceById(tagId);
+    }
 
     public void delete(Tag tag) {
         tagRepository.delete(tag);
     }
+
+    /**
+     * 이름 목록을 태그 ID 로 바꾸고 없는 태그는 한 번에 생성 (태그 이름 -> ID, 이름은 DB 에 저장된 이름)
+     * 캐시 -> IN 조회 -> INSERT 후 재조회 순서로, 이름 수와 상관없이 쿼리는 최대 3번
+     * uk_tag_name 은 대소문자/악센트를 구분하지 않으므로 입력과 행은 같은 기준(collationKey)으로 맞춤
+     * ON DUPLICATE KEY UPDATE 를 쓰므로 MySQL 전용
+     */
+    public Map<String, Long> resolve(List<String> nameList) {
+        Map<CollationKey, String> inputMap = new LinkedHashMap<>();
+        for (String name : nameList)
+            if (name != null && !name.isBlank()) inputMap.putIfAbsent(this.collationKey(name), name);
+        Map<CollationKey, Tag> resolvedMap = new HashMap<>();
+        List<String> missList = new ArrayList<>();
+        inputMap.forEach((key, name) -> {
+            Tag tag = tagMap.get(key);
+            if (tag != null) resolvedMap.put(key, tag);
+            else missList.add(name);
+        });
+        if (!missList.isEmpty()) {
+            for (Tag tag : tagRepository.findByNameList(missList)) {
+                resolvedMap.put(this.collationKey(tag.getName()), tag);
+                this.cache(tag);
+            }
+            List<String> createList = missList.stream().filter(name -> !resolvedMap.containsKey(this.collationKey(name))).toList();
+            if (!createList.isEmpty()) {
+                tagRepository.insertIfAbsent(createList);
+                for (Tag tag : tagRepository.findByNameListForShare(createList))
+                    resolvedMap.put(this.collationKey(tag.getName()), tag);
+            }
+        }
+        Map<String, Long> resultMap = new LinkedHashMap<>();
+        for (CollationKey key : inputMap.keySet()) {
+            Tag tag = resolvedMap.get(key);
+            if (tag != null) resultMap.putIfAbsent(tag.getName(), tag.getId());
+        }
+        return resultMap;
+    }
+
+    /**
+     * 게시물에 새로 연결할 태그의 사용 수를 올리고 실제로 연결할 이름 -> ID 를 돌려줌
+     * 캐시에 있던 태그가 그 사이 sweep 으로 지워졌으면 캐시를 비우고 한 번 다시 조회 (article_tag 추가 시 FK 오류 방지)
+     * 올린 행은 커밋까지 잠기고 사용 수가 0 보다 크므로 sweep 에서 빠짐
+     */
+    public Map<String, Long> increaseUseCount(Map<String, Long> tagIdMap) {
+        if (tagIdMap.isEmpty()) return tagIdMap;
+        List<Long> idList = tagIdMap.values().stream().distinct().toList();
+        if (tagRepository.addUseCount(idList, 1) == idList.size()) return tagIdMap;
+        Set<Long> existSet = new HashSet<>(tagRepository.findExistIdList(idList));
+        List<String> goneList = tagIdMap.entrySet().stream().filter(entry -> !existSet.contains(entry.getValue())).map(Map.Entry::getKey).toList();
+        goneList.forEach(name -> tagMap.remove(this.collationKey(name)));
+        Map<String, Long> retryMap = this.resolve(goneList);
+        List<Long> retryIdList = retryMap.values().stream().filter(id -> !existSet.contains(id)).distinct().toList();
+        if (!retryIdList.isEmpty()) tagRepository.addUseCount(retryIdList, 1);
+        Map<String, Long> resultMap = new LinkedHashMap<>();
+        tagIdMap.forEach((name, id) -> {
+            if (existSet.contains(id)) resultMap.put(name, id);
+        });
+        // 다시 만든 태그는 다른 요청이 대소문자만 다른 이름으로 만들었을 수 있으므로 돌려받은 이름으로
+        retryMap.forEach(resultMap::putIfAbsent);
+        return resultMap;
+    }
+
+    // 태그 ID -> 빠진 게시물 수, 같은 수끼리 묶어서 갱신
+    public void decreaseUseCount(Map<Long, Long> tagCountMap) {
+        Map<Long, List<Long>> countMap = new HashMap<>();
+        tagCountMap.forEach((tagId, count) -> countMap.computeIfAbsent(count, c -> new ArrayList<>()).add(tagId));
+        countMap.forEach((count, tagIdList) -> tagRepository.addUseCount(tagIdList, -count));
+    }
+
+    // 시작 시 article_tag 기준으로 사용 수를 맞춤
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        tagRepository.recountUse();
+    }
+
+    // 사용 수가 0 인 태그 정리 - 방금 만들어져 아직 연결 전인 태그는 건너뜀
+    @Transactional
+    @Scheduled(fixedDelayString = "${tag.sweep.interval:600000}")
+    public void sweep() {
+        List<Tag> tagList = tagRepository.findUnused(LocalDateTime.now().minusMinutes(10), SWEEP_SIZE);
+        if (tagList.isEmpty()) return;
+        tagRepository.deleteUnused(tagList.stream().map(Tag::getId).toList());
+        // 지우는 동안 다른 요청이 다시 캐시했을 수 있으므로 삭제 후에 비움 (남은 경우는 increaseUseCount 가 다시 조회)
+        tagList.forEach(tag -> tagMap.remove(this.collationKey(tag.getName())));
+    }
+
+    private void cache(Tag tag) {
+        if (tagMap.size() >= MAX_CACHE_SIZE) tagMap.clear();
+        tagMap.put(this.collationKey(tag.getName()), tag);
+    }
+
+    // RuleBasedCollator 의 getCollationKey 는 synchronized
+    private CollationKey collationKey(String name) {
+        return collator.getCollationKey(name);
+    }
+
+    private Collator collator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    }
 }
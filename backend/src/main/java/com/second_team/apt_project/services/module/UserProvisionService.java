@@ -0,0 +1,149 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.enums.UserRole;
+import com.second_team.apt_project.records.ProvisionRecord;
+import com.second_team.apt_project.records.ResidentRecord;
+import com.second_team.apt_project.repositories.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 세대 계정 일괄 생성
+ * BCrypt 는 CPU 수만큼의 전용 스레드에서 나눠 돌리고, 묶음 단위로 JDBC batch insert 후 묶음마다 커밋한다.
+ * 다음 묶음의 해시는 이전 묶음을 저장하는 동안 미리 계산한다.
+ */
+@Service
+public class UserProvisionService {
+    private static final String INSERT_SQL = "INSERT IGNORE INTO site_user (username, password, apt_id, role, apt_num, dong, ho, create_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashExecutor;
+    private final int chunkSize;
+    private final Map<Long, ProvisionRecord> progressMap = new ConcurrentHashMap<>();
+
+    public UserProvisionService(UserRepository userRepository, PasswordEncoder passwordEncoder, JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${user.provision.hash-threads:0}") int hashThreads,
+                                @Value("${user.provision.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "provision-hash-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 이미 있는 계정은 건너뛰고 새 계정만 만든다.
+     * 묶음이 커밋될 때마다 listener 로 진행 상황을 알린다.
+     */
+    public ProvisionRecord provision(Long aptId, List<ResidentRecord> residentList, Consumer<ProvisionRecord> listener) {
+        long start = System.currentTimeMillis();
+        int total = residentList.size();
+        int done = 0;
+        int created = 0;
+        this.report(new ProvisionRecord(aptId, total, 0, 0, 0, false, null), listener);
+        ProvisionRecord result = null;
+        String error = "중단됨";
+        try {
+            CompletableFuture<List<Object[]>> next = total > 0 ? this.hash(aptId, residentList.subList(0, Math.min(chunkSize, total))) : null;
+            for (int from = 0; from < total; from += chunkSize) {
+                List<Object[]> rowList = next.join();
+                int nextFrom = from + chunkSize;
+                next = nextFrom < total ? this.hash(aptId, residentList.subList(nextFrom, Math.min(nextFrom + chunkSize, total))) : null;
+                Integer inserted = transactionTemplate.execute(status -> this.insert(rowList));
+                done += rowList.size();
+                created += inserted != null ? inserted : 0;
+                this.report(new ProvisionRecord(aptId, total, done, created, System.currentTimeMillis() - start, false, null), listener);
+            }
+            result = new ProvisionRecord(aptId, total, done, created, System.currentTimeMillis() - start, true, null);
+            this.report(result, listener);
+            return result;
+        } catch (RuntimeException ex) {
+            if (ex.getMessage() != null) error = ex.getMessage();
+            throw ex;
+        } finally {
+            // 실패해도 진행 상황이 끝나지 않은 채로 남지 않도록 (커밋된 묶음까지의 수)
+            if (result == null)
+                this.report(new ProvisionRecord(aptId, total, done, created, System.currentTimeMillis() - start, true, error), listener);
+        }
+    }
+
+    public ProvisionRecord getProgress(Long aptId) {
+        return progressMap.get(aptId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    private void report(ProvisionRecord progress, Consumer<ProvisionRecord> listener) {
+        progressMap.put(progress.aptId(), progress);
+        if (listener != null) listener.accept(progress);
+    }
+
+    // 묶음 안의 계정을 해시 스레드에 나눠서 비밀번호 해시
+    private CompletableFuture<List<Object[]>> hash(Long aptId, List<ResidentRecord> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<CompletableFuture<Object[]>> futureList = new ArrayList<>();
+        for (ResidentRecord resident : chunk)
+            futureList.add(CompletableFuture.supplyAsync(() -> new Object[]{
+                    resident.username(),
+                    passwordEncoder.encode(resident.username()),
+                    aptId,
+                    UserRole.USER.ordinal(),
+                    resident.aptNum(),
+                    resident.dong(),
+                    resident.ho(),
+                    now}, hashExecutor));
+        return CompletableFuture.allOf(futureList.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> futureList.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 이미 있는 username 을 한 번에 확인하고 나머지만 batch insert - 실제로 추가된 행 수 반환
+     * 확인한 뒤 다른 요청이 만든 계정은 INSERT IGNORE 로 건너뛰므로 영향 받은 행 수로 셈
+     * rewriteBatchedStatements 로 행마다의 수를 모르면 같은 트랜잭션에서 다시 세어 차이를 씀
+     */
+    private int insert(List<Object[]> rowList) {
+        List<String> usernameList = rowList.stream().map(row -> (String) row[0]).toList();
+        Set<String> existSet = new HashSet<>(userRepository.findExistUsernameList(usernameList));
+        List<Object[]> newRowList = rowList.stream().filter(row -> !existSet.contains((String) row[0])).toList();
+        if (newRowList.isEmpty()) return 0;
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_SQL, newRowList)) {
+            if (count == Statement.SUCCESS_NO_INFO)
+                return userRepository.findExistUsernameList(usernameList).size() - existSet.size();
+            inserted += Math.max(0, count);
+        }
+        return inserted;
+    }
+}
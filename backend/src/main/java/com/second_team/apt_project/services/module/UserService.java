@@ -4,28 +4,55 @@ import com.second_team.apt_project.exceptions.DataDuplicateException;
 import com.second_team.apt_project.domains.Apt;
 import com.second_team.apt_project.domains.SiteUser;
 import com.second_team.apt_project.enums.UserRole;
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.records.UserCursorRecord;
 import com.second_team.apt_project.repositories.UserRepository;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
+    private static final Pattern HOUSEHOLD = Pattern.compile("^\\d+_(\\d{1,9})_(\\d{1,9})$");
+    private static final int BACKFILL_SIZE = 500;
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     @Transactional
     public SiteUser get(String value){
         return this.userRepository.findById(value).orElse(null);
     }
 
+    // 이미 확인한 사용자 - 조회 없이 참조만
+    public SiteUser getReference(String username) {
+        return this.userRepository.getReferenceById(username);
+    }
+
+    public ActorRecord getActor(String username, Long profileId) {
+        return this.userRepository.findActor(username, profileId);
+    }
+
     public boolean isMatch(String password1, String password2) {
         return passwordEncoder.matches(password1, password2);
     }
@@ -40,15 +67,25 @@ public class UserService {
                 .password(passwordEncoder.encode(password))
                 .email(email)
                 .aptNum(aptNumber)
+                .dong(this.parseDong(name))
+                .ho(this.parseHo(name))
                 .role(UserRole.values()[role])
                 .apt(apt).build());
     }
 
+    // 이미 있는 계정은 그대로 둠 (save 는 같은 username 이면 비밀번호/이메일을 덮어씀)
+    public SiteUser saveIfAbsent(String name, String password, String email, int aptNumber, int role, Apt apt) {
+        if (userRepository.existsById(name)) return null;
+        return this.save(name, password, email, aptNumber, role, apt);
+    }
+
     public SiteUser saveGroup(String name, int aptNumber, Apt apt) {
         return userRepository.save(SiteUser.builder()
                 .username(String.valueOf(apt.getId()) + "_" + name)
                 .password(passwordEncoder.encode(String.valueOf(apt.getId()) + "_" + name))
                 .aptNum(aptNumber)
+                .dong(this.parseDong(String.valueOf(apt.getId()) + "_" + name))
+                .ho(this.parseHo(String.valueOf(apt.getId()) + "_" + name))
                 .role(UserRole.values()[3])
                 .apt(apt)
                 .build());
@@ -60,6 +97,42 @@ public class UserService {
         return this.userRepository.findByUserList(pageable,aptId);
     }
 
+    public List<SiteUser> getUserCursor(Long aptId, UserCursorRecord cursor, int size) {
+        return this.userRepository.findByUserCursor(aptId, cursor, size);
+    }
+
+    // 세대 계정 username (아파트ID_동_호) 에서 동, 호 - 형식이 다르면 0
+    public int parseDong(String username) {
+        Matcher matcher = HOUSEHOLD.matcher(username);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    public int parseHo(String username) {
+        Matcher matcher = HOUSEHOLD.matcher(username);
+        return matcher.matches() ? Integer.parseInt(matcher.group(2)) : 0;
+    }
+
+    // 동, 호 컬럼이 없던 때 만들어진 세대 계정 채우기 - 페이지마다 따로 커밋해서 영속성 컨텍스트가 쌓이지 않게 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillHousehold() {
+        String lastUsername = "";
+        while (lastUsername != null) {
+            String from = lastUsername;
+            lastUsername = transactionTemplate.execute(status -> this.backfillHousehold(from));
+        }
+    }
+
+    // 한 페이지 채우고 마지막 username, 더 없으면 null
+    private String backfillHousehold(String lastUsername) {
+        List<SiteUser> userList = userRepository.findByHouseholdUnset(lastUsername, BACKFILL_SIZE);
+        if (userList.isEmpty()) return null;
+        for (SiteUser user : userList) {
+            user.setDong(this.parseDong(user.getUsername()));
+            user.setHo(this.parseHo(user.getUsername()));
+        }
+        return userList.getLast().getUsername();
+    }
+
     public SiteUser getUser(String username) {
         return this.userRepository.findByUsername(username);
     }
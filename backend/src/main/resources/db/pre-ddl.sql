@@ -0,0 +1,3 @@
+-- Hibernate ddl update 보다 먼저 실행 (MySQL 전용, 테이블이 아직 없으면 무시됨)
+-- 유니크 제약 uk_love_article_profile 을 만들 수 있도록 중복 좋아요는 가장 먼저 누른 것만 남김
+DELETE l1 FROM love l1 JOIN love l2 ON l1.article_id = l2.article_id AND l1.profile_id = l2.profile_id AND l1.id > l2.id;
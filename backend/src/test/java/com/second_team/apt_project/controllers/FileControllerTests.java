@@ -0,0 +1,173 @@
+package com.second_team.apt_project.controllers;
+
+import com.second_team.apt_project.records.ServeFileRecord;
+import com.second_team.apt_project.services.module.FileServeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileControllerTests {
+    private static final String URI = "/api/blob/aa/" + "a".repeat(64) + ".jpg";
+    private static final String ETAG = "\"" + "a".repeat(64) + ".jpg\"";
+    private static final String CONTENT = "abcdefghijklmnopqrstuvwxyz";
+
+    @Mock
+    private FileServeService fileServeService;
+
+    @InjectMocks
+    private FileController fileController;
+
+    @TempDir
+    private Path tempDir;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", URI);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void notFound() throws Exception {
+        when(fileServeService.resolve(URI)).thenReturn(null);
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void fullBody() throws Exception {
+        this.resolve();
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getContentLengthLong()).isEqualTo(26);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void notModified() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG);
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void partialContent() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/26");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("abcdefghij");
+    }
+
+    @Test
+    void suffixRange() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-5");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 21-25/26");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("vwxyz");
+    }
+
+    @Test
+    void rangeNotSatisfiable() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.RANGE, "bytes=30-");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */26");
+    }
+
+    @Test
+    void multipleRangesSendFullBody() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ifRangeMismatchSendsFullBody() throws Exception {
+        this.resolve();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void headWithoutBody() throws Exception {
+        this.resolve();
+        request.setMethod("HEAD");
+
+        fileController.serve(request, response);
+
+        assertThat(response.getContentLengthLong()).isEqualTo(26);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void sendfile() throws Exception {
+        Path path = this.resolve();
+        request.setAttribute("org.apache.tomcat.sendfile.support", true);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+
+        fileController.serve(request, response);
+
+        // 본문은 커넥터가 보냄
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(path.toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(5L);
+    }
+
+    private Path resolve() throws Exception {
+        Path path = Files.writeString(tempDir.resolve("a".repeat(64) + ".jpg"), CONTENT);
+        when(fileServeService.resolve(URI)).thenReturn(new ServeFileRecord(path, CONTENT.length(), ETAG, true, MediaType.IMAGE_JPEG));
+        return path;
+    }
+}
@@ -0,0 +1,40 @@
+package com.second_team.apt_project.records;
+
+import com.second_team.apt_project.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserCursorRecordTests {
+
+    @Test
+    void roundTrip() {
+        UserCursorRecord cursor = UserCursorRecord.builder().role(UserRole.USER).dong(101).ho(1203).username("3_101_1203").build();
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(UserCursorRecord.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void usernameWithComma() {
+        UserCursorRecord cursor = UserCursorRecord.builder().role(UserRole.ADMIN).dong(0).ho(0).username("a,b,c").build();
+
+        assertThat(UserCursorRecord.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void firstPage() {
+        assertThat(UserCursorRecord.decode(null)).isNull();
+        assertThat(UserCursorRecord.decode(" ")).isNull();
+    }
+
+    @Test
+    void tamperedCursor() {
+        assertThatThrownBy(() -> UserCursorRecord.decode("not*base64")).isInstanceOf(IllegalArgumentException.class).hasMessage("잘못된 커서");
+        // "abc" - 값이 4개가 아님
+        assertThatThrownBy(() -> UserCursorRecord.decode("YWJj")).isInstanceOf(IllegalArgumentException.class).hasMessage("잘못된 커서");
+    }
+}
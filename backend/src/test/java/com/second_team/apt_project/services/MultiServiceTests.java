@@ -0,0 +1,139 @@
+package com.second_team.apt_project.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.domains.Profile;
+import com.second_team.apt_project.domains.SiteUser;
+import com.second_team.apt_project.enums.JobType;
+import com.second_team.apt_project.enums.UserRole;
+import com.second_team.apt_project.records.ActorRecord;
+import com.second_team.apt_project.records.CommentPathRecord;
+import com.second_team.apt_project.services.module.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MultiServiceTests {
+    private static final String USERNAME = "1_101_1203";
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private ProfileService profileService;
+    @Mock
+    private ArticleService articleService;
+    @Mock
+    private ArticleCacheService articleCacheService;
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private LoveService loveService;
+    @Mock
+    private LoveCountService loveCountService;
+    @Mock
+    private ChatMessageService chatMessageService;
+    @Mock
+    private ChatRoomUserService chatRoomUserService;
+    @Mock
+    private LessonService lessonService;
+    @Mock
+    private LessonUserService lessonUserService;
+    @Mock
+    private MultiKeyService multiKeyService;
+    @Mock
+    private FileSystemService fileSystemService;
+    @Mock
+    private FileBlobService fileBlobService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private MultiService multiService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(multiService, "cascadeSize", 2);
+    }
+
+    @Test
+    void deleteProfileRemovesLegacyComments() {
+        when(userService.getActor(USERNAME, 5L)).thenReturn(new ActorRecord(USERNAME, UserRole.USER, 1L, 5L, USERNAME));
+        // path 를 채우기 전 댓글(null)도 같이 지워야 프로필 FK 에 걸리지 않음
+        List<CommentPathRecord> pathList = List.of(new CommentPathRecord(10L, 3L, "00000010/"), new CommentPathRecord(11L, 4L, null));
+        when(commentService.getPathList(List.of(5L), 0L, 2)).thenReturn(pathList);
+        when(commentService.getPathList(List.of(5L), 11L, 2)).thenReturn(List.of());
+        when(commentService.deleteByPathList(pathList)).thenReturn(3L);
+
+        multiService.deleteProfile(USERNAME, 5L);
+
+        InOrder inOrder = inOrder(commentService, loveService, chatMessageService, profileService);
+        inOrder.verify(commentService).deleteByPathList(pathList);
+        inOrder.verify(loveService).deleteByProfileIdList(List.of(5L));
+        inOrder.verify(chatMessageService).deleteByProfileIdList(List.of(5L));
+        inOrder.verify(profileService).deleteByIdList(List.of(5L));
+        verify(articleCacheService).evict(1L);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void deleteProfileOfOtherUser() {
+        when(userService.getActor(USERNAME, 5L)).thenReturn(new ActorRecord(USERNAME, UserRole.USER, 1L, 5L, "1_101_1204"));
+
+        assertThatThrownBy(() -> multiService.deleteProfile(USERNAME, 5L)).isInstanceOf(IllegalArgumentException.class).hasMessage("유저와 일치 X");
+        verify(profileService, never()).deleteByIdList(anyList());
+    }
+
+    @Test
+    void deleteUserJobCommitsPerBatch() {
+        SiteUser user = SiteUser.builder().username(USERNAME).role(UserRole.USER).build();
+        Profile profile = Profile.builder().user(user).name("home").build();
+        profile.setId(5L);
+        when(userService.getActor(USERNAME, null)).thenReturn(new ActorRecord(USERNAME, UserRole.USER, 1L, null, null));
+        when(userService.getReference(USERNAME)).thenReturn(user);
+        when(userService.get(USERNAME)).thenReturn(user);
+        when(profileService.findProfilesByUserList(user)).thenReturn(List.of(profile));
+        List<CommentPathRecord> pathList = List.of(new CommentPathRecord(10L, 3L, "00000010/"));
+        when(commentService.getPathList(List.of(5L), 0L, 2)).thenReturn(pathList);
+        when(commentService.deleteByPathList(pathList)).thenReturn(1L);
+        when(profileService.deleteByIdList(List.of(5L))).thenReturn(1L);
+        Job job = Job.builder().type(JobType.DELETE_USER).payload("{\"username\":\"" + USERNAME + "\"}").username("admin").build();
+
+        String message = multiService.runDeleteUserJob(job, (done, total) -> {});
+
+        // 단계마다 커밋한 뒤 다음 단계 진행, 유저는 마지막에 삭제
+        InOrder inOrder = inOrder(commentService, profileService, userService, transactionManager);
+        inOrder.verify(commentService).deleteByPathList(pathList);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(profileService).deleteByIdList(List.of(5L));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(userService).deleteUser(user);
+        inOrder.verify(transactionManager).commit(any());
+        assertThat(message).contains("comment 1", "profile 1", "site_user 1");
+    }
+
+    @Test
+    void deleteUserJobAlreadyDeleted() {
+        Job job = Job.builder().type(JobType.DELETE_USER).payload("{\"username\":\"" + USERNAME + "\"}").username("admin").build();
+
+        assertThat(multiService.runDeleteUserJob(job, (done, total) -> {})).isEqualTo("이미 삭제된 유저");
+        verify(profileService, never()).deleteByIdList(anyList());
+    }
+}
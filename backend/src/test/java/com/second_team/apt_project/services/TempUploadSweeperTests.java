@@ -0,0 +1,100 @@
+package com.second_team.apt_project.services;
+
+import com.second_team.apt_project.records.SweepRecord;
+import com.second_team.apt_project.services.module.FileSystemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TempUploadSweeperTests {
+    @Mock
+    private MultiService multiService;
+    @Mock
+    private FileSystemService fileSystemService;
+
+    // 실제 저장 위치(OsType)를 돌지 않도록 임시 폴더를 루트로
+    @TempDir
+    private Path root;
+
+    private TempUploadSweeper tempUploadSweeper;
+
+    @BeforeEach
+    void setUp() {
+        tempUploadSweeper = new TempUploadSweeper(multiService, fileSystemService, 86400000, 2, 5, root.toString());
+    }
+
+    @Test
+    void fillCreateDateOncePerSweep() {
+        when(multiService.sweepTempUploads(any(), eq(2)))
+                .thenReturn(new SweepRecord(2, 1, 10))
+                .thenReturn(new SweepRecord(2, 1, 20))
+                .thenReturn(new SweepRecord(0, 0, 0));
+
+        SweepRecord total = tempUploadSweeper.sweep();
+
+        // 빈 생성일 채우기는 묶음마다가 아니라 처음 한 번만, 묶음은 같은 기준 시각으로
+        InOrder inOrder = inOrder(multiService);
+        inOrder.verify(multiService).fillTempCreateDate();
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        inOrder.verify(multiService, times(3)).sweepTempUploads(before.capture(), eq(2));
+        verify(multiService, times(1)).fillTempCreateDate();
+        assertThat(before.getAllValues()).containsOnly(before.getValue());
+        assertThat(total.rows()).isEqualTo(4);
+        assertThat(total.bytes()).isEqualTo(30);
+    }
+
+    @Test
+    void stopAtMaxBatches() {
+        when(multiService.sweepTempUploads(any(), eq(2))).thenReturn(new SweepRecord(2, 0, 0));
+
+        SweepRecord total = tempUploadSweeper.sweep();
+
+        // 나머지는 다음 실행에서
+        verify(multiService, times(5)).sweepTempUploads(any(), eq(2));
+        verify(multiService, times(1)).fillTempCreateDate();
+        assertThat(total.rows()).isEqualTo(10);
+    }
+
+    @Test
+    void deleteOnlyOldOrphans() throws Exception {
+        when(multiService.sweepTempUploads(any(), eq(2))).thenReturn(new SweepRecord(0, 0, 0));
+        Path folder = Files.createDirectories(root.resolve("api/article/1"));
+        Path orphan = this.write(folder.resolve("orphan.jpg"), 2);
+        Path kept = this.write(folder.resolve("kept.jpg"), 2);
+        Path recent = this.write(folder.resolve("recent.jpg"), 0);
+        when(fileSystemService.getExistUrlList(anyList())).thenReturn(List.of("/api/article/1/kept.jpg"));
+
+        SweepRecord total = tempUploadSweeper.sweep();
+
+        // 행이 있거나 TTL 안쪽이면 남김
+        assertThat(orphan).doesNotExist();
+        assertThat(kept).exists();
+        assertThat(recent).exists();
+        assertThat(total.files()).isEqualTo(1);
+        assertThat(total.bytes()).isEqualTo(4);
+    }
+
+    private Path write(Path file, int daysAgo) throws Exception {
+        Files.write(file, new byte[4]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - daysAgo * 86400000L));
+        return file;
+    }
+}
@@ -0,0 +1,80 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.*;
+import com.second_team.apt_project.enums.Sorts;
+import com.second_team.apt_project.repositories.ArticleRepository;
+import com.second_team.apt_project.repositories.ArticleTagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceTests {
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private ArticleTagRepository articleTagRepository;
+
+    @InjectMocks
+    private ArticleSearchService articleSearchService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void titleContentMergesFields() {
+        articleSearchService.save(this.article(1L, "사과 판매", "<p>배도 있어요</p>"), List.of());
+        articleSearchService.save(this.article(2L, "배 판매", "<p>사과 없음</p>"), List.of());
+
+        // 제목과 내용 어느 쪽에 있어도 일치, 빈도는 두 필드를 더함
+        assertThat(articleSearchService.search(1L, "사과 배", Sorts.TITLE_CONTENT, null)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(articleSearchService.search(1L, "사과", Sorts.TITLE, null)).containsExactly(1L);
+        assertThat(articleSearchService.search(1L, "없음", Sorts.TITLE, null)).isEmpty();
+    }
+
+    @Test
+    void applyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        articleSearchService.save(this.article(1L, "사과 판매", "내용"), List.of());
+
+        // 커밋 전에는 반영하지 않음
+        assertThat(articleSearchService.search(1L, "사과", Sorts.TITLE, null)).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(articleSearchService.search(1L, "사과", Sorts.TITLE, null)).containsExactly(1L);
+    }
+
+    @Test
+    void skipRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        articleSearchService.save(this.article(1L, "사과 판매", "내용"), List.of());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(articleSearchService.search(1L, "사과", Sorts.TITLE, null)).isEmpty();
+    }
+
+    private Article article(Long id, String title, String content) {
+        Apt apt = Apt.builder().aptName("apt").build();
+        apt.setId(1L);
+        SiteUser user = SiteUser.builder().username("1_101_1203").apt(apt).build();
+        Profile profile = Profile.builder().user(user).name("home").build();
+        profile.setId(5L);
+        Category category = Category.builder().name("free").build();
+        category.setId(2L);
+        Article article = Article.builder().profile(profile).category(category).title(title).content(content).build();
+        article.setId(id);
+        return article;
+    }
+}
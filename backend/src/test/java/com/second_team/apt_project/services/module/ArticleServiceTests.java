@@ -0,0 +1,62 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Article;
+import com.second_team.apt_project.repositories.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleServiceTests {
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private MigrationService migrationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ArticleService articleService;
+
+    @Test
+    void backfillUpdatesOnlySummary() {
+        Article legacy = this.article(1L, "<p>중고&nbsp;책상</p><img src=\"/api/blob/aa/a.jpg\">[PRICE]10000[/PRICE]", null);
+        Article noPrice = this.article(2L, "<p>책상</p>[PRICE]5000[/PRICE]", "책상");
+        when(articleRepository.findBySummaryIsNull(0L, 500)).thenReturn(List.of(legacy, noPrice));
+        when(articleRepository.findBySummaryIsNull(2L, 500)).thenReturn(List.of());
+
+        articleService.backfillExcerpt();
+
+        // 읽을 때의 미리보기로 확인하면서 미리보기 컬럼만 갱신
+        verify(articleRepository).updateSummary(1L, null, "중고 책상", "/api/blob/aa/a.jpg", "10000");
+        verify(articleRepository).updateSummary(2L, "책상", "책상", null, "5000");
+        verify(articleRepository, never()).saveAll(anyList());
+        verify(migrationService).done("article_excerpt");
+    }
+
+    @Test
+    void backfillOnlyOnce() {
+        when(migrationService.isDone("article_excerpt")).thenReturn(true);
+
+        articleService.backfillExcerpt();
+
+        verify(articleRepository, never()).findBySummaryIsNull(anyLong(), anyInt());
+    }
+
+    private Article article(Long id, String content, String excerpt) {
+        Article article = Article.builder().title("title").content(content).build();
+        article.setId(id);
+        article.setExcerpt(excerpt);
+        return article;
+    }
+}
@@ -0,0 +1,158 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Article;
+import com.second_team.apt_project.domains.Comment;
+import com.second_team.apt_project.records.CommentPathRecord;
+import com.second_team.apt_project.repositories.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTests {
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private final AtomicLong sequence = new AtomicLong(36);
+
+    @BeforeEach
+    void setUp() {
+        // 저장 시 IDENTITY 처럼 ID 부여
+        lenient().when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            if (comment.getId() == null) comment.setId(sequence.incrementAndGet());
+            return comment;
+        });
+    }
+
+    @Test
+    void rootComment() {
+        Comment comment = commentService.saveComment(null, null, "root", null);
+
+        assertThat(comment.getPath()).isEqualTo("00000011/");
+        assertThat(comment.getDepth()).isZero();
+    }
+
+    @Test
+    void replyToBackfilledParent() {
+        Comment parent = this.comment(1L, null, "00000001/", 0);
+        when(commentRepository.findByParentId(1L)).thenReturn(Optional.of(parent));
+
+        Comment reply = commentService.saveComment(null, null, "reply", 1L);
+
+        assertThat(reply.getParent()).isSameAs(parent);
+        assertThat(reply.getPath()).isEqualTo("00000001/00000011/");
+        assertThat(reply.getDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void replyToLegacyParentFillsAncestors() {
+        Comment root = this.comment(1L, null, null, null);
+        Comment parent = this.comment(36L, root, null, null);
+        when(commentRepository.findByParentId(36L)).thenReturn(Optional.of(parent));
+
+        Comment reply = commentService.saveComment(null, null, "reply", 36L);
+
+        assertThat(root.getPath()).isEqualTo("00000001/");
+        assertThat(root.getDepth()).isZero();
+        assertThat(parent.getPath()).isEqualTo("00000001/00000010/");
+        assertThat(parent.getDepth()).isEqualTo(1);
+        assertThat(reply.getPath()).isEqualTo("00000001/00000010/00000011/");
+        assertThat(reply.getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void replyTooDeep() {
+        Comment parent = this.comment(1L, null, "00000001/".repeat(80), 79);
+        when(commentRepository.findByParentId(1L)).thenReturn(Optional.of(parent));
+
+        assertThatThrownBy(() -> commentService.saveComment(null, null, "reply", 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void replyPageOfLegacyComment() {
+        Comment comment = this.comment(5L, null, null, null);
+        comment.setArticle(this.article());
+        Pageable pageable = PageRequest.of(0, 20);
+        when(commentRepository.findReplies(3L, "00000005/", 1, 2, pageable)).thenReturn(new PageImpl<>(List.of()));
+
+        commentService.getReplyPage(comment, 2, pageable);
+
+        assertThat(comment.getDepth()).isZero();
+    }
+
+    @Test
+    void deleteSubtreeBeforeBackfill() {
+        Comment comment = this.comment(5L, null, null, null);
+        comment.setArticle(this.article());
+
+        commentService.deleteSubtree(comment);
+
+        // 경로가 없는 하위 댓글도 있을 수 있으므로 부모 ID 로 따라가서 지움
+        assertThat(comment.getPath()).isEqualTo("00000005/");
+        verify(commentRepository).deleteByPathList(List.of(new CommentPathRecord(5L, 3L, null)));
+        verify(commentRepository, never()).deleteByPath(any(), any());
+    }
+
+    @Test
+    void backfillUpdatesOnlyPath() {
+        Comment root = this.comment(1L, null, null, null);
+        Comment child = this.comment(36L, root, null, null);
+        // 다음 묶음에서 다시 조회된 부모 (조회 시점에는 아직 경로 없음)
+        Comment grandchild = this.comment(37L, this.comment(36L, null, null, null), null, null);
+        when(commentRepository.findByPathIsNull(0L, 500)).thenReturn(List.of(root, child));
+        when(commentRepository.findByPathIsNull(36L, 500)).thenReturn(List.of(grandchild));
+        when(commentRepository.findByPathIsNull(37L, 500)).thenReturn(List.of());
+
+        commentService.backfillPath();
+
+        verify(commentRepository).updatePath(1L, "00000001/", 0);
+        verify(commentRepository).updatePath(36L, "00000001/00000010/", 1);
+        verify(commentRepository).updatePath(37L, "00000001/00000010/00000011/", 2);
+        verify(commentRepository, never()).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+
+        // 끝난 뒤에는 경로로 지움
+        Comment comment = this.comment(5L, null, "00000005/", 0);
+        comment.setArticle(this.article());
+        commentService.deleteSubtree(comment);
+        verify(commentRepository).deleteByPath(3L, "00000005/");
+    }
+
+    private Article article() {
+        Article article = Article.builder().title("title").content("content").build();
+        article.setId(3L);
+        return article;
+    }
+
+    private Comment comment(Long id, Comment parent, String path, Integer depth) {
+        Comment comment = Comment.builder().parent(parent).content("content").build();
+        comment.setId(id);
+        comment.setPath(path);
+        comment.setDepth(depth);
+        return comment;
+    }
+}
@@ -0,0 +1,75 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.AptProjectApplication;
+import com.second_team.apt_project.enums.OsType;
+import com.second_team.apt_project.repositories.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileBlobServiceTests {
+    private static final String HASH = "a".repeat(64);
+    private static final String OTHER_HASH = "b".repeat(64);
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileBlobService fileBlobService;
+
+    @BeforeEach
+    void setUp() {
+        fileBlobService = new FileBlobService(fileBlobRepository, transactionManager, 16, 600000);
+    }
+
+    @Test
+    void releaseOneReferencePerUrl() {
+        String url = FileBlobService.BLOB_URL + "aa/" + HASH + ".jpg";
+
+        fileBlobService.release(List.of(url, url, FileBlobService.BLOB_URL + "bb/" + OTHER_HASH + ".png", "/api/user/admin/profile/1/old.jpg"));
+
+        verify(fileBlobRepository).release(HASH, 2);
+        verify(fileBlobRepository).release(OTHER_HASH, 1);
+        verifyNoMoreInteractions(fileBlobRepository);
+    }
+
+    @Test
+    void storeRejectsOversized() {
+        MockMultipartFile file = new MockMultipartFile("file", "big.jpg", "image/jpeg", new byte[17]);
+
+        assertThatThrownBy(() -> fileBlobService.store(file)).isInstanceOf(IllegalArgumentException.class).hasMessage("파일 크기 초과");
+        verifyNoInteractions(fileBlobRepository);
+    }
+
+    @Test
+    void sweepSkipsReacquired() {
+        ReflectionTestUtils.setField(AptProjectApplication.class, "osType", OsType.Linux);
+        when(fileBlobRepository.findReleasedHashList(any(), anyInt())).thenReturn(List.of(HASH, OTHER_HASH));
+        // HASH 는 조회한 뒤 다시 참조됨
+        when(fileBlobRepository.deleteReleased(HASH)).thenReturn(0L);
+        when(fileBlobRepository.deleteReleased(OTHER_HASH)).thenReturn(1L);
+
+        int count = fileBlobService.sweep();
+
+        // 행을 지운 해시만 파일 삭제 대상 (파일 폴더가 없으면 세지 않음)
+        assertThat(count).isZero();
+        verify(fileBlobRepository).deleteReleased(HASH);
+        verify(fileBlobRepository).deleteReleased(OTHER_HASH);
+        verify(transactionManager, times(2)).commit(any());
+        verify(fileBlobRepository, never()).release(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,95 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Job;
+import com.second_team.apt_project.enums.JobStatus;
+import com.second_team.apt_project.enums.JobType;
+import com.second_team.apt_project.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTests {
+    private static final long STALE_TIMEOUT = 300000;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(jobRepository, STALE_TIMEOUT);
+    }
+
+    @Test
+    void claimRecordsOwner() {
+        when(jobRepository.claim(eq(5L), anyString())).thenReturn(1L);
+
+        assertThat(jobService.claim(5L)).isTrue();
+        jobService.heartbeat(List.of(5L));
+        jobService.finish(5L, JobStatus.DONE, "done");
+
+        // 가져간 서버의 owner 로만 갱신
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(jobRepository).claim(eq(5L), owner.capture());
+        verify(jobRepository).heartbeat(List.of(5L), owner.getValue());
+        verify(jobRepository).finish(5L, owner.getValue(), JobStatus.DONE, "done");
+    }
+
+    @Test
+    void claimTakenByOther() {
+        when(jobRepository.claim(eq(5L), anyString())).thenReturn(0L);
+
+        assertThat(jobService.claim(5L)).isFalse();
+    }
+
+    @Test
+    void heartbeatWithoutRunningJob() {
+        jobService.heartbeat(List.of());
+
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void recoverOnlyStale() {
+        Job retry = this.job(1L, JobType.DELETE_USER, 1);
+        Job exhausted = this.job(2L, JobType.PROVISION, 3);
+        Job email = this.job(3L, JobType.SEND_EMAIL, 1);
+        when(jobRepository.findStale(any())).thenReturn(List.of(retry, exhausted, email));
+
+        LocalDateTime start = LocalDateTime.now();
+        jobService.recover();
+        LocalDateTime end = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).findStale(before.capture());
+        assertThat(before.getValue()).isBetween(start.minusNanos(STALE_TIMEOUT * 1_000_000), end.minusNanos(STALE_TIMEOUT * 1_000_000));
+        // 조회한 시점의 기준으로 다시 확인하면서 바꿈
+        verify(jobRepository).release(1L, before.getValue(), JobStatus.WAITING, null);
+        verify(jobRepository).release(eq(2L), eq(before.getValue()), eq(JobStatus.FAILED), anyString());
+        verify(jobRepository).release(eq(3L), eq(before.getValue()), eq(JobStatus.FAILED), anyString());
+    }
+
+    private Job job(Long id, JobType type, int attempt) {
+        Job job = Job.builder().type(type).payload("{}").username("admin").build();
+        job.setId(id);
+        job.setStatus(JobStatus.RUNNING);
+        job.setAttempt(attempt);
+        return job;
+    }
+}
@@ -0,0 +1,55 @@
+package com.second_team.apt_project.services.module;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyValueCacheTests {
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void cacheWithinTtl() {
+        KeyValueCache<String> cache = new KeyValueCache<>(true, 100, 60000);
+
+        cache.getAll(List.of("a", "b"), this::load);
+        Map<String, String> valueMap = cache.getAll(List.of("a", "b"), this::load);
+
+        // 없는 키(b)도 캐시
+        assertThat(valueMap).containsExactly(Map.entry("a", "A"));
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void reloadAfterTtl() throws InterruptedException {
+        KeyValueCache<String> cache = new KeyValueCache<>(true, 100, 1);
+
+        cache.getAll(List.of("a"), this::load);
+        Thread.sleep(5);
+        cache.getAll(List.of("a"), this::load);
+
+        // 이전 스냅샷에서 읽은 값이 계속 남지 않도록 만료
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void skipEvictedDuringLoad() {
+        KeyValueCache<String> cache = new KeyValueCache<>(true, 100, 60000);
+
+        cache.getAll(List.of("a"), keyList -> {
+            cache.evict("a");
+            return this.load(keyList);
+        });
+        cache.getAll(List.of("a"), this::load);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private Map<String, String> load(List<String> keyList) {
+        loadCount.incrementAndGet();
+        return keyList.contains("a") ? Map.of("a", "A") : Map.of();
+    }
+}
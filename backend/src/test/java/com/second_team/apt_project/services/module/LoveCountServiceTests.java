@@ -0,0 +1,49 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.repositories.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoveCountServiceTests {
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private MigrationService migrationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LoveCountService loveCountService;
+
+    @BeforeEach
+    void setUp() {
+        loveCountService = new LoveCountService(articleRepository, migrationService, transactionManager);
+    }
+
+    @Test
+    void recountOnFirstStart() {
+        loveCountService.afterSingletonsInstantiated();
+
+        verify(articleRepository).recountLove(List.of());
+        verify(migrationService).done("article_love_count");
+    }
+
+    @Test
+    void skipRecountAfterFirstStart() {
+        when(migrationService.isDone("article_love_count")).thenReturn(true);
+
+        loveCountService.afterSingletonsInstantiated();
+
+        verify(articleRepository, never()).recountLove(anyList());
+        verify(migrationService, never()).done("article_love_count");
+    }
+}
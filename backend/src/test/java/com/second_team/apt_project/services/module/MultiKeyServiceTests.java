@@ -0,0 +1,69 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.MultiKey;
+import com.second_team.apt_project.repositories.MultiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MultiKeyServiceTests {
+    private static final String KEY = "TEMP_1_101_1203.5";
+
+    @Mock
+    private MultiKeyRepository multiKeyRepository;
+
+    private MultiKeyService multiKeyService;
+
+    private MultiKey multiKey;
+
+    @BeforeEach
+    void setUp() {
+        multiKeyService = new MultiKeyService(multiKeyRepository, true, 100, 60000);
+        multiKey = MultiKey.builder().k(KEY).vs(new ArrayList<>(List.of(KEY + ".0"))).build();
+        multiKey.setCreateDate(LocalDateTime.now().minusDays(2));
+    }
+
+    @Test
+    void addRefreshesCreateDate() {
+        when(multiKeyRepository.save(multiKey)).thenReturn(multiKey);
+        LocalDateTime start = LocalDateTime.now();
+
+        multiKeyService.add(multiKey, KEY + ".1");
+
+        // 작성 중인 묶음은 마지막 업로드부터 TTL
+        assertThat(multiKey.getVs()).containsExactly(KEY + ".0", KEY + ".1");
+        assertThat(multiKey.getCreateDate()).isAfterOrEqualTo(start);
+    }
+
+    @Test
+    void addAllRefreshesCreateDate() {
+        when(multiKeyRepository.save(multiKey)).thenReturn(multiKey);
+        LocalDateTime start = LocalDateTime.now();
+
+        multiKeyService.addAll(multiKey, List.of(KEY + ".1", KEY + ".2"));
+
+        assertThat(multiKey.getVs()).hasSize(3);
+        assertThat(multiKey.getCreateDate()).isAfterOrEqualTo(start);
+    }
+
+    @Test
+    void removeKeepsCreateDate() {
+        LocalDateTime createDate = multiKey.getCreateDate();
+        when(multiKeyRepository.save(multiKey)).thenReturn(multiKey);
+
+        multiKeyService.remove(multiKey, KEY + ".0");
+
+        assertThat(multiKey.getVs()).isEmpty();
+        assertThat(multiKey.getCreateDate()).isEqualTo(createDate);
+    }
+}
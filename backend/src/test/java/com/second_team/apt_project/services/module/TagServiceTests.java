@@ -0,0 +1,73 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.Tag;
+import com.second_team.apt_project.repositories.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagServiceTests {
+    @Mock
+    private TagRepository tagRepository;
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Test
+    void resolveIgnoresCaseAndAccent() {
+        // uk_tag_name 은 대소문자/악센트를 구분하지 않으므로 DB 는 기존 행을 돌려줌
+        when(tagRepository.findByNameList(List.of("java", "cafe"))).thenReturn(List.of(this.tag(1L, "Java"), this.tag(2L, "café")));
+
+        Map<String, Long> tagMap = tagService.resolve(List.of("java", "cafe", "Java"));
+
+        assertThat(tagMap).containsExactly(Map.entry("Java", 1L), Map.entry("café", 2L));
+        verify(tagRepository, never()).insertIfAbsent(anyList());
+    }
+
+    @Test
+    void resolveCreatesMissing() {
+        when(tagRepository.findByNameList(List.of("Java", "spring"))).thenReturn(List.of(this.tag(1L, "java")));
+        when(tagRepository.findByNameListForShare(List.of("spring"))).thenReturn(List.of(this.tag(2L, "Spring")));
+
+        Map<String, Long> tagMap = tagService.resolve(List.of("Java", "spring"));
+
+        // 그 사이 다른 요청이 대소문자만 다르게 만든 행도 같은 태그로
+        verify(tagRepository).insertIfAbsent(List.of("spring"));
+        assertThat(tagMap).containsExactly(Map.entry("java", 1L), Map.entry("Spring", 2L));
+    }
+
+    @Test
+    void increaseUseCountDropsSweptIds() {
+        when(tagRepository.addUseCount(List.of(1L, 2L), 1)).thenReturn(1L);
+        when(tagRepository.findExistIdList(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(tagRepository.findByNameList(List.of("spring"))).thenReturn(List.of());
+        when(tagRepository.findByNameListForShare(List.of("spring"))).thenReturn(List.of(this.tag(3L, "spring")));
+
+        Map<String, Long> newTagMap = new LinkedHashMap<>();
+        newTagMap.put("java", 1L);
+        newTagMap.put("spring", 2L);
+
+        Map<String, Long> tagMap = tagService.increaseUseCount(newTagMap);
+
+        // 지워진 2 대신 다시 만든 3
+        assertThat(tagMap).containsOnly(Map.entry("java", 1L), Map.entry("spring", 3L));
+        verify(tagRepository).addUseCount(List.of(3L), 1);
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = Tag.builder().name(name).build();
+        tag.setId(id);
+        return tag;
+    }
+}
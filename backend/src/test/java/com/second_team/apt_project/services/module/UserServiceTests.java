@@ -0,0 +1,75 @@
+package com.second_team.apt_project.services.module;
+
+import com.second_team.apt_project.domains.SiteUser;
+import com.second_team.apt_project.enums.UserRole;
+import com.second_team.apt_project.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTests {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, passwordEncoder, transactionManager);
+    }
+
+    @Test
+    void backfillHouseholdPerPage() {
+        SiteUser first = this.user("1_101_1203");
+        SiteUser second = this.user("1_102_304");
+        SiteUser third = this.user("2_7_101");
+        when(userRepository.findByHouseholdUnset("", 500)).thenReturn(List.of(first, second));
+        when(userRepository.findByHouseholdUnset("1_102_304", 500)).thenReturn(List.of(third));
+        when(userRepository.findByHouseholdUnset("2_7_101", 500)).thenReturn(List.of());
+
+        userService.backfillHousehold();
+
+        assertThat(first.getDong()).isEqualTo(101);
+        assertThat(first.getHo()).isEqualTo(1203);
+        assertThat(second.getDong()).isEqualTo(102);
+        assertThat(third.getHo()).isEqualTo(101);
+        // 페이지마다 (마지막 빈 페이지 포함) 새 트랜잭션으로 커밋
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(definition.capture());
+        assertThat(definition.getAllValues()).allMatch(value -> value.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void parseHousehold() {
+        assertThat(userService.parseDong("3_101_1203")).isEqualTo(101);
+        assertThat(userService.parseHo("3_101_1203")).isEqualTo(1203);
+        assertThat(userService.parseDong("3_security")).isZero();
+        assertThat(userService.parseHo("admin")).isZero();
+    }
+
+    private SiteUser user(String username) {
+        return SiteUser.builder().username(username).role(UserRole.USER).build();
+    }
+}
@@ -2,7 +2,7 @@
 
 import { useEffect, useState } from "react";
 import { redirect, useRouter } from "next/navigation";
-import { getProfile, getUser, getArticleList, getCategoryList, getCenterList, postArticle } from "@/app/API/UserAPI";
+import { getProfile, getUser, getArticle, getArticleList, getCategoryList, getCenterList, postArticle } from "@/app/API/UserAPI";
 import Pagination from "@/app/Global/component/Pagination";
 import Main from "@/app/Global/layout/MainLayout";
 import Modal from "@/app/Global/component/Modal";
@@ -16,7 +16,7 @@ interface Article {
     categoryId: number;
     articleId: number;
     title: string;
-    content: string;
+    excerpt: string;
     createDate: number;
     categoryName: string;
     profileResponseDTO: {
@@ -49,6 +49,7 @@ export default function Page() {
     const PROFILE_ID = typeof window === 'undefined' ? null : localStorage.getItem('PROFILE_ID');
     const [articleList, setArticleList] = useState([] as any[]);
     const [openArticleIds, setOpenArticleIds] = useState<Set<number>>(new Set());
+    const [answerMap, setAnswerMap] = useState<Record<number, string>>({});
     const [currentPage, setCurrentPage] = useState(1);
     const [totalPages, setTotalPages] = useState(1);
     const [error, setError] = useState('');
@@ -119,6 +120,12 @@ export default function Page() {
     }, [ACCESS_TOKEN, PROFILE_ID]);
 
     const handleCheckboxChange = (articleId: number) => {
+        // 목록에는 미리보기만 오므로 처음 펼칠 때 답변 전체를 가져옴
+        if (!openArticleIds.has(articleId) && answerMap[articleId] === undefined) {
+            getArticle(articleId)
+                .then(r => setAnswerMap(prev => ({ ...prev, [articleId]: r?.content })))
+                .catch(e => console.log(e));
+        }
         setOpenArticleIds(prev => {
             const newSet = new Set(prev);
             if (newSet.has(articleId)) {
@@ -253,7 +260,7 @@ export default function Page() {
                                     Q : {article?.title}
                                 </div>
                                 <div className="collapse-content w-[900px] whitespace-normal overflow-hidden">
-                                    <p className="break-words p-5">A : {article?.content}</p>
+                                    <p className="break-words p-5">A : {answerMap[article?.articleId] ?? article?.excerpt}</p>
                                 </div>
                             </div>
                         </div>
@@ -13,7 +13,9 @@ interface Article {
     categoryId: number;
     articleId: number;
     title: string;
-    content: string;
+    excerpt: string;
+    imageUrl: string | null;
+    price: string | null;
     createDate: number;
     categoryName: string;
     profileResponseDTO: {
@@ -39,17 +41,6 @@ interface AptInfo {
     aptName: string;
 }
 
-const extractPrice = (content: string) => {
-    const priceMatch = content.match(/\[PRICE\](.*?)\[\/PRICE\]/);
-    return priceMatch ? priceMatch[1] : null;
-};
-
-const extractFirstImageUrl = (content: string) => {
-    const imgRegex = /<img[^>]+src="([^">]+)"/;
-    const match = content.match(imgRegex);
-    return match ? match[1] : null;
-};
-
 const USED_ITEMS_CATEGORY_NAME = "중고장터";
 
 export default function ArticleListPage() {
@@ -180,12 +171,8 @@ export default function ArticleListPage() {
                 setTotalElements(0);
             } else {
                 const allArticles = data.content;
-                const articlesWithPrice = allArticles.map(article => ({
-                    ...article,
-                    price: article.categoryName === USED_ITEMS_CATEGORY_NAME ? extractPrice(article.content) : null
-                }));
     
-                const articlesWithCommentCount = await Promise.all(articlesWithPrice.map(async (article) => {
+                const articlesWithCommentCount = await Promise.all(allArticles.map(async (article) => {
                     const commentResponse = await getCommentList({ articleId: article.articleId, page: 0 });
                     const commentCount = countTotalComments(commentResponse.content);
                     const loveResponse = await getLoveInfo(article.articleId);
@@ -295,8 +282,8 @@ export default function ArticleListPage() {
                             ) : isUsedItemsCategory ? (
                                 <div className="grid grid-cols-3 gap-4">
                                     {articleList.map((article) => {
-                                        const price = extractPrice(article.content);
-                                        const imageUrl = extractFirstImageUrl(article.content);
+                                        const price = article.price;
+                                        const imageUrl = article.imageUrl;
                                         return (
                                             <Link href={`/account/article/${categoryId}/detail/${article.articleId}`} key={article.articleId}>
                                                 <div className="bg-gray-800 overflow-hidden shadow-lg hover:shadow-xl transition-shadow duration-300 flex flex-col h-[400px]">